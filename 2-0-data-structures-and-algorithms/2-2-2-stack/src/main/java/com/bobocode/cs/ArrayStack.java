@@ -0,0 +1,189 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@link ArrayStack} is a stack implementation that is based on a resizable array. Unlike {@link LinkedStack}, it does
+ * not allocate anything when an element is pushed, unless the array is full and has to grow. A popped slot is cleared,
+ * so the stack does not keep references to removed elements. The array never shrinks, so a stack that is emptied by
+ * {@link ArrayStack#clear()} or {@link ArrayStack#pop()} can be filled again without any allocation.
+ *
+ * @param <T> generic type parameter
+ */
+public class ArrayStack<T> implements Stack<T> {
+    private static final int DEFAULT_CAPACITY = 5;
+
+    private Object[] elements;
+    private int size;
+
+    /**
+     * This constructor creates an instance of {@link ArrayStack} with a specific capacity of an array inside.
+     *
+     * @param initCapacity - the initial capacity of the stack
+     * @throws IllegalArgumentException – if the specified initial capacity is negative or 0.
+     */
+    public ArrayStack(int initCapacity) {
+        if (initCapacity <= 0) {
+            throw new IllegalArgumentException("Incorrect capacity, should be > 0");
+        }
+        elements = new Object[initCapacity];
+    }
+
+    /**
+     * This constructor creates an instance of {@link ArrayStack} with a default capacity of an array inside.
+     */
+    public ArrayStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * This method creates a stack of provided elements. The first element ends up on the top of the stack, the same
+     * way as in {@link LinkedStack#of(Object[])}.
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new stack of elements that were passed as method parameters
+     */
+    public static <T> ArrayStack<T> of(T... elements) {
+        if (Objects.isNull(elements)) {
+            throw new NullPointerException();
+        }
+        var arrayStack = new ArrayStack<T>(Math.max(elements.length, DEFAULT_CAPACITY));
+        for (int i = elements.length - 1; i >= 0; i--) {
+            arrayStack.push(elements[i]);
+        }
+        return arrayStack;
+    }
+
+    /**
+     * The method pushes an element onto the top of this stack. Operation is performed in amortized constant time O(1)
+     *
+     * @param element elements to add
+     */
+    @Override
+    public void push(T element) {
+        if (Objects.isNull(element)) {
+            throw new NullPointerException();
+        }
+        ensureCapacity(size + 1);
+        elements[size++] = element;
+    }
+
+    /**
+     * Pushes all elements of provided collection onto the stack in their iteration order, so the last element ends up
+     * on the top. The array grows at most once.
+     *
+     * @param newElements elements to add
+     */
+    public void pushAll(Collection<? extends T> newElements) {
+        var newArray = newElements.toArray();
+        for (Object element : newArray) {
+            if (Objects.isNull(element)) {
+                throw new NullPointerException();
+            }
+        }
+        ensureCapacity(size + newArray.length);
+        System.arraycopy(newArray, 0, elements, size, newArray.length);
+        size += newArray.length;
+    }
+
+    /**
+     * This method removes the object at the top of this stack
+     * and returns that object as the value of this function.
+     *
+     * @return The object at the top of this stack
+     * @throws EmptyStackException - if this stack is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T pop() {
+        if (isEmpty()) {
+            throw new EmptyStackException();
+        }
+        T deleted = (T) elements[--size];
+        elements[size] = null;
+        return deleted;
+    }
+
+    /**
+     * Removes {@code n} objects from the top of this stack and returns them in the order they would be returned by
+     * {@link ArrayStack#pop()}, so the former top of the stack is the first element of the result.
+     *
+     * @param n number of elements to remove
+     * @return removed elements
+     * @throws IllegalArgumentException - if n is negative
+     * @throws EmptyStackException      - if this stack holds less than n elements. The stack is not changed then
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> popN(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Incorrect number of elements, should be >= 0");
+        }
+        if (n > size) {
+            throw new EmptyStackException();
+        }
+        var deleted = new ArrayList<T>(n);
+        for (int i = size - 1; i >= size - n; i--) {
+            deleted.add((T) elements[i]);
+        }
+        Arrays.fill(elements, size - n, size, null);
+        size -= n;
+        return deleted;
+    }
+
+    /**
+     * Returns the object at the top of this stack without removing it.
+     *
+     * @return The object at the top of this stack
+     * @throws EmptyStackException - if this stack is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        if (isEmpty()) {
+            throw new EmptyStackException();
+        }
+        return (T) elements[size - 1];
+    }
+
+    /**
+     * Removes all elements of the stack. The capacity of an array inside stays the same, so the stack can be filled
+     * again without growing.
+     */
+    public void clear() {
+        Arrays.fill(elements, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Returns the number of elements in the stack
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if a stack is empty
+     *
+     * @return {@code true} if a stack is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            int newCapacity = Math.max(elements.length + (elements.length >> 1) + 1, minCapacity);
+            elements = Arrays.copyOf(elements, newCapacity);
+        }
+    }
+}
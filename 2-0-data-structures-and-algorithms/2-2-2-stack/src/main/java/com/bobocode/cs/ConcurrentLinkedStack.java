@@ -0,0 +1,237 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link ConcurrentLinkedStack} is a thread-safe stack implementation based on the lock-free algorithm of R. Kent
+ * Treiber. Like {@link LinkedStack}, it is a chain of singly linked nodes, but the head is replaced with a single
+ * compare-and-set using {@link VarHandle}, so any number of threads can push and pop elements without locks.
+ * <p>
+ * All threads compete for the head, so under high contention most compare-and-set attempts fail. A thread that failed
+ * backs off to an elimination array instead of retrying at once. A pushing thread offers its node in a random slot of
+ * the array and waits a little, and a popping thread takes a node from a random slot. A push and a pop that meet in
+ * the array cancel each other out without touching the head at all, since a stack that gets an element and loses it
+ * right away stays the same.
+ * <p>
+ * The number of elements is kept in a {@link LongAdder}, so push and pop do not contend on a shared counter.
+ * {@link ConcurrentLinkedStack#size()} sums it up without any lock, so it is only an estimate while the stack is being
+ * modified.
+ *
+ * @param <T> generic type parameter
+ */
+public class ConcurrentLinkedStack<T> implements Stack<T> {
+    /**
+     * The number of times a pushing thread checks whether its node was taken from an elimination slot
+     */
+    private static final int ELIMINATION_SPINS = 64;
+    private static final VarHandle HEAD;
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    static {
+        try {
+            HEAD = MethodHandles.lookup().findVarHandle(ConcurrentLinkedStack.class, "head", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile Node<T> head;
+    private final LongAdder size = new LongAdder();
+    private final Object[] eliminationSlots;
+
+    private static class Node<T> {
+        private final T element;
+        private Node<T> next;
+
+        public Node(T element) {
+            this.element = element;
+        }
+    }
+
+    /**
+     * This constructor creates an instance of {@link ConcurrentLinkedStack} with an elimination slot for every two
+     * available processors.
+     */
+    public ConcurrentLinkedStack() {
+        this(Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+    }
+
+    /**
+     * This constructor creates an instance of {@link ConcurrentLinkedStack} with a specific number of elimination
+     * slots.
+     *
+     * @param eliminationSlots the number of slots where pushing and popping threads meet under contention, 0 disables
+     *                         elimination
+     * @throws IllegalArgumentException – if the specified number of slots is negative
+     */
+    public ConcurrentLinkedStack(int eliminationSlots) {
+        if (eliminationSlots < 0) {
+            throw new IllegalArgumentException("Incorrect number of elimination slots, should be >= 0");
+        }
+        this.eliminationSlots = new Object[eliminationSlots];
+    }
+
+    /**
+     * This method creates a stack of provided elements. The first element ends up on the top of the stack, the same
+     * way as in {@link LinkedStack#of(Object[])}.
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new stack of elements that were passed as method parameters
+     */
+    public static <T> ConcurrentLinkedStack<T> of(T... elements) {
+        if (Objects.isNull(elements)) {
+            throw new NullPointerException();
+        }
+        var stack = new ConcurrentLinkedStack<T>();
+        for (int i = elements.length - 1; i >= 0; i--) {
+            stack.push(elements[i]);
+        }
+        return stack;
+    }
+
+    /**
+     * The method pushes an element onto the top of this stack. If the head is changed by another thread in the
+     * meantime, the node is offered to a popping thread in the elimination array before the next attempt.
+     *
+     * @param element elements to add
+     */
+    @Override
+    public void push(T element) {
+        if (Objects.isNull(element)) {
+            throw new NullPointerException();
+        }
+        var node = new Node<>(element);
+        while (true) {
+            var current = head;
+            node.next = current;
+            if (HEAD.compareAndSet(this, current, node)) {
+                size.increment();
+                return;
+            }
+            if (eliminatePush(node)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * This method removes the object at the top of this stack
+     * and returns that object as the value of this function.
+     *
+     * @return The object at the top of this stack
+     * @throws EmptyStackException - if this stack is empty
+     */
+    @Override
+    public T pop() {
+        var element = poll();
+        if (Objects.isNull(element)) {
+            throw new EmptyStackException();
+        }
+        return element;
+    }
+
+    /**
+     * Removes the object at the top of this stack if there is any. Unlike a check of {@link #isEmpty()} followed by
+     * {@link #pop()}, it never fails because another thread has popped the last element in between.
+     *
+     * @return The object at the top of this stack or null if this stack is empty
+     */
+    public T poll() {
+        while (true) {
+            var current = head;
+            if (Objects.isNull(current)) {
+                return null;
+            }
+            if (HEAD.compareAndSet(this, current, current.next)) {
+                size.decrement();
+                return current.element;
+            }
+            var eliminated = eliminatePop();
+            if (Objects.nonNull(eliminated)) {
+                return eliminated;
+            }
+        }
+    }
+
+    /**
+     * Returns the object at the top of this stack without removing it.
+     *
+     * @return The object at the top of this stack
+     * @throws EmptyStackException - if this stack is empty
+     */
+    public T peek() {
+        var current = head;
+        if (Objects.isNull(current)) {
+            throw new EmptyStackException();
+        }
+        return current.element;
+    }
+
+    /**
+     * Returns the number of elements in the stack. It is an estimate while other threads push and pop elements.
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return (int) Math.max(0, Math.min(size.sum(), Integer.MAX_VALUE));
+    }
+
+    /**
+     * Checks if a stack is empty
+     *
+     * @return {@code true} if a stack is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return Objects.isNull(head);
+    }
+
+    /**
+     * Offers a node in a random free elimination slot and waits for a popping thread to take it. The node is
+     * withdrawn if nobody takes it in time.
+     *
+     * @return {@code true} if the node was taken by a popping thread
+     */
+    private boolean eliminatePush(Node<T> node) {
+        if (eliminationSlots.length == 0) {
+            return false;
+        }
+        int slot = ThreadLocalRandom.current().nextInt(eliminationSlots.length);
+        if (!SLOTS.compareAndSet(eliminationSlots, slot, null, node)) {
+            return false;
+        }
+        for (int i = 0; i < ELIMINATION_SPINS; i++) {
+            if (SLOTS.getAcquire(eliminationSlots, slot) != node) {
+                return true;
+            }
+            Thread.onSpinWait();
+        }
+        return !SLOTS.compareAndSet(eliminationSlots, slot, node, null);
+    }
+
+    /**
+     * Takes a node offered by a pushing thread from a random elimination slot.
+     *
+     * @return an element of the taken node or null if the slot is empty
+     */
+    @SuppressWarnings("unchecked")
+    private T eliminatePop() {
+        if (eliminationSlots.length == 0) {
+            return null;
+        }
+        int slot = ThreadLocalRandom.current().nextInt(eliminationSlots.length);
+        var node = (Node<T>) SLOTS.getAcquire(eliminationSlots, slot);
+        if (Objects.nonNull(node) && SLOTS.compareAndSet(eliminationSlots, slot, node, null)) {
+            return node.element;
+        }
+        return null;
+    }
+}
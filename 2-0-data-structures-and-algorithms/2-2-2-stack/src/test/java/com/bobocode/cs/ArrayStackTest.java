@@ -0,0 +1,161 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ArrayStackTest {
+
+    private ArrayStack<Integer> intStack = new ArrayStack<>();
+
+    @Test
+    @Order(1)
+    void createWithIncorrectCapacity() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new ArrayStack<Integer>(0));
+    }
+
+    @Test
+    @Order(2)
+    void of() {
+        intStack = ArrayStack.of(1, 2, 3);
+
+        assertThat(intStack.size()).isEqualTo(3);
+        assertThat(intStack.pop()).isEqualTo(1);
+        assertThat(intStack.pop()).isEqualTo(2);
+        assertThat(intStack.pop()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(3)
+    void ofThrowsExceptionWhenElementIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> ArrayStack.of(1, null));
+    }
+
+    @Test
+    @Order(4)
+    void pushAndPopBeyondInitialCapacity() {
+        for (int i = 0; i < 100; i++) {
+            intStack.push(i);
+        }
+
+        assertThat(intStack.size()).isEqualTo(100);
+        for (int i = 99; i >= 0; i--) {
+            assertThat(intStack.pop()).isEqualTo(i);
+        }
+        assertThat(intStack.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(5)
+    void pushThrowsExceptionWhenElementIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> intStack.push(null));
+    }
+
+    @Test
+    @Order(6)
+    void popThrowsExceptionWhenStackIsEmpty() {
+        assertThrows(EmptyStackException.class, () -> intStack.pop());
+    }
+
+    @Test
+    @Order(7)
+    void popClearsSlot() {
+        intStack.push(1);
+        intStack.push(2);
+
+        intStack.pop();
+
+        assertThat(getInternalArray()[1]).isNull();
+    }
+
+    @Test
+    @Order(8)
+    void peek() {
+        intStack.push(1);
+        intStack.push(2);
+
+        assertThat(intStack.peek()).isEqualTo(2);
+        assertThat(intStack.size()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(9)
+    void peekThrowsExceptionWhenStackIsEmpty() {
+        assertThrows(EmptyStackException.class, () -> intStack.peek());
+    }
+
+    @Test
+    @Order(10)
+    void pushAll() {
+        intStack.push(1);
+
+        intStack.pushAll(List.of(2, 3, 4, 5, 6, 7));
+
+        assertThat(intStack.size()).isEqualTo(7);
+        assertThat(intStack.pop()).isEqualTo(7);
+        assertThat(intStack.peek()).isEqualTo(6);
+    }
+
+    @Test
+    @Order(11)
+    void pushAllThrowsExceptionWhenElementIsNull() {
+        intStack.push(1);
+
+        assertThatNullPointerException().isThrownBy(() -> intStack.pushAll(Arrays.asList(2, null)));
+        assertThat(intStack.size()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(12)
+    void popN() {
+        intStack = ArrayStack.of(1, 2, 3, 4);
+
+        var deleted = intStack.popN(3);
+
+        assertThat(deleted).isEqualTo(List.of(1, 2, 3));
+        assertThat(intStack.size()).isEqualTo(1);
+        assertThat(intStack.peek()).isEqualTo(4);
+        assertThat(getInternalArray()[1]).isNull();
+    }
+
+    @Test
+    @Order(13)
+    void popNThrowsExceptionWhenStackHasLessElements() {
+        intStack = ArrayStack.of(1, 2);
+
+        assertThrows(EmptyStackException.class, () -> intStack.popN(3));
+        assertThat(intStack.size()).isEqualTo(2);
+        assertThatIllegalArgumentException().isThrownBy(() -> intStack.popN(-1));
+    }
+
+    @Test
+    @Order(14)
+    void clearKeepsCapacity() {
+        for (int i = 0; i < 100; i++) {
+            intStack.push(i);
+        }
+        int capacity = getInternalArray().length;
+
+        intStack.clear();
+
+        assertThat(intStack.isEmpty()).isTrue();
+        assertThat(getInternalArray().length).isEqualTo(capacity);
+        assertThat(getInternalArray()).containsOnlyNulls();
+    }
+
+    @SneakyThrows
+    private Object[] getInternalArray() {
+        var field = ArrayStack.class.getDeclaredField("elements");
+        field.setAccessible(true);
+        return (Object[]) field.get(intStack);
+    }
+}
@@ -0,0 +1,148 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ConcurrentLinkedStackTest {
+    private static final int THREADS = 8;
+    private static final int ELEMENTS_PER_THREAD = 50_000;
+
+    private ConcurrentLinkedStack<Integer> intStack = new ConcurrentLinkedStack<>();
+
+    @Test
+    @Order(1)
+    void createWithIncorrectNumberOfEliminationSlots() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new ConcurrentLinkedStack<Integer>(-1));
+    }
+
+    @Test
+    @Order(2)
+    void of() {
+        intStack = ConcurrentLinkedStack.of(1, 2, 3);
+
+        assertThat(intStack.size()).isEqualTo(3);
+        assertThat(intStack.pop()).isEqualTo(1);
+        assertThat(intStack.pop()).isEqualTo(2);
+        assertThat(intStack.pop()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(3)
+    void pushAndPopInLifoOrder() {
+        for (int i = 0; i < 100; i++) {
+            intStack.push(i);
+        }
+
+        assertThat(intStack.size()).isEqualTo(100);
+        assertThat(intStack.peek()).isEqualTo(99);
+        for (int i = 99; i >= 0; i--) {
+            assertThat(intStack.pop()).isEqualTo(i);
+        }
+        assertThat(intStack.isEmpty()).isTrue();
+        assertThat(intStack.size()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(4)
+    void pushThrowsExceptionWhenElementIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> intStack.push(null));
+    }
+
+    @Test
+    @Order(5)
+    void popAndPeekThrowExceptionWhenStackIsEmpty() {
+        assertThrows(EmptyStackException.class, () -> intStack.pop());
+        assertThrows(EmptyStackException.class, () -> intStack.peek());
+    }
+
+    @Test
+    @Order(6)
+    void pollReturnsNullWhenStackIsEmpty() {
+        intStack.push(1);
+
+        assertThat(intStack.poll()).isEqualTo(1);
+        assertThat(intStack.poll()).isNull();
+    }
+
+    @Test
+    @Order(7)
+    void concurrentPushAndPopKeepAllElements() {
+        intStack = new ConcurrentLinkedStack<>(1);
+
+        var popped = runConcurrently(intStack);
+
+        assertThat(popped).hasSize(THREADS * ELEMENTS_PER_THREAD);
+        assertThat(intStack.isEmpty()).isTrue();
+        assertThat(intStack.size()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(8)
+    void concurrentPushAndPopKeepAllElementsWithoutElimination() {
+        intStack = new ConcurrentLinkedStack<>(0);
+
+        var popped = runConcurrently(intStack);
+
+        assertThat(popped).hasSize(THREADS * ELEMENTS_PER_THREAD);
+        assertThat(intStack.isEmpty()).isTrue();
+    }
+
+    /**
+     * Each thread pushes its own elements and pops an element after every second push, so the stack never runs empty.
+     * What is left is popped when all threads are done. Every pushed element must be popped exactly once.
+     */
+    @SneakyThrows
+    private List<Integer> runConcurrently(ConcurrentLinkedStack<Integer> stack) {
+        var executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            var start = new CountDownLatch(1);
+            var futures = new ArrayList<Future<List<Integer>>>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    var popped = new ArrayList<Integer>();
+                    for (int i = 0; i < ELEMENTS_PER_THREAD; i++) {
+                        stack.push(thread * ELEMENTS_PER_THREAD + i);
+                        if (i % 2 == 1) {
+                            popped.add(stack.pop());
+                        }
+                    }
+                    return popped;
+                }));
+            }
+            start.countDown();
+
+            var seen = new boolean[THREADS * ELEMENTS_PER_THREAD];
+            var popped = new ArrayList<Integer>();
+            for (var future : futures) {
+                popped.addAll(future.get(30, TimeUnit.SECONDS));
+            }
+            Integer element;
+            while ((element = stack.poll()) != null) {
+                popped.add(element);
+            }
+            for (int e : popped) {
+                assertThat(seen[e]).isFalse();
+                seen[e] = true;
+            }
+            return popped;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * {@link ArrayBlockingQueue} is a bounded {@link BlockingQueue} that keeps its elements in a bounded
+ * {@link ArrayRingQueue}. All methods are guarded by a single {@link ReentrantLock}. Consumers wait on a
+ * {@code notEmpty} {@link Condition} and producers wait on a {@code notFull} condition, so each change of the queue
+ * wakes up only a thread that can make progress.
+ * <p>
+ * Waiting threads are parked by {@link java.util.concurrent.locks.LockSupport} instead of waiting on a monitor of a
+ * {@code synchronized} block. A parked virtual thread releases its carrier thread, while a virtual thread waiting on a
+ * monitor pins it.
+ *
+ * @param <T> a generic parameter
+ */
+public class ArrayBlockingQueue<T> implements BlockingQueue<T> {
+    private final ArrayRingQueue<T> elements;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    /**
+     * This constructor creates an instance of {@link ArrayBlockingQueue} that holds at most {@code capacity} elements.
+     *
+     * @param capacity the maximum number of elements in the queue
+     * @throws IllegalArgumentException – if the specified capacity is not positive or greater than 2^30
+     */
+    public ArrayBlockingQueue(int capacity) {
+        this.elements = ArrayRingQueue.bounded(capacity);
+    }
+
+    /**
+     * Adds an element to the end of the queue.
+     *
+     * @param element the element to add
+     * @throws IllegalStateException if the queue is full
+     */
+    @Override
+    public void add(T element) {
+        if (!offer(element)) {
+            throw new IllegalStateException("Queue is full");
+        }
+    }
+
+    @Override
+    public boolean offer(T element) {
+        if (Objects.isNull(element)) {
+            throw new NullPointerException();
+        }
+        lock.lock();
+        try {
+            return enqueue(element);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(T element, long timeout, TimeUnit unit) throws InterruptedException {
+        if (Objects.isNull(element)) {
+            throw new NullPointerException();
+        }
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (!enqueue(element)) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(T element) throws InterruptedException {
+        if (Objects.isNull(element)) {
+            throw new NullPointerException();
+        }
+        lock.lockInterruptibly();
+        try {
+            while (!enqueue(element)) {
+                notFull.await();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves and removes queue head.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        lock.lock();
+        try {
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            T element;
+            while (Objects.isNull(element = dequeue())) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return element;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public T take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            T element;
+            while (Objects.isNull(element = dequeue())) {
+                notEmpty.await();
+            }
+            return element;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes up to {@code maxElements} elements from the head of the queue and passes them to the consumer in FIFO
+     * order. The lock is acquired once for the whole batch, and all waiting producers are woken up, since a batch may
+     * free space for each of them.
+     *
+     * @param consumer    accepts removed elements
+     * @param maxElements the maximum number of elements to remove
+     * @return the number of removed elements
+     */
+    @Override
+    public int drainTo(Consumer<? super T> consumer, int maxElements) {
+        lock.lock();
+        try {
+            int count = elements.drainTo(consumer, maxElements);
+            if (count > 0) {
+                notFull.signalAll();
+            }
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return elements.capacity() - elements.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a size of the queue.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return elements.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        lock.lock();
+        try {
+            return elements.isEmpty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an element and wakes up a waiting consumer. Must be called with the lock held.
+     */
+    private boolean enqueue(T element) {
+        if (!elements.offer(element)) {
+            return false;
+        }
+        notEmpty.signal();
+        return true;
+    }
+
+    /**
+     * Removes an element and wakes up a waiting producer. Must be called with the lock held.
+     */
+    private T dequeue() {
+        var element = elements.poll();
+        if (Objects.nonNull(element)) {
+            notFull.signal();
+        }
+        return element;
+    }
+}
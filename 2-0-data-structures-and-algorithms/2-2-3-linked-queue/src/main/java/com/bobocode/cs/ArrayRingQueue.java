@@ -0,0 +1,214 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@link ArrayRingQueue} implements FIFO {@link Queue}, using an array as a ring buffer. The length of the array is
+ * always a power of two, so a position in the array is computed from ever-growing head and tail counters with a bit
+ * mask instead of a division. Once the array is big enough, adding and polling elements do not allocate anything.
+ * <p>
+ * A queue is either bounded or growable. A bounded queue never holds more elements than its capacity, so
+ * {@link ArrayRingQueue#offer(Object)} reports that the queue is full and {@link ArrayRingQueue#add(Object)} throws
+ * an exception. A growable queue doubles its array when it is full. The queue does not accept {@code null} elements,
+ * since {@link ArrayRingQueue#poll()} returns {@code null} when the queue is empty.
+ *
+ * @param <T> a generic parameter
+ */
+public class ArrayRingQueue<T> implements Queue<T> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private Object[] elements;
+    private int mask;
+    private int head;
+    private int tail;
+    private final int capacity;
+    private final boolean growable;
+
+    private ArrayRingQueue(int capacity, boolean growable) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Incorrect capacity, should be > 0 and <= " + MAX_CAPACITY);
+        }
+        this.elements = new Object[ceilingPowerOfTwo(capacity)];
+        this.mask = elements.length - 1;
+        this.capacity = capacity;
+        this.growable = growable;
+    }
+
+    /**
+     * This constructor creates a growable instance of {@link ArrayRingQueue} with a default initial capacity.
+     */
+    public ArrayRingQueue() {
+        this(DEFAULT_CAPACITY, true);
+    }
+
+    /**
+     * Creates a queue that holds at most {@code capacity} elements.
+     *
+     * @param capacity the maximum number of elements in the queue
+     * @param <T>      generic type
+     * @return a new bounded queue
+     * @throws IllegalArgumentException – if the specified capacity is not positive or greater than 2^30
+     */
+    public static <T> ArrayRingQueue<T> bounded(int capacity) {
+        return new ArrayRingQueue<>(capacity, false);
+    }
+
+    /**
+     * Creates a queue that doubles its capacity each time it is full.
+     *
+     * @param initCapacity the initial capacity of the queue
+     * @param <T>          generic type
+     * @return a new growable queue
+     * @throws IllegalArgumentException – if the specified capacity is not positive or greater than 2^30
+     */
+    public static <T> ArrayRingQueue<T> growable(int initCapacity) {
+        return new ArrayRingQueue<>(initCapacity, true);
+    }
+
+    /**
+     * Adds an element to the end of the queue.
+     *
+     * @param element the element to add
+     * @throws IllegalStateException if the queue is bounded and full
+     */
+    @Override
+    public void add(T element) {
+        if (!offer(element)) {
+            throw new IllegalStateException("Queue is full");
+        }
+    }
+
+    /**
+     * Adds an element to the end of the queue if it is possible. A growable queue always accepts an element, a bounded
+     * queue rejects it when it is full.
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added, {@code false} if the queue is full
+     */
+    public boolean offer(T element) {
+        if (Objects.isNull(element)) {
+            throw new NullPointerException();
+        }
+        if (size() == capacity()) {
+            if (!growable) {
+                return false;
+            }
+            grow();
+        }
+        elements[tail++ & mask] = element;
+        return true;
+    }
+
+    /**
+     * Retrieves and removes queue head.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        if (isEmpty()) {
+            return null;
+        }
+        int index = head++ & mask;
+        var removedElement = (T) elements[index];
+        elements[index] = null;
+        return removedElement;
+    }
+
+    /**
+     * Retrieves queue head without removing it.
+     *
+     * @return an element at the head of the queue or null if queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        return (T) elements[head & mask];
+    }
+
+    /**
+     * Removes up to {@code maxElements} elements from the head of the queue and passes them to the consumer in FIFO
+     * order. Elements are read from at most two contiguous parts of the array, so a batch is consumed without
+     * per-element bounds and emptiness checks.
+     *
+     * @param consumer    accepts removed elements
+     * @param maxElements the maximum number of elements to remove
+     * @return the number of removed elements
+     */
+    @SuppressWarnings("unchecked")
+    public int drainTo(Consumer<? super T> consumer, int maxElements) {
+        Objects.requireNonNull(consumer);
+        if (maxElements < 0) {
+            throw new IllegalArgumentException("Incorrect number of elements, should be >= 0");
+        }
+        int count = Math.min(size(), maxElements);
+        int from = head & mask;
+        int firstPart = Math.min(count, elements.length - from);
+        for (int i = from; i < from + firstPart; i++) {
+            var element = (T) elements[i];
+            elements[i] = null;
+            head++;
+            consumer.accept(element);
+        }
+        for (int i = 0; i < count - firstPart; i++) {
+            var element = (T) elements[i];
+            elements[i] = null;
+            head++;
+            consumer.accept(element);
+        }
+        return count;
+    }
+
+    /**
+     * Returns a size of the queue.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        return tail - head;
+    }
+
+    /**
+     * Returns the maximum number of elements that can be added to the queue before it is full or has to grow.
+     *
+     * @return a capacity of the queue
+     */
+    public int capacity() {
+        return growable ? elements.length : capacity;
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return head == tail;
+    }
+
+    /**
+     * Doubles the array of a full queue, moving the elements to its beginning in FIFO order
+     */
+    private void grow() {
+        if (elements.length == MAX_CAPACITY) {
+            throw new IllegalStateException("Queue is full");
+        }
+        int size = size();
+        int from = head & mask;
+        var newElements = new Object[elements.length << 1];
+        System.arraycopy(elements, from, newElements, 0, elements.length - from);
+        System.arraycopy(elements, 0, newElements, elements.length - from, from);
+        elements = newElements;
+        mask = elements.length - 1;
+        head = 0;
+        tail = size;
+    }
+
+    private static int ceilingPowerOfTwo(int value) {
+        return value == 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+}
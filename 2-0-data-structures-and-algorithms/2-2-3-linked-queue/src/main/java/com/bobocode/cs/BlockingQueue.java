@@ -0,0 +1,75 @@
+package com.bobocode.cs;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * {@link BlockingQueue} is a thread-safe {@link Queue} that lets threads wait for it instead of checking it over and
+ * over again. A consumer waits until the queue has an element, and a producer waits until a bounded queue has free
+ * space. Waiting methods can be interrupted and throw {@link InterruptedException} then.
+ *
+ * @param <T> a generic parameter
+ */
+public interface BlockingQueue<T> extends Queue<T> {
+    /**
+     * Adds an element to the end of the queue if it is not full.
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added, {@code false} if the queue is full
+     */
+    boolean offer(T element);
+
+    /**
+     * Adds an element to the end of the queue, waiting up to the specified time for free space if the queue is full.
+     *
+     * @param element the element to add
+     * @param timeout how long to wait
+     * @param unit    a unit of the timeout
+     * @return {@code true} if the element was added, {@code false} if the queue was still full after the timeout
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    boolean offer(T element, long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * Adds an element to the end of the queue, waiting for free space as long as the queue is full.
+     *
+     * @param element the element to add
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    void put(T element) throws InterruptedException;
+
+    /**
+     * Retrieves and removes queue head, waiting up to the specified time for an element if the queue is empty.
+     *
+     * @param timeout how long to wait
+     * @param unit    a unit of the timeout
+     * @return an element that was retrieved from the head or null if queue was still empty after the timeout
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    T poll(long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * Retrieves and removes queue head, waiting for an element as long as the queue is empty.
+     *
+     * @return an element that was retrieved from the head
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    T take() throws InterruptedException;
+
+    /**
+     * Removes up to {@code maxElements} elements from the head of the queue without waiting and passes them to the
+     * consumer in FIFO order.
+     *
+     * @param consumer    accepts removed elements
+     * @param maxElements the maximum number of elements to remove
+     * @return the number of removed elements
+     */
+    int drainTo(Consumer<? super T> consumer, int maxElements);
+
+    /**
+     * Returns the number of elements that can be added to the queue without waiting.
+     *
+     * @return a free capacity of the queue
+     */
+    int remainingCapacity();
+}
@@ -0,0 +1,198 @@
+package com.bobocode.cs;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@link ConcurrentLinkedQueue} is a thread-safe unbounded FIFO {@link Queue} based on the lock-free algorithm of
+ * Maged M. Michael and Michael L. Scott. Any number of threads can add and poll elements concurrently. A queue always
+ * starts with a dummy node, so the head points to a node whose successor holds the first element, and producers and
+ * consumers never update the same reference unless the queue is empty.
+ * <p>
+ * References to the head and the tail are updated with compare-and-set using {@link VarHandle}. They are kept apart by
+ * padding fields declared in superclasses, since the JVM places fields of a superclass before fields of a subclass.
+ * That is why a thread that updates the tail does not invalidate a cache line with the head used by other threads
+ * (false sharing).
+ * <p>
+ * {@link ConcurrentLinkedQueue#size()} traverses the queue, so it takes linear time and is only an estimate while the
+ * queue is being modified. The queue does not accept {@code null} elements, since {@link ConcurrentLinkedQueue#poll()}
+ * returns {@code null} when the queue is empty.
+ *
+ * @param <T> a generic parameter
+ */
+public class ConcurrentLinkedQueue<T> extends ConcurrentLinkedQueueL2Pad<T> implements Queue<T> {
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    private static final VarHandle NEXT;
+
+    static {
+        try {
+            var lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(ConcurrentLinkedQueueHead.class, "head", Node.class);
+            TAIL = lookup.findVarHandle(ConcurrentLinkedQueueTail.class, "tail", Node.class);
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    static class Node<T> {
+        T element;
+        volatile Node<T> next;
+
+        Node(T element) {
+            this.element = element;
+        }
+    }
+
+    public ConcurrentLinkedQueue() {
+        var dummy = new Node<T>(null);
+        head = dummy;
+        tail = dummy;
+    }
+
+    /**
+     * Adds an element to the end of the queue. A new node is linked to the last node with a single compare-and-set,
+     * then the tail is moved to it. If the tail lags behind, any thread that notices it moves the tail forward.
+     *
+     * @param element the element to add
+     */
+    @Override
+    public void add(T element) {
+        if (Objects.isNull(element)) {
+            throw new NullPointerException();
+        }
+        var newNode = new Node<>(element);
+        while (true) {
+            var last = tail;
+            var next = last.next;
+            if (last != tail) {
+                continue;
+            }
+            if (Objects.isNull(next)) {
+                if (NEXT.compareAndSet(last, null, newNode)) {
+                    TAIL.compareAndSet(this, last, newNode);
+                    return;
+                }
+            } else {
+                TAIL.compareAndSet(this, last, next);
+            }
+        }
+    }
+
+    /**
+     * Retrieves and removes queue head. The node that held the element becomes a new dummy node.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        while (true) {
+            var first = head;
+            var last = tail;
+            var next = first.next;
+            if (first != head) {
+                continue;
+            }
+            if (Objects.isNull(next)) {
+                return null;
+            }
+            if (first == last) {
+                TAIL.compareAndSet(this, last, next);
+            } else {
+                var removedElement = next.element;
+                if (HEAD.compareAndSet(this, first, next)) {
+                    next.element = null;
+                    return removedElement;
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes up to {@code maxElements} elements from the head of the queue and passes them to the consumer in FIFO
+     * order. The whole batch is detached with a single compare-and-set of the head, so consumers compete for the head
+     * once per batch instead of once per element.
+     *
+     * @param consumer    accepts removed elements
+     * @param maxElements the maximum number of elements to remove
+     * @return the number of removed elements
+     */
+    public int drainTo(Consumer<? super T> consumer, int maxElements) {
+        Objects.requireNonNull(consumer);
+        if (maxElements < 0) {
+            throw new IllegalArgumentException("Incorrect number of elements, should be >= 0");
+        }
+        while (true) {
+            var first = head;
+            var last = first;
+            int count = 0;
+            while (count < maxElements && Objects.nonNull(last.next)) {
+                last = last.next;
+                count++;
+            }
+            if (count == 0) {
+                return 0;
+            }
+            if (HEAD.compareAndSet(this, first, last)) {
+                var current = first;
+                for (int i = 0; i < count; i++) {
+                    current = current.next;
+                    var element = current.element;
+                    current.element = null;
+                    consumer.accept(element);
+                }
+                return count;
+            }
+        }
+    }
+
+    /**
+     * Returns a size of the queue. The queue is traversed from the head, so it takes linear time O(n).
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        int size = 0;
+        for (var current = head.next; Objects.nonNull(current) && size < Integer.MAX_VALUE; current = current.next) {
+            size++;
+        }
+        return size;
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return Objects.isNull(head.next);
+    }
+}
+
+abstract class ConcurrentLinkedQueueL0Pad {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p10, p11, p12, p13, p14, p15, p16;
+}
+
+abstract class ConcurrentLinkedQueueHead<T> extends ConcurrentLinkedQueueL0Pad {
+    volatile ConcurrentLinkedQueue.Node<T> head;
+}
+
+abstract class ConcurrentLinkedQueueL1Pad<T> extends ConcurrentLinkedQueueHead<T> {
+    long p20, p21, p22, p23, p24, p25, p26, p27;
+    long p30, p31, p32, p33, p34, p35, p36;
+}
+
+abstract class ConcurrentLinkedQueueTail<T> extends ConcurrentLinkedQueueL1Pad<T> {
+    volatile ConcurrentLinkedQueue.Node<T> tail;
+}
+
+abstract class ConcurrentLinkedQueueL2Pad<T> extends ConcurrentLinkedQueueTail<T> {
+    long p40, p41, p42, p43, p44, p45, p46, p47;
+    long p50, p51, p52, p53, p54, p55, p56;
+}
@@ -34,8 +34,10 @@ public class LinkedQueue<T> implements Queue<T> {
         var newNode = new Node<>(element);
         if (isEmpty()) {
             head = tail = newNode;
+        } else {
+            tail.next = newNode;
+            tail = newNode;
         }
-        tail.next = newNode;
         size++;
     }
 
@@ -50,6 +52,9 @@ public class LinkedQueue<T> implements Queue<T> {
         }
         var removedElement = head.element;
         head = head.next;
+        if (Objects.isNull(head)) {
+            tail = null;
+        }
         size--;
         return removedElement;
     }
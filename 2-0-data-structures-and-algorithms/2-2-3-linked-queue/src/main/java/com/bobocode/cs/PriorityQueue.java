@@ -0,0 +1,269 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * {@link PriorityQueue} is a {@link Queue} that retrieves the smallest element according to a {@link Comparator}
+ * instead of the oldest one. It is a d-ary heap stored in an array: a node at index {@code i} has children at indexes
+ * from {@code d * i + 1} to {@code d * i + d}, and no child is smaller than its parent. Both
+ * {@link PriorityQueue#add(Object)} and {@link PriorityQueue#poll()} take O(log n) time.
+ * <p>
+ * A bigger arity makes the heap shallower, so adding an element takes fewer steps, while polling compares more
+ * children on each level. Arity 4 is used by default, since references to four children of a node usually lie
+ * in the same cache line.
+ * <p>
+ * {@link PriorityQueue#decreaseKey(Object, Object)} finds an element through a map from elements to their indexes in
+ * the array. The map is built on the first call only, so a queue that never decreases keys does not pay for it.
+ * Elements of a queue with the map must be distinct.
+ *
+ * @param <T> a generic parameter
+ */
+public class PriorityQueue<T> implements Queue<T> {
+    private static final int DEFAULT_ARITY = 4;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Object[] elements;
+    private int size;
+    private final int arity;
+    private final Comparator<? super T> comparator;
+    private Map<T, Integer> indexes;
+
+    /**
+     * This constructor creates an instance of {@link PriorityQueue} with a default arity that orders elements by the
+     * comparator.
+     *
+     * @param comparator a comparator that defines the priority of elements
+     */
+    public PriorityQueue(Comparator<? super T> comparator) {
+        this(DEFAULT_ARITY, comparator);
+    }
+
+    /**
+     * This constructor creates an instance of {@link PriorityQueue} with a specific arity that orders elements by the
+     * comparator.
+     *
+     * @param arity      the number of children of each node
+     * @param comparator a comparator that defines the priority of elements
+     * @throws IllegalArgumentException – if the specified arity is less than 2
+     */
+    public PriorityQueue(int arity, Comparator<? super T> comparator) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Incorrect arity, should be > 1");
+        }
+        if (Objects.isNull(comparator)) {
+            throw new NullPointerException();
+        }
+        this.arity = arity;
+        this.comparator = comparator;
+        this.elements = new Object[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Creates a queue of provided elements in linear time O(n). Elements are copied to the array as they are, then
+     * each node that has children is sifted down, starting from the last one. Most nodes are close to the bottom, so
+     * the total number of steps is linear, unlike n separate additions that take O(n log n) time.
+     *
+     * @param arity      the number of children of each node
+     * @param comparator a comparator that defines the priority of elements
+     * @param elements   elements to add
+     * @param <T>        generic type
+     * @return a new queue of elements that were passed as method parameters
+     * @throws IllegalArgumentException – if the specified arity is less than 2
+     */
+    public static <T> PriorityQueue<T> heapify(int arity, Comparator<? super T> comparator, T... elements) {
+        if (Objects.isNull(elements)) {
+            throw new NullPointerException();
+        }
+        var queue = new PriorityQueue<T>(arity, comparator);
+        for (T element : elements) {
+            if (Objects.isNull(element)) {
+                throw new NullPointerException();
+            }
+        }
+        queue.elements = Arrays.copyOf(elements, Math.max(elements.length, DEFAULT_CAPACITY), Object[].class);
+        queue.size = elements.length;
+        if (queue.size > 1) {
+            for (int i = queue.parent(queue.size - 1); i >= 0; i--) {
+                queue.siftDown(i, queue.elementAt(i));
+            }
+        }
+        return queue;
+    }
+
+    /**
+     * Adds an element to the queue.
+     *
+     * @param element the element to add
+     * @throws IllegalArgumentException if keys can be decreased and the element is already in the queue
+     */
+    @Override
+    public void add(T element) {
+        if (Objects.isNull(element)) {
+            throw new NullPointerException();
+        }
+        if (Objects.nonNull(indexes) && indexes.containsKey(element)) {
+            throw new IllegalArgumentException("Element is already in the queue");
+        }
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, elements.length + (elements.length >> 1) + 1);
+        }
+        siftUp(size++, element);
+    }
+
+    /**
+     * Retrieves and removes the smallest element of the queue.
+     *
+     * @return the smallest element or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        if (size == 0) {
+            return null;
+        }
+        var removedElement = elementAt(0);
+        var last = elementAt(--size);
+        elements[size] = null;
+        if (Objects.nonNull(indexes)) {
+            indexes.remove(removedElement);
+        }
+        if (size > 0) {
+            siftDown(0, last);
+        }
+        return removedElement;
+    }
+
+    /**
+     * Retrieves the smallest element of the queue without removing it.
+     *
+     * @return the smallest element or null if queue is empty
+     */
+    public T peek() {
+        return size == 0 ? null : elementAt(0);
+    }
+
+    /**
+     * Replaces an element of the queue with a smaller one and moves it up to its new place in O(log n) time. The
+     * element is found through a map of indexes, which is built on the first call in O(n) time and then kept up to
+     * date by all operations.
+     *
+     * @param element    an element of the queue
+     * @param newElement the element to put instead, it must not be greater than the replaced one
+     * @throws NoSuchElementException   if the element is not in the queue
+     * @throws IllegalArgumentException if the new element is greater than the replaced one or is already in the queue
+     * @throws IllegalStateException    if the map of indexes is built for a queue with equal elements
+     */
+    public void decreaseKey(T element, T newElement) {
+        if (Objects.isNull(element) || Objects.isNull(newElement)) {
+            throw new NullPointerException();
+        }
+        if (comparator.compare(newElement, element) > 0) {
+            throw new IllegalArgumentException("Incorrect key, new element should be <= element");
+        }
+        buildIndexes();
+        if (!newElement.equals(element) && indexes.containsKey(newElement)) {
+            throw new IllegalArgumentException("Element is already in the queue");
+        }
+        var index = indexes.remove(element);
+        if (Objects.isNull(index)) {
+            throw new NoSuchElementException();
+        }
+        siftUp(index, newElement);
+    }
+
+    /**
+     * Returns a size of the queue.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Moves an element up from the index, shifting greater parents down into the hole until it finds its place
+     */
+    private void siftUp(int index, T element) {
+        while (index > 0) {
+            int parent = parent(index);
+            var parentElement = elementAt(parent);
+            if (comparator.compare(element, parentElement) >= 0) {
+                break;
+            }
+            place(index, parentElement);
+            index = parent;
+        }
+        place(index, element);
+    }
+
+    /**
+     * Moves an element down from the index, shifting the smallest child up into the hole until no child is smaller
+     */
+    private void siftDown(int index, T element) {
+        while (true) {
+            int firstChild = arity * index + 1;
+            if (firstChild >= size) {
+                break;
+            }
+            int lastChild = Math.min(firstChild + arity, size);
+            int smallest = firstChild;
+            var smallestElement = elementAt(firstChild);
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                var childElement = elementAt(child);
+                if (comparator.compare(childElement, smallestElement) < 0) {
+                    smallest = child;
+                    smallestElement = childElement;
+                }
+            }
+            if (comparator.compare(smallestElement, element) >= 0) {
+                break;
+            }
+            place(index, smallestElement);
+            index = smallest;
+        }
+        place(index, element);
+    }
+
+    private void place(int index, T element) {
+        elements[index] = element;
+        if (Objects.nonNull(indexes)) {
+            indexes.put(element, index);
+        }
+    }
+
+    private void buildIndexes() {
+        if (Objects.isNull(indexes)) {
+            var newIndexes = new HashMap<T, Integer>(Math.max(DEFAULT_CAPACITY, size * 4 / 3 + 1));
+            for (int i = 0; i < size; i++) {
+                if (Objects.nonNull(newIndexes.put(elementAt(i), i))) {
+                    throw new IllegalStateException("Queue contains equal elements");
+                }
+            }
+            indexes = newIndexes;
+        }
+    }
+
+    private int parent(int index) {
+        return (index - 1) / arity;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(int index) {
+        return (T) elements[index];
+    }
+}
@@ -0,0 +1,251 @@
+package com.bobocode.cs;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@link SpscRingQueue} is a bounded FIFO {@link Queue} for exactly one producer thread and one consumer thread. Only
+ * the producer may call {@link SpscRingQueue#add(Object)} and {@link SpscRingQueue#offer(Object)}, only the consumer
+ * may call {@link SpscRingQueue#poll()}, {@link SpscRingQueue#peek()} and
+ * {@link SpscRingQueue#drainTo(Consumer, int)}. Under this contract no locks and no compare-and-set are needed.
+ * <p>
+ * Like {@link ArrayRingQueue}, the queue is a ring buffer with a power-of-two length. A slot of the array is written
+ * with release semantics and read with acquire semantics through a {@link VarHandle}, so a non-null slot always
+ * holds a fully published element. The consumer checks that its slot is not empty instead of reading the producer
+ * index, and the producer caches a limit computed from the consumer index and reads that index again only when the
+ * limit is reached. That is why both threads mostly touch their own index only. The indexes are kept apart by
+ * padding fields, so they never share a cache line (false sharing).
+ *
+ * @param <T> a generic parameter
+ */
+public class SpscRingQueue<T> extends SpscRingQueueL3Pad implements Queue<T> {
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final VarHandle ELEMENTS = MethodHandles.arrayElementVarHandle(Object[].class);
+    private static final VarHandle PRODUCER_INDEX;
+    private static final VarHandle CONSUMER_INDEX;
+
+    static {
+        try {
+            var lookup = MethodHandles.lookup();
+            PRODUCER_INDEX = lookup.findVarHandle(SpscRingQueueProducerIndex.class, "producerIndex", long.class);
+            CONSUMER_INDEX = lookup.findVarHandle(SpscRingQueueConsumerIndex.class, "consumerIndex", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Creates a queue that holds at most {@code capacity} elements. The array inside is rounded up to a power of two,
+     * but the queue never accepts more elements than requested.
+     *
+     * @param capacity the maximum number of elements in the queue
+     * @throws IllegalArgumentException – if the specified capacity is not positive or greater than 2^30
+     */
+    public SpscRingQueue(int capacity) {
+        super(checkCapacity(capacity));
+    }
+
+    private static int checkCapacity(int capacity) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Incorrect capacity, should be > 0 and <= " + MAX_CAPACITY);
+        }
+        return capacity;
+    }
+
+    /**
+     * Adds an element to the end of the queue. Must be called by the producer thread only.
+     *
+     * @param element the element to add
+     * @throws IllegalStateException if the queue is full
+     */
+    @Override
+    public void add(T element) {
+        if (!offer(element)) {
+            throw new IllegalStateException("Queue is full");
+        }
+    }
+
+    /**
+     * Adds an element to the end of the queue if it is not full. Must be called by the producer thread only.
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added, {@code false} if the queue is full
+     */
+    public boolean offer(T element) {
+        if (Objects.isNull(element)) {
+            throw new NullPointerException();
+        }
+        long index = producerIndex;
+        if (index >= producerLimit) {
+            long consumed = (long) CONSUMER_INDEX.getAcquire(this);
+            producerLimit = consumed + capacity;
+            if (index >= producerLimit) {
+                return false;
+            }
+        }
+        ELEMENTS.setRelease(elements, (int) index & mask, element);
+        PRODUCER_INDEX.setRelease(this, index + 1);
+        return true;
+    }
+
+    /**
+     * Retrieves and removes queue head. Must be called by the consumer thread only.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        long index = consumerIndex;
+        int offset = (int) index & mask;
+        var element = (T) ELEMENTS.getAcquire(elements, offset);
+        if (Objects.isNull(element)) {
+            return null;
+        }
+        ELEMENTS.setRelease(elements, offset, null);
+        CONSUMER_INDEX.setRelease(this, index + 1);
+        return element;
+    }
+
+    /**
+     * Retrieves queue head without removing it. Must be called by the consumer thread only.
+     *
+     * @return an element at the head of the queue or null if queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        return (T) ELEMENTS.getAcquire(elements, (int) consumerIndex & mask);
+    }
+
+    /**
+     * Removes up to {@code maxElements} elements from the head of the queue and passes them to the consumer in FIFO
+     * order. Must be called by the consumer thread only. The consumer index is published once per batch instead of once
+     * per element, so the cache line with the index moves between the threads less often.
+     *
+     * @param consumer    accepts removed elements
+     * @param maxElements the maximum number of elements to remove
+     * @return the number of removed elements
+     */
+    @SuppressWarnings("unchecked")
+    public int drainTo(Consumer<? super T> consumer, int maxElements) {
+        Objects.requireNonNull(consumer);
+        if (maxElements < 0) {
+            throw new IllegalArgumentException("Incorrect number of elements, should be >= 0");
+        }
+        long index = consumerIndex;
+        int count = 0;
+        while (count < maxElements) {
+            int offset = (int) (index + count) & mask;
+            var element = (T) ELEMENTS.getAcquire(elements, offset);
+            if (Objects.isNull(element)) {
+                break;
+            }
+            ELEMENTS.setRelease(elements, offset, null);
+            count++;
+            consumer.accept(element);
+        }
+        if (count > 0) {
+            CONSUMER_INDEX.setRelease(this, index + count);
+        }
+        return count;
+    }
+
+    /**
+     * Returns a size of the queue. It can be called by any thread, but the result is only an estimate while the queue
+     * is being modified.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        while (true) {
+            long consumed = (long) CONSUMER_INDEX.getAcquire(this);
+            long produced = (long) PRODUCER_INDEX.getAcquire(this);
+            if (consumed == (long) CONSUMER_INDEX.getAcquire(this)) {
+                return (int) (produced - consumed);
+            }
+        }
+    }
+
+    /**
+     * Returns the maximum number of elements in the queue.
+     *
+     * @return a capacity of the queue
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return (long) CONSUMER_INDEX.getAcquire(this) == (long) PRODUCER_INDEX.getAcquire(this);
+    }
+}
+
+abstract class SpscRingQueueL0Pad {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p10, p11, p12, p13, p14, p15, p16;
+}
+
+abstract class SpscRingQueueFields extends SpscRingQueueL0Pad {
+    final Object[] elements;
+    final int mask;
+    final int capacity;
+
+    SpscRingQueueFields(int capacity) {
+        this.elements = new Object[capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1];
+        this.mask = elements.length - 1;
+        this.capacity = capacity;
+    }
+}
+
+abstract class SpscRingQueueL1Pad extends SpscRingQueueFields {
+    long p20, p21, p22, p23, p24, p25, p26, p27;
+    long p30, p31, p32, p33, p34, p35, p36;
+
+    SpscRingQueueL1Pad(int capacity) {
+        super(capacity);
+    }
+}
+
+abstract class SpscRingQueueProducerIndex extends SpscRingQueueL1Pad {
+    volatile long producerIndex;
+    long producerLimit;
+
+    SpscRingQueueProducerIndex(int capacity) {
+        super(capacity);
+    }
+}
+
+abstract class SpscRingQueueL2Pad extends SpscRingQueueProducerIndex {
+    long p40, p41, p42, p43, p44, p45, p46, p47;
+    long p50, p51, p52, p53, p54, p55, p56;
+
+    SpscRingQueueL2Pad(int capacity) {
+        super(capacity);
+    }
+}
+
+abstract class SpscRingQueueConsumerIndex extends SpscRingQueueL2Pad {
+    volatile long consumerIndex;
+
+    SpscRingQueueConsumerIndex(int capacity) {
+        super(capacity);
+    }
+}
+
+abstract class SpscRingQueueL3Pad extends SpscRingQueueConsumerIndex {
+    long p60, p61, p62, p63, p64, p65, p66, p67;
+    long p70, p71, p72, p73, p74, p75, p76;
+
+    SpscRingQueueL3Pad(int capacity) {
+        super(capacity);
+    }
+}
@@ -0,0 +1,188 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ArrayBlockingQueueTest {
+    private static final int ELEMENTS = 100_000;
+
+    private ArrayBlockingQueue<Integer> integerQueue = new ArrayBlockingQueue<>(2);
+
+    @Test
+    @Order(1)
+    void createWithIncorrectCapacity() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new ArrayBlockingQueue<>(0));
+    }
+
+    @Test
+    @Order(2)
+    void addAndPollInFifoOrder() {
+        integerQueue.add(1);
+        integerQueue.add(2);
+
+        assertThat(integerQueue.size()).isEqualTo(2);
+        assertThat(integerQueue.remainingCapacity()).isEqualTo(0);
+        assertThat(integerQueue.poll()).isEqualTo(1);
+        assertThat(integerQueue.poll()).isEqualTo(2);
+        assertThat(integerQueue.poll()).isNull();
+        assertThat(integerQueue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(3)
+    void addThrowsExceptionWhenQueueIsFull() {
+        integerQueue.add(1);
+        integerQueue.add(2);
+
+        assertThat(integerQueue.offer(3)).isFalse();
+        assertThatIllegalStateException().isThrownBy(() -> integerQueue.add(3));
+    }
+
+    @Test
+    @Order(4)
+    void putThrowsExceptionWhenElementIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> integerQueue.put(null));
+        assertThatNullPointerException().isThrownBy(() -> integerQueue.offer(null));
+    }
+
+    @Test
+    @Order(5)
+    @SneakyThrows
+    void offerWithTimeoutReturnsFalseWhenQueueStaysFull() {
+        integerQueue.add(1);
+        integerQueue.add(2);
+
+        long start = System.nanoTime();
+        assertThat(integerQueue.offer(3, 50, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+        assertThat(integerQueue.size()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(6)
+    @SneakyThrows
+    void pollWithTimeoutReturnsNullWhenQueueStaysEmpty() {
+        long start = System.nanoTime();
+        assertThat(integerQueue.poll(50, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    @Order(7)
+    @SneakyThrows
+    void takeWaitsForElement() {
+        var taken = CompletableFuture.supplyAsync(this::take);
+        Thread.sleep(50);
+        assertThat(taken).isNotDone();
+
+        integerQueue.put(1);
+
+        assertThat(taken.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+    }
+
+    @Test
+    @Order(8)
+    @SneakyThrows
+    void putWaitsForFreeSpace() {
+        integerQueue.put(1);
+        integerQueue.put(2);
+        var put = CompletableFuture.runAsync(() -> put(3));
+        Thread.sleep(50);
+        assertThat(put).isNotDone();
+
+        assertThat(integerQueue.take()).isEqualTo(1);
+
+        put.get(5, TimeUnit.SECONDS);
+        assertThat(integerQueue.take()).isEqualTo(2);
+        assertThat(integerQueue.take()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(9)
+    @SneakyThrows
+    void takeThrowsExceptionWhenThreadIsInterrupted() {
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Integer> taken = executor.submit(() -> integerQueue.take());
+            Thread.sleep(50);
+            executor.shutdownNow();
+
+            assertThatThrownBy(() -> taken.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(InterruptedException.class);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @Order(10)
+    @SneakyThrows
+    void drainToRemovesBatchAndWakesUpProducer() {
+        integerQueue.put(1);
+        integerQueue.put(2);
+        var put = CompletableFuture.runAsync(() -> put(3));
+        var drained = new ArrayList<Integer>();
+
+        assertThat(integerQueue.drainTo(drained::add, 10)).isEqualTo(2);
+
+        put.get(5, TimeUnit.SECONDS);
+        assertThat(drained).containsExactly(1, 2);
+        assertThat(integerQueue.poll()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(11)
+    @SneakyThrows
+    void producerAndConsumerThreadsTransferAllElementsInOrder() {
+        integerQueue = new ArrayBlockingQueue<>(16);
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            var producer = executor.submit(() -> {
+                for (int i = 0; i < ELEMENTS; i++) {
+                    integerQueue.put(i);
+                }
+                return null;
+            });
+            var consumer = executor.submit(() -> {
+                for (int i = 0; i < ELEMENTS; i++) {
+                    assertThat(integerQueue.take()).isEqualTo(i);
+                }
+                return null;
+            });
+
+            producer.get(30, TimeUnit.SECONDS);
+            consumer.get(30, TimeUnit.SECONDS);
+            assertThat(integerQueue.isEmpty()).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @SneakyThrows
+    private Integer take() {
+        return integerQueue.take();
+    }
+
+    @SneakyThrows
+    private void put(Integer element) {
+        integerQueue.put(element);
+    }
+}
@@ -0,0 +1,156 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ArrayRingQueueTest {
+
+    private ArrayRingQueue<Integer> integerQueue = new ArrayRingQueue<>();
+
+    @Test
+    @Order(1)
+    void createWithIncorrectCapacity() {
+        assertThatIllegalArgumentException().isThrownBy(() -> ArrayRingQueue.bounded(0));
+        assertThatIllegalArgumentException().isThrownBy(() -> ArrayRingQueue.growable(-1));
+    }
+
+    @Test
+    @Order(2)
+    void addAndPollInFifoOrder() {
+        integerQueue.add(1);
+        integerQueue.add(2);
+        integerQueue.add(3);
+
+        assertThat(integerQueue.size()).isEqualTo(3);
+        assertThat(integerQueue.poll()).isEqualTo(1);
+        assertThat(integerQueue.poll()).isEqualTo(2);
+        assertThat(integerQueue.poll()).isEqualTo(3);
+        assertThat(integerQueue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(3)
+    void pollReturnsNullWhenQueueIsEmpty() {
+        assertThat(integerQueue.poll()).isNull();
+        assertThat(integerQueue.peek()).isNull();
+    }
+
+    @Test
+    @Order(4)
+    void addThrowsExceptionWhenElementIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> integerQueue.add(null));
+    }
+
+    @Test
+    @Order(5)
+    void boundedQueueKeepsExactCapacity() {
+        integerQueue = ArrayRingQueue.bounded(3);
+
+        assertThat(integerQueue.offer(1)).isTrue();
+        assertThat(integerQueue.offer(2)).isTrue();
+        assertThat(integerQueue.offer(3)).isTrue();
+        assertThat(integerQueue.offer(4)).isFalse();
+
+        assertThat(integerQueue.capacity()).isEqualTo(3);
+        assertThat(integerQueue.size()).isEqualTo(3);
+        assertThatIllegalStateException().isThrownBy(() -> integerQueue.add(4));
+    }
+
+    @Test
+    @Order(6)
+    void boundedQueueWrapsAround() {
+        integerQueue = ArrayRingQueue.bounded(4);
+
+        for (int i = 0; i < 100; i++) {
+            integerQueue.add(i);
+            integerQueue.add(i + 1000);
+            assertThat(integerQueue.poll()).isEqualTo(i);
+            assertThat(integerQueue.poll()).isEqualTo(i + 1000);
+        }
+        assertThat(integerQueue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(7)
+    void growableQueueGrowsWhenWrappedAround() {
+        integerQueue = ArrayRingQueue.growable(4);
+        integerQueue.add(-2);
+        integerQueue.add(-1);
+        integerQueue.poll();
+        integerQueue.poll();
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(integerQueue.offer(i)).isTrue();
+        }
+
+        assertThat(integerQueue.size()).isEqualTo(100);
+        assertThat(integerQueue.capacity()).isEqualTo(128);
+        for (int i = 0; i < 100; i++) {
+            assertThat(integerQueue.poll()).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @Order(8)
+    void peek() {
+        integerQueue.add(1);
+        integerQueue.add(2);
+
+        assertThat(integerQueue.peek()).isEqualTo(1);
+        assertThat(integerQueue.size()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(9)
+    void drainToWrappedAroundQueue() {
+        integerQueue = ArrayRingQueue.bounded(8);
+        for (int i = 0; i < 6; i++) {
+            integerQueue.add(-1);
+            integerQueue.poll();
+        }
+        for (int i = 0; i < 8; i++) {
+            integerQueue.add(i);
+        }
+
+        List<Integer> drained = new ArrayList<>();
+        int count = integerQueue.drainTo(drained::add, 5);
+
+        assertThat(count).isEqualTo(5);
+        assertThat(drained).isEqualTo(List.of(0, 1, 2, 3, 4));
+        assertThat(integerQueue.size()).isEqualTo(3);
+        assertThat(integerQueue.peek()).isEqualTo(5);
+    }
+
+    @Test
+    @Order(10)
+    void drainToTakesAtMostQueueSize() {
+        integerQueue.add(1);
+        integerQueue.add(2);
+
+        List<Integer> drained = new ArrayList<>();
+        int count = integerQueue.drainTo(drained::add, 10);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(drained).isEqualTo(List.of(1, 2));
+        assertThat(integerQueue.isEmpty()).isTrue();
+        assertThat(integerQueue.poll()).isNull();
+    }
+
+    @Test
+    @Order(11)
+    void drainToThrowsExceptionWhenMaxElementsIsNegative() {
+        assertThatIllegalArgumentException().isThrownBy(() -> integerQueue.drainTo(e -> {
+        }, -1));
+    }
+}
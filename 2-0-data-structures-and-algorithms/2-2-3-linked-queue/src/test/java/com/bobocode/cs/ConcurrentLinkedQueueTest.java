@@ -0,0 +1,159 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ConcurrentLinkedQueueTest {
+    private static final int THREADS = 4;
+    private static final int ELEMENTS_PER_THREAD = 100_000;
+
+    private ConcurrentLinkedQueue<Integer> integerQueue = new ConcurrentLinkedQueue<>();
+
+    @Test
+    @Order(1)
+    void addAndPollInFifoOrder() {
+        integerQueue.add(1);
+        integerQueue.add(2);
+        integerQueue.add(3);
+
+        assertThat(integerQueue.size()).isEqualTo(3);
+        assertThat(integerQueue.poll()).isEqualTo(1);
+        assertThat(integerQueue.poll()).isEqualTo(2);
+        assertThat(integerQueue.poll()).isEqualTo(3);
+        assertThat(integerQueue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    void pollReturnsNullWhenQueueIsEmpty() {
+        assertThat(integerQueue.poll()).isNull();
+        assertThat(integerQueue.isEmpty()).isTrue();
+        assertThat(integerQueue.size()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(3)
+    void addThrowsExceptionWhenElementIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> integerQueue.add(null));
+    }
+
+    @Test
+    @Order(4)
+    void drainToRemovesBatchInFifoOrder() {
+        for (int i = 0; i < 10; i++) {
+            integerQueue.add(i);
+        }
+        var drained = new ArrayList<Integer>();
+
+        assertThat(integerQueue.drainTo(drained::add, 4)).isEqualTo(4);
+        assertThat(drained).containsExactly(0, 1, 2, 3);
+        assertThat(integerQueue.drainTo(drained::add, 100)).isEqualTo(6);
+        assertThat(drained).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(integerQueue.drainTo(drained::add, 100)).isEqualTo(0);
+        assertThat(integerQueue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(5)
+    void drainToThrowsExceptionWhenMaxElementsIsNegative() {
+        assertThatIllegalArgumentException().isThrownBy(() -> integerQueue.drainTo(e -> {
+        }, -1));
+    }
+
+    @Test
+    @Order(6)
+    void queueIsUsableAfterDrain() {
+        integerQueue.add(1);
+        integerQueue.drainTo(e -> {
+        }, 1);
+        integerQueue.add(2);
+
+        assertThat(integerQueue.poll()).isEqualTo(2);
+        assertThat(integerQueue.poll()).isNull();
+    }
+
+    @Test
+    @Order(7)
+    @SneakyThrows
+    void concurrentProducersAndConsumersTransferAllElements() {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS * 2);
+        try {
+            var start = new CountDownLatch(1);
+            var remaining = new AtomicInteger(THREADS * ELEMENTS_PER_THREAD);
+            var consumers = new ArrayList<Future<List<Integer>>>();
+            for (int t = 0; t < THREADS; t++) {
+                int producer = t;
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < ELEMENTS_PER_THREAD; i++) {
+                        integerQueue.add(producer * ELEMENTS_PER_THREAD + i);
+                    }
+                    return null;
+                });
+            }
+            for (int t = 0; t < THREADS; t++) {
+                boolean batched = t % 2 == 0;
+                consumers.add(executor.submit(() -> {
+                    start.await();
+                    var polled = new ArrayList<Integer>();
+                    while (remaining.get() > 0) {
+                        if (batched) {
+                            int drained = integerQueue.drainTo(polled::add, 32);
+                            if (drained == 0) {
+                                Thread.yield();
+                            }
+                            remaining.addAndGet(-drained);
+                        } else {
+                            var element = integerQueue.poll();
+                            if (element == null) {
+                                Thread.yield();
+                            } else {
+                                polled.add(element);
+                                remaining.decrementAndGet();
+                            }
+                        }
+                    }
+                    return polled;
+                }));
+            }
+            start.countDown();
+
+            var seen = new boolean[THREADS * ELEMENTS_PER_THREAD];
+            for (var consumer : consumers) {
+                int[] lastPerProducer = new int[THREADS];
+                Arrays.fill(lastPerProducer, -1);
+                for (int element : consumer.get(30, TimeUnit.SECONDS)) {
+                    assertThat(seen[element]).isFalse();
+                    seen[element] = true;
+                    int producer = element / ELEMENTS_PER_THREAD;
+                    assertThat(element).isGreaterThan(lastPerProducer[producer]);
+                    lastPerProducer[producer] = element;
+                }
+            }
+            for (boolean s : seen) {
+                assertThat(s).isTrue();
+            }
+            assertThat(integerQueue.isEmpty()).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class PriorityQueueTest {
+
+    private PriorityQueue<Integer> integerQueue = new PriorityQueue<>(Comparator.naturalOrder());
+
+    @Test
+    @Order(1)
+    void createWithIncorrectArity() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new PriorityQueue<Integer>(1, Comparator.naturalOrder()));
+        assertThatNullPointerException().isThrownBy(() -> new PriorityQueue<Integer>(2, null));
+    }
+
+    @Test
+    @Order(2)
+    void pollReturnsElementsInPriorityOrder() {
+        integerQueue.add(5);
+        integerQueue.add(1);
+        integerQueue.add(4);
+        integerQueue.add(2);
+        integerQueue.add(3);
+
+        assertThat(integerQueue.size()).isEqualTo(5);
+        assertThat(integerQueue.peek()).isEqualTo(1);
+        for (int i = 1; i <= 5; i++) {
+            assertThat(integerQueue.poll()).isEqualTo(i);
+        }
+        assertThat(integerQueue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(3)
+    void pollReturnsNullWhenQueueIsEmpty() {
+        assertThat(integerQueue.poll()).isNull();
+        assertThat(integerQueue.peek()).isNull();
+    }
+
+    @Test
+    @Order(4)
+    void addThrowsExceptionWhenElementIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> integerQueue.add(null));
+    }
+
+    @Test
+    @Order(5)
+    void comparatorDefinesPriority() {
+        integerQueue = new PriorityQueue<>(2, Comparator.reverseOrder());
+        integerQueue.add(1);
+        integerQueue.add(3);
+        integerQueue.add(2);
+
+        assertThat(integerQueue.poll()).isEqualTo(3);
+        assertThat(integerQueue.poll()).isEqualTo(2);
+        assertThat(integerQueue.poll()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(6)
+    void heapify() {
+        integerQueue = PriorityQueue.heapify(3, Comparator.naturalOrder(), 9, 3, 7, 1, 8, 2, 6, 4, 5, 0);
+
+        assertThat(integerQueue.size()).isEqualTo(10);
+        for (int i = 0; i < 10; i++) {
+            assertThat(integerQueue.poll()).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @Order(7)
+    void heapifyEmptyArray() {
+        integerQueue = PriorityQueue.heapify(2, Comparator.naturalOrder());
+
+        assertThat(integerQueue.isEmpty()).isTrue();
+        integerQueue.add(1);
+        assertThat(integerQueue.poll()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(8)
+    void heapifyThrowsExceptionWhenElementIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> PriorityQueue.heapify(2, Comparator.naturalOrder(), 1, null));
+    }
+
+    @Test
+    @Order(9)
+    void decreaseKeyMovesElementUp() {
+        integerQueue = PriorityQueue.heapify(2, Comparator.naturalOrder(), 10, 20, 30, 40, 50);
+
+        integerQueue.decreaseKey(50, 5);
+        integerQueue.decreaseKey(30, 15);
+
+        assertThat(integerQueue.poll()).isEqualTo(5);
+        assertThat(integerQueue.poll()).isEqualTo(10);
+        assertThat(integerQueue.poll()).isEqualTo(15);
+        assertThat(integerQueue.poll()).isEqualTo(20);
+        assertThat(integerQueue.poll()).isEqualTo(40);
+    }
+
+    @Test
+    @Order(10)
+    void decreaseKeyThrowsExceptionWhenArgumentsAreIncorrect() {
+        integerQueue.add(10);
+        integerQueue.add(20);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> integerQueue.decreaseKey(10, 11));
+        assertThatIllegalArgumentException().isThrownBy(() -> integerQueue.decreaseKey(20, 10));
+        assertThatIllegalArgumentException().isThrownBy(() -> integerQueue.add(10));
+        assertThatThrownBy(() -> integerQueue.decreaseKey(30, 1)).isInstanceOf(NoSuchElementException.class);
+        assertThatNullPointerException().isThrownBy(() -> integerQueue.decreaseKey(null, 1));
+    }
+
+    @Test
+    @Order(11)
+    void decreaseKeyThrowsExceptionWhenQueueHasEqualElements() {
+        integerQueue.add(1);
+        integerQueue.add(1);
+
+        assertThatIllegalStateException().isThrownBy(() -> integerQueue.decreaseKey(1, 0));
+    }
+
+    @Test
+    @Order(12)
+    void randomOperationsMatchJdkPriorityQueue() {
+        var random = new Random(7);
+        for (int arity : new int[]{2, 3, 4, 8}) {
+            integerQueue = new PriorityQueue<>(arity, Comparator.naturalOrder());
+            var expected = new java.util.PriorityQueue<Integer>();
+            for (int i = 0; i < 10_000; i++) {
+                if (random.nextInt(3) > 0) {
+                    int element = random.nextInt(1000);
+                    integerQueue.add(element);
+                    expected.add(element);
+                } else {
+                    assertThat(integerQueue.poll()).isEqualTo(expected.poll());
+                }
+                assertThat(integerQueue.size()).isEqualTo(expected.size());
+            }
+            while (!expected.isEmpty()) {
+                assertThat(integerQueue.poll()).isEqualTo(expected.poll());
+            }
+        }
+    }
+
+    @Test
+    @Order(13)
+    void randomDecreaseKeysKeepHeapOrder() {
+        var random = new Random(11);
+        var elements = new ArrayList<Integer>();
+        for (int i = 0; i < 1000; i++) {
+            elements.add(i * 10 + 5);
+        }
+        integerQueue = PriorityQueue.heapify(4, Comparator.naturalOrder(), elements.toArray(Integer[]::new));
+        var expected = new java.util.TreeSet<>(elements);
+        for (int i = 0; i < 300; i++) {
+            var element = elements.get(random.nextInt(elements.size()));
+            if (!expected.contains(element)) {
+                continue;
+            }
+            int newElement = element - 1 - random.nextInt(4);
+            if (expected.contains(newElement)) {
+                continue;
+            }
+            integerQueue.decreaseKey(element, newElement);
+            expected.remove(element);
+            expected.add(newElement);
+            if (i % 10 == 0) {
+                assertThat(integerQueue.poll()).isEqualTo(expected.pollFirst());
+            }
+        }
+        while (!expected.isEmpty()) {
+            assertThat(integerQueue.poll()).isEqualTo(expected.pollFirst());
+        }
+    }
+}
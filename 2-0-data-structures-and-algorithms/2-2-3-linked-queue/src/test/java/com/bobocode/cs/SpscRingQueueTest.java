@@ -0,0 +1,150 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class SpscRingQueueTest {
+    private static final int ELEMENTS = 100_000;
+
+    private SpscRingQueue<Integer> integerQueue = new SpscRingQueue<>(4);
+
+    @Test
+    @Order(1)
+    void createWithIncorrectCapacity() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new SpscRingQueue<>(0));
+        assertThatIllegalArgumentException().isThrownBy(() -> new SpscRingQueue<>(-1));
+        assertThatIllegalArgumentException().isThrownBy(() -> new SpscRingQueue<>(Integer.MAX_VALUE));
+    }
+
+    @Test
+    @Order(2)
+    void addAndPollInFifoOrder() {
+        integerQueue.add(1);
+        integerQueue.add(2);
+        integerQueue.add(3);
+
+        assertThat(integerQueue.size()).isEqualTo(3);
+        assertThat(integerQueue.peek()).isEqualTo(1);
+        assertThat(integerQueue.poll()).isEqualTo(1);
+        assertThat(integerQueue.poll()).isEqualTo(2);
+        assertThat(integerQueue.poll()).isEqualTo(3);
+        assertThat(integerQueue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(3)
+    void pollReturnsNullWhenQueueIsEmpty() {
+        assertThat(integerQueue.poll()).isNull();
+        assertThat(integerQueue.peek()).isNull();
+    }
+
+    @Test
+    @Order(4)
+    void addThrowsExceptionWhenElementIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> integerQueue.add(null));
+    }
+
+    @Test
+    @Order(5)
+    void queueKeepsExactCapacity() {
+        integerQueue = new SpscRingQueue<>(3);
+
+        assertThat(integerQueue.offer(1)).isTrue();
+        assertThat(integerQueue.offer(2)).isTrue();
+        assertThat(integerQueue.offer(3)).isTrue();
+        assertThat(integerQueue.offer(4)).isFalse();
+
+        assertThat(integerQueue.capacity()).isEqualTo(3);
+        assertThat(integerQueue.size()).isEqualTo(3);
+        assertThatIllegalStateException().isThrownBy(() -> integerQueue.add(4));
+    }
+
+    @Test
+    @Order(6)
+    void queueWrapsAround() {
+        for (int i = 0; i < 100; i++) {
+            integerQueue.add(i);
+            integerQueue.add(i + 1000);
+            assertThat(integerQueue.poll()).isEqualTo(i);
+            assertThat(integerQueue.poll()).isEqualTo(i + 1000);
+        }
+        assertThat(integerQueue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(7)
+    void drainToRemovesBatchInFifoOrder() {
+        integerQueue.add(1);
+        integerQueue.add(2);
+        integerQueue.poll();
+        integerQueue.add(3);
+        integerQueue.add(4);
+        integerQueue.add(5);
+        var drained = new ArrayList<Integer>();
+
+        assertThat(integerQueue.drainTo(drained::add, 2)).isEqualTo(2);
+        assertThat(integerQueue.drainTo(drained::add, 10)).isEqualTo(2);
+        assertThat(drained).containsExactly(2, 3, 4, 5);
+        assertThat(integerQueue.offer(6)).isTrue();
+        assertThat(integerQueue.size()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(8)
+    void drainToThrowsExceptionWhenMaxElementsIsNegative() {
+        assertThatIllegalArgumentException().isThrownBy(() -> integerQueue.drainTo(e -> {
+        }, -1));
+    }
+
+    @Test
+    @Order(9)
+    @SneakyThrows
+    void producerAndConsumerThreadsTransferAllElementsInOrder() {
+        integerQueue = new SpscRingQueue<>(64);
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            var producer = executor.submit(() -> {
+                for (int i = 0; i < ELEMENTS; i++) {
+                    while (!integerQueue.offer(i)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            var consumer = executor.submit(() -> {
+                int[] expected = {0};
+                while (expected[0] < ELEMENTS) {
+                    if (expected[0] % 2 == 0) {
+                        var element = integerQueue.poll();
+                        if (element == null) {
+                            Thread.yield();
+                        } else {
+                            assertThat(element).isEqualTo(expected[0]++);
+                        }
+                    } else if (integerQueue.drainTo(element -> assertThat(element).isEqualTo(expected[0]++), 16) == 0) {
+                        Thread.yield();
+                    }
+                }
+                return expected[0];
+            });
+
+            assertThat(consumer.get(30, TimeUnit.SECONDS)).isEqualTo(ELEMENTS);
+            producer.get(30, TimeUnit.SECONDS);
+            assertThat(integerQueue.isEmpty()).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.bobocode.cs;
+
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * {@link BatchSpliterator} is a fail-fast spliterator of a linked list over a cursor that moves from one element to
+ * the next one. It reports {@link Spliterator#ORDERED}, {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}
+ * characteristics.
+ * <p>
+ * Nodes cannot be split in halves without traversal, so each split copies a batch of elements into an array. Batches
+ * grow arithmetically, so parallel streams get enough work on large lists, while small lists are not split into tiny
+ * chunks. The cursor is bound to the first element of the list on first use, so the list can be modified between
+ * creating the spliterator and using it.
+ *
+ * @param <T> generic type parameter
+ */
+abstract class BatchSpliterator<T> implements Spliterator<T> {
+    private static final int BATCH_UNIT = 1 << 10;
+    private static final int MAX_BATCH = 1 << 25;
+
+    private int remaining = -1;
+    private int expectedModCount;
+    private int batch;
+
+    /**
+     * Moves the cursor to the first element of the list.
+     *
+     * @return the size of the list
+     */
+    protected abstract int bind();
+
+    /**
+     * @return the current modification counter of the list
+     */
+    protected abstract int modCount();
+
+    /**
+     * @return {@code true} if the cursor points to an element
+     */
+    protected abstract boolean hasNext();
+
+    /**
+     * Returns an element under the cursor and moves the cursor to the next one.
+     *
+     * @return an element under the cursor
+     */
+    protected abstract T next();
+
+    /**
+     * Copies elements starting from the cursor into the array and moves the cursor past them. Lists that keep several
+     * elements in a node override it to copy them in bulk.
+     *
+     * @param elements a batch to fill
+     * @param length   the maximum number of elements to copy
+     * @return the number of copied elements
+     */
+    protected int copy(Object[] elements, int length) {
+        int count = 0;
+        while (count < length && hasNext()) {
+            elements[count++] = next();
+        }
+        return count;
+    }
+
+    private int getRemaining() {
+        if (remaining < 0) {
+            remaining = bind();
+            expectedModCount = modCount();
+        }
+        return remaining;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        int available = getRemaining();
+        if (available <= 1 || !hasNext()) {
+            return null;
+        }
+        int batchSize = Math.min(Math.min(batch + BATCH_UNIT, available), MAX_BATCH);
+        var elements = new Object[batchSize];
+        int count = copy(elements, batchSize);
+        batch = count;
+        remaining -= count;
+        return Spliterators.spliterator(elements, 0, count, ORDERED);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        if (getRemaining() <= 0 || !hasNext()) {
+            return false;
+        }
+        var element = next();
+        remaining--;
+        action.accept(element);
+        checkForComodification();
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        for (int count = getRemaining(); count > 0 && hasNext(); count--) {
+            action.accept(next());
+        }
+        remaining = 0;
+        checkForComodification();
+    }
+
+    @Override
+    public long estimateSize() {
+        return getRemaining();
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED;
+    }
+
+    private void checkForComodification() {
+        if (modCount() != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+}
@@ -0,0 +1,571 @@
+package com.bobocode.cs;
+
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * {@link DoublyLinkedList} is a list implementation that is based on doubly linked generic nodes. A node is
+ * implemented as inner static class {@link Node<T>} and keeps references to both next and previous nodes.
+ * <p>
+ * Operations by index seek a node from the head or from the tail, whichever is closer, so accessing elements near
+ * the end of the list is as cheap as accessing elements near the beginning. Elements can be added and removed on both
+ * ends in constant time O(1). Iterators and spliterators are fail-fast, the same way as in {@link LinkedList}.
+ *
+ * @param <T> generic type parameter
+ */
+public class DoublyLinkedList<T> implements List<T> {
+    private Node<T> head;
+    private Node<T> tail;
+    private int size;
+    private int modCount;
+
+    private static class Node<T> {
+        T element;
+        Node<T> prev;
+        Node<T> next;
+
+        public Node(T element) {
+            this.element = element;
+        }
+    }
+
+    /**
+     * This method creates a list of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new list of elements the were passed as method parameters
+     */
+    public static <T> DoublyLinkedList<T> of(T... elements) {
+        var linkedList = new DoublyLinkedList<T>();
+        linkedList.addAll(0, elements);
+        return linkedList;
+    }
+
+    /**
+     * Adds an element to the end of the list. Operation is performed in constant time O(1)
+     *
+     * @param element element to add
+     */
+    @Override
+    public void add(T element) {
+        linkBefore(element, null);
+    }
+
+    /**
+     * Adds an element to the beginning of the list. Operation is performed in constant time O(1)
+     *
+     * @param element element to add
+     */
+    public void addFirst(T element) {
+        linkBefore(element, head);
+    }
+
+    /**
+     * Adds a new element to the specific position in the list. The position is found starting from the closer end of
+     * the list. In case provided index in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an index of new element
+     * @param element element to add
+     */
+    @Override
+    public void add(int index, T element) {
+        checkPositionIndex(index);
+        linkBefore(element, index == size ? null : node(index));
+    }
+
+    /**
+     * Adds all elements of provided collection to the end of the list. New nodes are linked to each other first, and
+     * then the whole chain is attached to the tail in constant time.
+     *
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        linkAll(size, elements);
+    }
+
+    /**
+     * Adds all provided elements to the specific position in the list. The position is found only once, starting from
+     * the closer end of the list, and the whole chain of new nodes is inserted there. In case provided index in out of
+     * the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index    an index of the first new element
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(int index, T[] elements) {
+        checkPositionIndex(index);
+        linkAll(index, Arrays.asList(elements));
+    }
+
+    /**
+     * Changes the value of a list element at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an position of element to change
+     * @param element a new element value
+     */
+    @Override
+    public void set(int index, T element) {
+        checkElementIndex(index);
+        node(index).element = element;
+    }
+
+    /**
+     * Retrieves an elements by its position index. The element is found starting from the closer end of the list.
+     * In case provided index in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return an element value
+     */
+    @Override
+    public T get(int index) {
+        checkElementIndex(index);
+        return node(index).element;
+    }
+
+    /**
+     * Returns the first element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the first element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    public T getFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return head.element;
+    }
+
+    /**
+     * Returns the last element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the last element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    public T getLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return tail.element;
+    }
+
+    /**
+     * Removes an elements by its position index. The element is found starting from the closer end of the list.
+     * In case provided index in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return deleted element
+     */
+    @Override
+    public T remove(int index) {
+        checkElementIndex(index);
+        return unlink(node(index));
+    }
+
+    /**
+     * Removes the first element of the list. Operation is performed in constant time O(1)
+     *
+     * @return deleted element
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    public T removeFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return unlink(head);
+    }
+
+    /**
+     * Removes the last element of the list. Operation is performed in constant time O(1)
+     *
+     * @return deleted element
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    public T removeLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return unlink(tail);
+    }
+
+    /**
+     * Removes all elements with index from range [fromIndex, toIndex). The first removed node is found starting from
+     * the closer end of the list, and the whole range is unlinked at once. In case provided range in out of the list
+     * bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param fromIndex index of the first element to remove
+     * @param toIndex   index after the last element to remove
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        var first = node(fromIndex);
+        var before = first.prev;
+        var after = first;
+        for (int i = fromIndex; i < toIndex; i++) {
+            after = after.next;
+        }
+        if (Objects.isNull(before)) {
+            head = after;
+        } else {
+            before.next = after;
+        }
+        if (Objects.isNull(after)) {
+            tail = before;
+        } else {
+            after.prev = before;
+        }
+        size -= toIndex - fromIndex;
+        modCount++;
+    }
+
+    /**
+     * Removes all elements that match provided filter. The list is traversed only once.
+     *
+     * @param filter a predicate that returns {@code true} for elements to remove
+     * @return {@code true} if any element was removed, {@code false} otherwise
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        boolean removed = false;
+        var current = head;
+        while (Objects.nonNull(current)) {
+            var next = current.next;
+            if (filter.test(current.element)) {
+                unlink(current);
+                removed = true;
+            }
+            current = next;
+        }
+        return removed;
+    }
+
+    /**
+     * Replaces each element of the list with the result of applying provided operator to that element.
+     *
+     * @param operator an operator to apply to each element
+     */
+    @Override
+    public void replaceAll(UnaryOperator<T> operator) {
+        Objects.requireNonNull(operator);
+        var current = head;
+        while (Objects.nonNull(current)) {
+            current.element = operator.apply(current.element);
+            current = current.next;
+        }
+    }
+
+    /**
+     * Checks if a specific exists in the list
+     *
+     * @return {@code true} if element exist, {@code false} otherwise
+     */
+    @Override
+    public boolean contains(T element) {
+        var current = head;
+        while (Objects.nonNull(current)) {
+            if (Objects.equals(current.element, element)) {
+                return true;
+            }
+            current = current.next;
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size < 1;
+    }
+
+    /**
+     * Returns the number of elements in the list
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all list elements
+     */
+    @Override
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns a fail-fast iterator over the list elements. Each step takes constant time, so a full pass is
+     * performed in linear time O(n).
+     *
+     * @return an iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new DoublyLinkedListIterator();
+    }
+
+    /**
+     * Returns a fail-fast list iterator that starts at the beginning of the list. Moving in both directions, removing,
+     * setting and adding elements take constant time O(1).
+     *
+     * @return a list iterator
+     */
+    @Override
+    public ListIterator<T> listIterator() {
+        return new DoublyLinkedListIterator();
+    }
+
+    /**
+     * Returns a fail-fast spliterator over the list elements. It reports {@link Spliterator#ORDERED},
+     * {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED} characteristics, and splits the list into batches
+     * the same way as {@link LinkedList#spliterator()}.
+     *
+     * @return a spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new DoublyLinkedListSpliterator();
+    }
+
+    private Node<T> node(int index) {
+        if (index < (size >> 1)) {
+            var current = head;
+            for (int i = 0; i < index; i++) {
+                current = current.next;
+            }
+            return current;
+        } else {
+            var current = tail;
+            for (int i = size - 1; i > index; i--) {
+                current = current.prev;
+            }
+            return current;
+        }
+    }
+
+    private void linkBefore(T element, Node<T> successor) {
+        var newNode = new Node<>(element);
+        var predecessor = Objects.isNull(successor) ? tail : successor.prev;
+        newNode.prev = predecessor;
+        newNode.next = successor;
+        if (Objects.isNull(predecessor)) {
+            head = newNode;
+        } else {
+            predecessor.next = newNode;
+        }
+        if (Objects.isNull(successor)) {
+            tail = newNode;
+        } else {
+            successor.prev = newNode;
+        }
+        size++;
+        modCount++;
+    }
+
+    private void linkAll(int index, Iterable<? extends T> elements) {
+        var successor = index == size ? null : node(index);
+        var predecessor = Objects.isNull(successor) ? tail : successor.prev;
+        var last = predecessor;
+        int count = 0;
+        for (T element : elements) {
+            var newNode = new Node<T>(element);
+            newNode.prev = last;
+            if (Objects.isNull(last)) {
+                head = newNode;
+            } else {
+                last.next = newNode;
+            }
+            last = newNode;
+            count++;
+        }
+        if (count == 0) {
+            return;
+        }
+        last.next = successor;
+        if (Objects.isNull(successor)) {
+            tail = last;
+        } else {
+            successor.prev = last;
+        }
+        size += count;
+        modCount++;
+    }
+
+    private T unlink(Node<T> node) {
+        var predecessor = node.prev;
+        var successor = node.next;
+        if (Objects.isNull(predecessor)) {
+            head = successor;
+        } else {
+            predecessor.next = successor;
+        }
+        if (Objects.isNull(successor)) {
+            tail = predecessor;
+        } else {
+            successor.prev = predecessor;
+        }
+        size--;
+        modCount++;
+        return node.element;
+    }
+
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private class DoublyLinkedListIterator implements ListIterator<T> {
+        private Node<T> nextNode = head;
+        private int nextIndex;
+        private Node<T> lastReturned;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = nextNode;
+            nextNode = nextNode.next;
+            nextIndex++;
+            return lastReturned.element;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public T previous() {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            nextNode = Objects.isNull(nextNode) ? tail : nextNode.prev;
+            lastReturned = nextNode;
+            nextIndex--;
+            return lastReturned.element;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (Objects.isNull(lastReturned)) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            var lastNext = lastReturned.next;
+            unlink(lastReturned);
+            if (nextNode == lastReturned) {
+                nextNode = lastNext;
+            } else {
+                nextIndex--;
+            }
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(T element) {
+            if (Objects.isNull(lastReturned)) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            lastReturned.element = element;
+        }
+
+        @Override
+        public void add(T element) {
+            checkForComodification();
+            linkBefore(element, nextNode);
+            nextIndex++;
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private class DoublyLinkedListSpliterator extends BatchSpliterator<T> {
+        private Node<T> current;
+
+        @Override
+        protected int bind() {
+            current = head;
+            return size;
+        }
+
+        @Override
+        protected int modCount() {
+            return modCount;
+        }
+
+        @Override
+        protected boolean hasNext() {
+            return Objects.nonNull(current);
+        }
+
+        @Override
+        protected T next() {
+            var element = current.element;
+            current = current.next;
+            return element;
+        }
+    }
+}
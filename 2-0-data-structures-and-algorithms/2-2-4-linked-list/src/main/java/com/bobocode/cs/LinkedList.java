@@ -1,12 +1,25 @@
 package com.bobocode.cs;
 
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
  * {@link LinkedList} is a list implementation that is based on singly linked generic nodes. A node is implemented as
  * inner static class {@link Node<T>}.
+ * <p>
+ * Use {@link LinkedList#iterator()} or {@link LinkedList#stream()} to walk through the list, since each call of
+ * {@link LinkedList#get(int)} traverses the list from the head. Iterators and spliterators are fail-fast: each
+ * structural modification increments a modification counter, so iterating over a list that was modified by anything
+ * but the iterator itself throws {@link ConcurrentModificationException}.
  *
  * @param <T> generic type parameter
  */
@@ -14,6 +27,7 @@ public class LinkedList<T> implements List<T> {
     private Node<T> head;
     private Node<T> tail;
     private int size;
+    private int modCount;
 
     private static class Node<T> {
         T element;
@@ -55,6 +69,7 @@ public class LinkedList<T> implements List<T> {
             tail = newNode;
         }
         size++;
+        modCount++;
     }
 
     /**
@@ -77,11 +92,45 @@ public class LinkedList<T> implements List<T> {
             }
             newNode.next = tempNode.next;
             tempNode.next = newNode;
+            if (index == size) {
+                tail = newNode;
+            }
         } else {
             newNode.next = head;
             head = newNode;
+            if (isEmpty()) {
+                tail = newNode;
+            }
         }
         size++;
+        modCount++;
+    }
+
+    /**
+     * Adds all elements of provided collection to the end of the list. New nodes are linked to each other first, and
+     * then the whole chain is attached to the tail in constant time.
+     *
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        linkAll(size, elements);
+    }
+
+    /**
+     * Adds all provided elements to the specific position in the list. The list is traversed only once to find
+     * the position, and the whole chain of new nodes is inserted there. In case provided index in out of the list
+     * bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index    an index of the first new element
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(int index, T[] elements) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        linkAll(index, Arrays.asList(elements));
     }
 
     /**
@@ -175,9 +224,94 @@ public class LinkedList<T> implements List<T> {
             head = head.next;
         }
         size--;
+        modCount++;
         return removedElement;
     }
 
+    /**
+     * Removes all elements with index from range [fromIndex, toIndex). The list is traversed only once, up to
+     * toIndex. In case provided range in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param fromIndex index of the first element to remove
+     * @param toIndex   index after the last element to remove
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        Node<T> previous = null;
+        var current = head;
+        for (int i = 0; i < fromIndex; i++) {
+            previous = current;
+            current = current.next;
+        }
+        for (int i = fromIndex; i < toIndex; i++) {
+            current = current.next;
+        }
+        if (Objects.isNull(previous)) {
+            head = current;
+        } else {
+            previous.next = current;
+        }
+        if (Objects.isNull(current)) {
+            tail = previous;
+        }
+        size -= toIndex - fromIndex;
+        modCount++;
+    }
+
+    /**
+     * Removes all elements that match provided filter. The list is traversed only once.
+     *
+     * @param filter a predicate that returns {@code true} for elements to remove
+     * @return {@code true} if any element was removed, {@code false} otherwise
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        int oldSize = size;
+        Node<T> previous = null;
+        var current = head;
+        while (Objects.nonNull(current)) {
+            if (filter.test(current.element)) {
+                if (Objects.isNull(previous)) {
+                    head = current.next;
+                } else {
+                    previous.next = current.next;
+                }
+                size--;
+            } else {
+                previous = current;
+            }
+            current = current.next;
+        }
+        tail = previous;
+        if (size < oldSize) {
+            modCount++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Replaces each element of the list with the result of applying provided operator to that element.
+     *
+     * @param operator an operator to apply to each element
+     */
+    @Override
+    public void replaceAll(UnaryOperator<T> operator) {
+        Objects.requireNonNull(operator);
+        var current = head;
+        while (Objects.nonNull(current)) {
+            current.element = operator.apply(current.element);
+            current = current.next;
+        }
+    }
+
     /**
      * Checks if a specific exists in the list
      *
@@ -223,6 +357,232 @@ public class LinkedList<T> implements List<T> {
         head = null;
         tail = null;
         size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns a fail-fast iterator over the list elements. Each step takes constant time, so a full pass is
+     * performed in linear time O(n).
+     *
+     * @return an iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new LinkedListIterator();
+    }
+
+    /**
+     * Returns a fail-fast list iterator that starts at the beginning of the list. Moving forward, removing, setting
+     * and adding elements take constant time. Nodes do not keep references to previous nodes, so
+     * {@link ListIterator#previous()} traverses the list from the head.
+     *
+     * @return a list iterator
+     */
+    @Override
+    public ListIterator<T> listIterator() {
+        return new LinkedListIterator();
+    }
+
+    /**
+     * Returns a fail-fast spliterator over the list elements. It reports {@link Spliterator#ORDERED},
+     * {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED} characteristics. Nodes cannot be split in halves
+     * without traversal, so each split copies a batch of elements into an array. Batches grow arithmetically, so
+     * parallel streams get enough work on large lists, while small lists are not split into tiny chunks.
+     *
+     * @return a spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new LinkedListSpliterator();
+    }
+
+    private void linkAll(int index, Iterable<? extends T> elements) {
+        Node<T> first = null;
+        Node<T> last = null;
+        int count = 0;
+        for (T element : elements) {
+            var newNode = new Node<T>(element);
+            if (Objects.isNull(first)) {
+                first = newNode;
+            } else {
+                last.next = newNode;
+            }
+            last = newNode;
+            count++;
+        }
+        if (Objects.isNull(first)) {
+            return;
+        }
+        if (index == 0) {
+            last.next = head;
+            head = first;
+        } else if (index == size) {
+            tail.next = first;
+        } else {
+            var previous = head;
+            for (int i = 0; i < index - 1; i++) {
+                previous = previous.next;
+            }
+            last.next = previous.next;
+            previous.next = first;
+        }
+        if (index == size) {
+            tail = last;
+        }
+        size += count;
+        modCount++;
+    }
+
+    private class LinkedListIterator implements ListIterator<T> {
+        private Node<T> previousNode;
+        private Node<T> nextNode = head;
+        private int nextIndex;
+        private Node<T> lastReturned;
+        private Node<T> beforeLastReturned;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            beforeLastReturned = previousNode;
+            lastReturned = nextNode;
+            previousNode = nextNode;
+            nextNode = nextNode.next;
+            nextIndex++;
+            return lastReturned.element;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public T previous() {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            Node<T> before = null;
+            var current = head;
+            for (int i = 0; i < nextIndex - 1; i++) {
+                before = current;
+                current = current.next;
+            }
+            nextNode = current;
+            previousNode = before;
+            nextIndex--;
+            lastReturned = current;
+            beforeLastReturned = before;
+            return current.element;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (Objects.isNull(lastReturned)) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            if (Objects.isNull(beforeLastReturned)) {
+                head = lastReturned.next;
+            } else {
+                beforeLastReturned.next = lastReturned.next;
+            }
+            if (lastReturned == tail) {
+                tail = beforeLastReturned;
+            }
+            if (lastReturned == previousNode) {
+                previousNode = beforeLastReturned;
+                nextIndex--;
+            } else {
+                nextNode = lastReturned.next;
+            }
+            lastReturned = null;
+            size--;
+            modCount++;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(T element) {
+            if (Objects.isNull(lastReturned)) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            lastReturned.element = element;
+        }
+
+        @Override
+        public void add(T element) {
+            checkForComodification();
+            var newNode = new Node<>(element);
+            newNode.next = nextNode;
+            if (Objects.isNull(previousNode)) {
+                head = newNode;
+            } else {
+                previousNode.next = newNode;
+            }
+            if (Objects.isNull(nextNode)) {
+                tail = newNode;
+            }
+            previousNode = newNode;
+            nextIndex++;
+            lastReturned = null;
+            size++;
+            modCount++;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private class LinkedListSpliterator extends BatchSpliterator<T> {
+        private Node<T> current;
+
+        @Override
+        protected int bind() {
+            current = head;
+            return size;
+        }
+
+        @Override
+        protected int modCount() {
+            return modCount;
+        }
+
+        @Override
+        protected boolean hasNext() {
+            return Objects.nonNull(current);
+        }
+
+        @Override
+        protected T next() {
+            var element = current.element;
+            current = current.next;
+            return element;
+        }
     }
 
     private void correctIndex(int index) {
@@ -0,0 +1,726 @@
+package com.bobocode.cs;
+
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * {@link UnrolledLinkedList} is a list implementation that is based on doubly linked nodes, where each node stores
+ * a small array of elements instead of a single one. Elements of a node are placed next to each other in memory, so
+ * the list needs much less memory per element than {@link LinkedList} and is iterated almost as fast as
+ * {@link java.util.ArrayList}.
+ * <p>
+ * Appending an element takes constant time O(1). Positional operations find a node starting from the closer end of
+ * the list, skipping a whole node at a time, and then shift at most one node of elements. A full node is split in
+ * two halves on insert, and a node that becomes less than half full on remove is merged with the next one when they
+ * fit into a single node.
+ * <p>
+ * Iterators and spliterators are fail-fast, the same way as in {@link LinkedList}.
+ *
+ * @param <T> generic type parameter
+ */
+public class UnrolledLinkedList<T> implements List<T> {
+    private static final int DEFAULT_NODE_CAPACITY = 64;
+
+    private Node<T> head;
+    private Node<T> tail;
+    private int size;
+    private int modCount;
+    private final int nodeCapacity;
+
+    private static class Node<T> {
+        Object[] elements;
+        int count;
+        Node<T> prev;
+        Node<T> next;
+
+        public Node(int capacity) {
+            this.elements = new Object[capacity];
+        }
+    }
+
+    /**
+     * This constructor creates an instance of {@link UnrolledLinkedList} that stores up to a specific number of
+     * elements in each node.
+     *
+     * @param nodeCapacity - the maximum number of elements in a node
+     * @throws IllegalArgumentException – if the specified node capacity is less than 2.
+     */
+    public UnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < 2) {
+            throw new IllegalArgumentException("Incorrect node capacity, should be > 1");
+        }
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    /**
+     * This constructor creates an instance of {@link UnrolledLinkedList} with a default node capacity.
+     */
+    public UnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * This method creates a list of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new list of elements the were passed as method parameters
+     */
+    public static <T> UnrolledLinkedList<T> of(T... elements) {
+        var list = new UnrolledLinkedList<T>();
+        list.addAll(0, elements);
+        return list;
+    }
+
+    /**
+     * Adds an element to the end of the list. Operation is performed in constant time O(1)
+     *
+     * @param element element to add
+     */
+    @Override
+    public void add(T element) {
+        if (Objects.isNull(tail) || tail.count == nodeCapacity) {
+            linkAfter(tail, new Node<>(nodeCapacity));
+        }
+        tail.elements[tail.count++] = element;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Adds a new element to the specific position in the list. Only elements of a single node are shifted. In case
+     * provided index in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an index of new element
+     * @param element element to add
+     */
+    @Override
+    public void add(int index, T element) {
+        checkPositionIndex(index);
+        if (index == size) {
+            add(element);
+            return;
+        }
+        var position = seek(index);
+        var node = position.node;
+        int offset = position.offset;
+        if (node.count == nodeCapacity) {
+            var newNode = splitAt(node, nodeCapacity >>> 1);
+            if (offset > node.count) {
+                offset -= node.count;
+                node = newNode;
+            }
+        }
+        System.arraycopy(node.elements, offset, node.elements, offset + 1, node.count - offset);
+        node.elements[offset] = element;
+        node.count++;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Adds all elements of provided collection to the end of the list. Elements are copied to the nodes in bulk.
+     *
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        insertAll(tail, elements.toArray());
+    }
+
+    /**
+     * Adds all provided elements to the specific position in the list. The node that contains the position is split
+     * only once, and new elements are copied to the nodes in bulk. In case provided index in out of the list bounds
+     * it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index    an index of the first new element
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(int index, T[] elements) {
+        checkPositionIndex(index);
+        if (elements.length == 0) {
+            return;
+        }
+        if (index == size) {
+            insertAll(tail, elements);
+            return;
+        }
+        var position = seek(index);
+        if (position.offset == 0) {
+            insertAll(position.node.prev, elements);
+        } else {
+            splitAt(position.node, position.offset);
+            insertAll(position.node, elements);
+        }
+    }
+
+    /**
+     * Changes the value of a list element at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an position of element to change
+     * @param element a new element value
+     */
+    @Override
+    public void set(int index, T element) {
+        checkElementIndex(index);
+        var position = seek(index);
+        position.node.elements[position.offset] = element;
+    }
+
+    /**
+     * Retrieves an elements by its position index. The node is found starting from the closer end of the list.
+     * In case provided index in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return an element value
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkElementIndex(index);
+        var position = seek(index);
+        return (T) position.node.elements[position.offset];
+    }
+
+    /**
+     * Returns the first element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the first element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return (T) head.elements[0];
+    }
+
+    /**
+     * Returns the last element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the last element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return (T) tail.elements[tail.count - 1];
+    }
+
+    /**
+     * Removes an elements by its position index. Only elements of a single node are shifted. In case provided index
+     * in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return deleted element
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T remove(int index) {
+        checkElementIndex(index);
+        var position = seek(index);
+        var node = position.node;
+        int offset = position.offset;
+        T removedElement = (T) node.elements[offset];
+        System.arraycopy(node.elements, offset + 1, node.elements, offset, node.count - offset - 1);
+        node.elements[--node.count] = null;
+        size--;
+        modCount++;
+        compact(node);
+        return removedElement;
+    }
+
+    /**
+     * Removes all elements with index from range [fromIndex, toIndex). Nodes that are fully covered by the range are
+     * unlinked without touching their elements. In case provided range in out of the list bounds it throws
+     * {@link IndexOutOfBoundsException}
+     *
+     * @param fromIndex index of the first element to remove
+     * @param toIndex   index after the last element to remove
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        var position = seek(fromIndex);
+        var first = position.node;
+        var node = first;
+        int offset = position.offset;
+        int remaining = toIndex - fromIndex;
+        while (remaining > 0) {
+            int removedCount = Math.min(remaining, node.count - offset);
+            var next = node.next;
+            if (removedCount == node.count) {
+                node.count = 0;
+                unlink(node);
+            } else {
+                System.arraycopy(node.elements, offset + removedCount, node.elements, offset,
+                        node.count - offset - removedCount);
+                Arrays.fill(node.elements, node.count - removedCount, node.count, null);
+                node.count -= removedCount;
+            }
+            remaining -= removedCount;
+            node = next;
+            offset = 0;
+        }
+        size -= toIndex - fromIndex;
+        modCount++;
+        if (first.count > 0) {
+            compact(first);
+        }
+    }
+
+    /**
+     * Removes all elements that match provided filter. The list is traversed only once, remaining elements are packed
+     * into the first nodes, and the nodes that are no longer needed are unlinked.
+     *
+     * @param filter a predicate that returns {@code true} for elements to remove
+     * @return {@code true} if any element was removed, {@code false} otherwise
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        var writeNode = head;
+        int writeOffset = 0;
+        int removedCount = 0;
+        for (var node = head; Objects.nonNull(node); node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                var element = (T) node.elements[i];
+                if (filter.test(element)) {
+                    removedCount++;
+                    continue;
+                }
+                if (writeOffset == nodeCapacity) {
+                    writeNode.count = nodeCapacity;
+                    writeNode = writeNode.next;
+                    writeOffset = 0;
+                }
+                writeNode.elements[writeOffset++] = element;
+            }
+        }
+        if (removedCount == 0) {
+            return false;
+        }
+        if (writeOffset == 0) {
+            head = null;
+            tail = null;
+        } else {
+            Arrays.fill(writeNode.elements, writeOffset, nodeCapacity, null);
+            writeNode.count = writeOffset;
+            writeNode.next = null;
+            tail = writeNode;
+        }
+        size -= removedCount;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Replaces each element of the list with the result of applying provided operator to that element.
+     *
+     * @param operator an operator to apply to each element
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void replaceAll(UnaryOperator<T> operator) {
+        Objects.requireNonNull(operator);
+        for (var node = head; Objects.nonNull(node); node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                node.elements[i] = operator.apply((T) node.elements[i]);
+            }
+        }
+    }
+
+    /**
+     * Checks if a specific exists in the list
+     *
+     * @return {@code true} if element exist, {@code false} otherwise
+     */
+    @Override
+    public boolean contains(T element) {
+        for (var node = head; Objects.nonNull(node); node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                if (Objects.equals(node.elements[i], element)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size < 1;
+    }
+
+    /**
+     * Returns the number of elements in the list
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all list elements
+     */
+    @Override
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns a fail-fast iterator over the list elements. Elements of a node are read one by one, so a full pass
+     * is performed in linear time O(n).
+     *
+     * @return an iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new UnrolledLinkedListIterator();
+    }
+
+    /**
+     * Returns a fail-fast list iterator that starts at the beginning of the list. Moving in both directions and
+     * setting elements take constant time O(1). Removing and adding elements are performed by index, so the iterator
+     * finds its node again after each of them.
+     *
+     * @return a list iterator
+     */
+    @Override
+    public ListIterator<T> listIterator() {
+        return new UnrolledLinkedListIterator();
+    }
+
+    /**
+     * Returns a fail-fast spliterator over the list elements. It reports {@link Spliterator#ORDERED},
+     * {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED} characteristics, and splits the list into batches
+     * that are copied from the nodes in bulk.
+     *
+     * @return a spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new UnrolledLinkedListSpliterator();
+    }
+
+    private Position seek(int index) {
+        Node<T> current;
+        int offset;
+        if (index < (size >> 1)) {
+            current = head;
+            offset = index;
+            while (offset >= current.count) {
+                offset -= current.count;
+                current = current.next;
+            }
+        } else {
+            current = tail;
+            int start = size - current.count;
+            while (index < start) {
+                current = current.prev;
+                start -= current.count;
+            }
+            offset = index - start;
+        }
+        return new Position(current, offset);
+    }
+
+    private void linkAfter(Node<T> predecessor, Node<T> newNode) {
+        var successor = Objects.isNull(predecessor) ? head : predecessor.next;
+        newNode.prev = predecessor;
+        newNode.next = successor;
+        if (Objects.isNull(predecessor)) {
+            head = newNode;
+        } else {
+            predecessor.next = newNode;
+        }
+        if (Objects.isNull(successor)) {
+            tail = newNode;
+        } else {
+            successor.prev = newNode;
+        }
+    }
+
+    private void unlink(Node<T> node) {
+        if (Objects.isNull(node.prev)) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (Objects.isNull(node.next)) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+    }
+
+    private Node<T> splitAt(Node<T> node, int offset) {
+        var newNode = new Node<T>(nodeCapacity);
+        newNode.count = node.count - offset;
+        System.arraycopy(node.elements, offset, newNode.elements, 0, newNode.count);
+        Arrays.fill(node.elements, offset, node.count, null);
+        node.count = offset;
+        linkAfter(node, newNode);
+        return newNode;
+    }
+
+    private void insertAll(Node<T> predecessor, Object[] elements) {
+        int copied = 0;
+        if (Objects.nonNull(predecessor)) {
+            copied = Math.min(nodeCapacity - predecessor.count, elements.length);
+            System.arraycopy(elements, 0, predecessor.elements, predecessor.count, copied);
+            predecessor.count += copied;
+        }
+        var last = predecessor;
+        while (copied < elements.length) {
+            var newNode = new Node<T>(nodeCapacity);
+            newNode.count = Math.min(nodeCapacity, elements.length - copied);
+            System.arraycopy(elements, copied, newNode.elements, 0, newNode.count);
+            linkAfter(last, newNode);
+            copied += newNode.count;
+            last = newNode;
+        }
+        size += elements.length;
+        modCount++;
+    }
+
+    private void compact(Node<T> node) {
+        if (node.count == 0) {
+            unlink(node);
+            return;
+        }
+        var next = node.next;
+        if (node.count < (nodeCapacity >>> 1) && Objects.nonNull(next) && node.count + next.count <= nodeCapacity) {
+            System.arraycopy(next.elements, 0, node.elements, node.count, next.count);
+            node.count += next.count;
+            unlink(next);
+        }
+    }
+
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * A node found by {@link #seek(int)} and an offset of the element inside it. It is returned instead of being kept
+     * in the list, so reading threads do not share it.
+     */
+    private class Position {
+        final Node<T> node;
+        final int offset;
+
+        Position(Node<T> node, int offset) {
+            this.node = node;
+            this.offset = offset;
+        }
+    }
+
+    private class UnrolledLinkedListIterator implements ListIterator<T> {
+        private Node<T> nextNode = head;
+        private int nextOffset;
+        private int nextIndex;
+        private Node<T> lastNode;
+        private int lastOffset;
+        private int lastIndex = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastNode = nextNode;
+            lastOffset = nextOffset;
+            lastIndex = nextIndex;
+            nextIndex++;
+            if (++nextOffset == nextNode.count) {
+                nextNode = nextNode.next;
+                nextOffset = 0;
+            }
+            return (T) lastNode.elements[lastOffset];
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T previous() {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            if (Objects.isNull(nextNode)) {
+                nextNode = tail;
+                nextOffset = tail.count - 1;
+            } else if (nextOffset == 0) {
+                nextNode = nextNode.prev;
+                nextOffset = nextNode.count - 1;
+            } else {
+                nextOffset--;
+            }
+            nextIndex--;
+            lastNode = nextNode;
+            lastOffset = nextOffset;
+            lastIndex = nextIndex;
+            return (T) lastNode.elements[lastOffset];
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastIndex < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            UnrolledLinkedList.this.remove(lastIndex);
+            if (lastIndex < nextIndex) {
+                nextIndex--;
+            }
+            lastIndex = -1;
+            reposition();
+        }
+
+        @Override
+        public void set(T element) {
+            if (lastIndex < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            lastNode.elements[lastOffset] = element;
+        }
+
+        @Override
+        public void add(T element) {
+            checkForComodification();
+            UnrolledLinkedList.this.add(nextIndex++, element);
+            lastIndex = -1;
+            reposition();
+        }
+
+        private void reposition() {
+            if (nextIndex == size) {
+                nextNode = null;
+                nextOffset = 0;
+            } else {
+                var position = seek(nextIndex);
+                nextNode = position.node;
+                nextOffset = position.offset;
+            }
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private class UnrolledLinkedListSpliterator extends BatchSpliterator<T> {
+        private Node<T> current;
+        private int offset;
+
+        @Override
+        protected int bind() {
+            current = head;
+            offset = 0;
+            return size;
+        }
+
+        @Override
+        protected int modCount() {
+            return modCount;
+        }
+
+        @Override
+        protected boolean hasNext() {
+            return Objects.nonNull(current);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected T next() {
+            var element = (T) current.elements[offset];
+            if (++offset == current.count) {
+                current = current.next;
+                offset = 0;
+            }
+            return element;
+        }
+
+        @Override
+        protected int copy(Object[] elements, int length) {
+            int count = 0;
+            while (count < length && Objects.nonNull(current)) {
+                int copied = Math.min(current.count - offset, length - count);
+                System.arraycopy(current.elements, offset, elements, count, copied);
+                count += copied;
+                offset += copied;
+                if (offset == current.count) {
+                    current = current.next;
+                    offset = 0;
+                }
+            }
+            return count;
+        }
+    }
+}
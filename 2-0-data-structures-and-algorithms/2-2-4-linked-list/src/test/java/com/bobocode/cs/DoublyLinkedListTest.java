@@ -0,0 +1,306 @@
+package com.bobocode.cs;
+
+
+import org.junit.jupiter.api.*;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class DoublyLinkedListTest {
+
+    private DoublyLinkedList<Integer> intList = new DoublyLinkedList<>();
+
+    @Test
+    @Order(1)
+    void addToEmptyList() {
+        intList.add(41);
+
+        assertThat(intList.size()).isEqualTo(1);
+        assertThat(intList.getFirst()).isEqualTo(41);
+        assertThat(intList.getLast()).isEqualTo(41);
+    }
+
+    @Test
+    @Order(2)
+    void addFirst() {
+        intList.add(2);
+        intList.addFirst(1);
+        intList.addFirst(0);
+
+        assertThat(intList.stream().toArray()).isEqualTo(new Object[]{0, 1, 2});
+        assertThat(intList.getLast()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(3)
+    void addFirstToEmptyList() {
+        intList.addFirst(1);
+        intList.add(2);
+
+        assertThat(intList.getFirst()).isEqualTo(1);
+        assertThat(intList.getLast()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(4)
+    void addByIndex() {
+        intList = DoublyLinkedList.of(0, 1, 3, 5);
+
+        intList.add(2, 2);
+        intList.add(4, 4);
+        intList.add(6, 6);
+        intList.add(0, -1);
+
+        assertThat(intList.stream().toArray()).isEqualTo(new Object[]{-1, 0, 1, 2, 3, 4, 5, 6});
+        assertThat(intList.getFirst()).isEqualTo(-1);
+        assertThat(intList.getLast()).isEqualTo(6);
+    }
+
+    @Test
+    @Order(5)
+    void addByNegativeIndex() {
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.add(-1, 66));
+    }
+
+    @Test
+    @Order(6)
+    void addByIndexLargerThanSize() {
+        intList = DoublyLinkedList.of(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.add(3, 66));
+    }
+
+    @Test
+    @Order(7)
+    void getFromBothHalves() {
+        intList = DoublyLinkedList.of(0, 1, 2, 3, 4, 5, 6, 7, 8);
+
+        for (int i = 0; i < intList.size(); i++) {
+            assertThat(intList.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @Order(8)
+    void getByIndexEqualToSize() {
+        intList = DoublyLinkedList.of(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.get(2));
+    }
+
+    @Test
+    @Order(9)
+    void setNearTheTail() {
+        intList = DoublyLinkedList.of(0, 1, 2, 3, 4, 5);
+
+        intList.set(4, 40);
+        intList.set(1, 10);
+
+        assertThat(intList.stream().toArray()).isEqualTo(new Object[]{0, 10, 2, 3, 40, 5});
+    }
+
+    @Test
+    @Order(10)
+    void getFirstAndLastOfEmptyList() {
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> intList.getFirst());
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> intList.getLast());
+    }
+
+    @Test
+    @Order(11)
+    void removeByIndex() {
+        intList = DoublyLinkedList.of(0, 1, 2, 3, 4, 5);
+
+        assertThat(intList.remove(4)).isEqualTo(4);
+        assertThat(intList.remove(0)).isEqualTo(0);
+        assertThat(intList.remove(3)).isEqualTo(5);
+
+        assertThat(intList.stream().toArray()).isEqualTo(new Object[]{1, 2, 3});
+        assertThat(intList.getFirst()).isEqualTo(1);
+        assertThat(intList.getLast()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(12)
+    void removeLast() {
+        intList = DoublyLinkedList.of(1, 2, 3);
+
+        assertThat(intList.removeLast()).isEqualTo(3);
+        assertThat(intList.removeLast()).isEqualTo(2);
+        intList.add(4);
+
+        assertThat(intList.stream().toArray()).isEqualTo(new Object[]{1, 4});
+        assertThat(intList.getLast()).isEqualTo(4);
+    }
+
+    @Test
+    @Order(13)
+    void removeFirstAndLastUntilEmpty() {
+        intList = DoublyLinkedList.of(1, 2, 3);
+
+        assertThat(intList.removeFirst()).isEqualTo(1);
+        assertThat(intList.removeLast()).isEqualTo(3);
+        assertThat(intList.removeLast()).isEqualTo(2);
+
+        assertThat(intList.isEmpty()).isTrue();
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> intList.removeLast());
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> intList.removeFirst());
+    }
+
+    @Test
+    @Order(14)
+    void addAllByIndex() {
+        intList = DoublyLinkedList.of(1, 5);
+
+        intList.addAll(1, new Integer[]{2, 3, 4});
+        intList.addAll(5, new Integer[]{6});
+        intList.addAll(0, new Integer[]{});
+
+        assertThat(intList.stream().toArray()).isEqualTo(new Object[]{1, 2, 3, 4, 5, 6});
+        assertThat(intList.getLast()).isEqualTo(6);
+    }
+
+    @Test
+    @Order(15)
+    void addAllToEmptyList() {
+        intList.addAll(IntStream.range(0, 5).boxed().collect(Collectors.toList()));
+
+        assertThat(intList.size()).isEqualTo(5);
+        assertThat(intList.getFirst()).isEqualTo(0);
+        assertThat(intList.getLast()).isEqualTo(4);
+        assertThat(intList.get(3)).isEqualTo(3);
+    }
+
+    @Test
+    @Order(16)
+    void removeRange() {
+        intList = DoublyLinkedList.of(0, 1, 2, 3, 4, 5, 6);
+
+        intList.removeRange(4, 7);
+        intList.removeRange(0, 1);
+
+        assertThat(intList.stream().toArray()).isEqualTo(new Object[]{1, 2, 3});
+        assertThat(intList.getFirst()).isEqualTo(1);
+        assertThat(intList.getLast()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(17)
+    void removeRangeOutOfBounds() {
+        intList = DoublyLinkedList.of(0, 1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.removeRange(1, 4));
+    }
+
+    @Test
+    @Order(18)
+    void removeIf() {
+        intList = DoublyLinkedList.of(0, 1, 2, 3, 4, 5);
+
+        boolean removed = intList.removeIf(e -> e % 2 == 1);
+
+        assertThat(removed).isTrue();
+        assertThat(intList.stream().toArray()).isEqualTo(new Object[]{0, 2, 4});
+        assertThat(intList.getLast()).isEqualTo(4);
+    }
+
+    @Test
+    @Order(19)
+    void replaceAllAndContains() {
+        intList = DoublyLinkedList.of(1, 2, 3);
+
+        intList.replaceAll(e -> e * 10);
+
+        assertThat(intList.contains(20)).isTrue();
+        assertThat(intList.contains(2)).isFalse();
+    }
+
+    @Test
+    @Order(20)
+    void clear() {
+        intList = DoublyLinkedList.of(1, 2, 3);
+
+        intList.clear();
+        intList.add(4);
+
+        assertThat(intList.size()).isEqualTo(1);
+        assertThat(intList.getFirst()).isEqualTo(4);
+        assertThat(intList.getLast()).isEqualTo(4);
+    }
+
+    @Test
+    @Order(21)
+    void listIteratorMovesBackward() {
+        intList = DoublyLinkedList.of(1, 2, 3);
+        var iterator = intList.listIterator();
+        while (iterator.hasNext()) {
+            iterator.next();
+        }
+
+        assertThat(iterator.previous()).isEqualTo(3);
+        assertThat(iterator.previous()).isEqualTo(2);
+        assertThat(iterator.previousIndex()).isEqualTo(0);
+        assertThat(iterator.previous()).isEqualTo(1);
+        assertThat(iterator.hasPrevious()).isFalse();
+    }
+
+    @Test
+    @Order(22)
+    void listIteratorModifiesList() {
+        intList = DoublyLinkedList.of(1, 2, 3);
+        var iterator = intList.listIterator();
+
+        iterator.next();
+        iterator.remove();
+        iterator.next();
+        iterator.set(20);
+        iterator.add(25);
+        iterator.next();
+        iterator.previous();
+        iterator.remove();
+
+        assertThat(intList.stream().toArray()).isEqualTo(new Object[]{20, 25});
+        assertThat(intList.getLast()).isEqualTo(25);
+    }
+
+    @Test
+    @Order(23)
+    void iteratorFailsFastOnConcurrentModification() {
+        intList = DoublyLinkedList.of(1, 2, 3);
+        var iterator = intList.iterator();
+        iterator.next();
+
+        intList.removeLast();
+
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(24)
+    void parallelStreamKeepsOrder() {
+        intList.addAll(IntStream.range(0, 10_000).boxed().collect(Collectors.toList()));
+
+        var elements = intList.parallelStream()
+                .map(e -> e * 2)
+                .collect(Collectors.toList());
+
+        assertThat(elements.size()).isEqualTo(10_000);
+        assertThat(elements.get(9_999)).isEqualTo(19_998);
+        assertThat(intList.parallelStream().mapToLong(Integer::longValue).sum()).isEqualTo(49_995_000L);
+    }
+}
@@ -8,8 +8,12 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
+import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
@@ -491,6 +495,320 @@ public class LinkedListTest {
                 .isThrownBy(() -> getInternalElement(0));
     }
 
+    @Test
+    @Order(42)
+    void addAllCollection() {
+        addInternalElements(1);
+
+        intList.addAll(java.util.List.of(2, 3, 4));
+
+        assertThat(getInternalElement(1)).isEqualTo(2);
+        assertThat(getInternalElement(3)).isEqualTo(4);
+        assertThat(intList.getLast()).isEqualTo(4);
+        assertThat(getInternalSize()).isEqualTo(4);
+    }
+
+    @Test
+    @Order(43)
+    void addAllCollectionIntoEmptyList() {
+        intList.addAll(java.util.List.of(1, 2));
+
+        assertThat(intList.getFirst()).isEqualTo(1);
+        assertThat(intList.getLast()).isEqualTo(2);
+        assertThat(getInternalSize()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(44)
+    void addAllByIndex() {
+        addInternalElements(1, 2, 5);
+
+        intList.addAll(2, new Integer[]{3, 4});
+
+        assertThat(getInternalElement(1)).isEqualTo(2);
+        assertThat(getInternalElement(2)).isEqualTo(3);
+        assertThat(getInternalElement(3)).isEqualTo(4);
+        assertThat(getInternalElement(4)).isEqualTo(5);
+        assertThat(getInternalSize()).isEqualTo(5);
+    }
+
+    @Test
+    @Order(45)
+    void addAllByIndexEqualToSizeUpdatesTail() {
+        addInternalElements(1, 2);
+
+        intList.addAll(2, new Integer[]{3, 4});
+        intList.add(5);
+
+        assertThat(getInternalElement(4)).isEqualTo(5);
+        assertThat(intList.getLast()).isEqualTo(5);
+    }
+
+    @Test
+    @Order(46)
+    void addAllByNegativeIndex() {
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.addAll(-1, new Integer[]{1}));
+    }
+
+    @Test
+    @Order(47)
+    void removeRange() {
+        addInternalElements(1, 2, 3, 4, 5);
+
+        intList.removeRange(1, 3);
+
+        assertThat(getInternalElement(0)).isEqualTo(1);
+        assertThat(getInternalElement(1)).isEqualTo(4);
+        assertThat(getInternalElement(2)).isEqualTo(5);
+        assertThat(getInternalSize()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(48)
+    void removeRangeUpToTheEndUpdatesTail() {
+        addInternalElements(1, 2, 3, 4);
+
+        intList.removeRange(2, 4);
+
+        assertThat(intList.getLast()).isEqualTo(2);
+        assertThat(getInternalSize()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(49)
+    void removeRangeOutOfBounds() {
+        addInternalElements(1, 2, 3);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.removeRange(1, 4));
+    }
+
+    @Test
+    @Order(50)
+    void removeIf() {
+        addInternalElements(2, 1, 2, 3, 4);
+
+        boolean removed = intList.removeIf(e -> e % 2 == 0);
+
+        assertThat(removed).isTrue();
+        assertThat(getInternalElement(0)).isEqualTo(1);
+        assertThat(getInternalElement(1)).isEqualTo(3);
+        assertThat(intList.getLast()).isEqualTo(3);
+        assertThat(getInternalSize()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(51)
+    void removeIfRemovesAllElements() {
+        addInternalElements(2, 4);
+
+        intList.removeIf(e -> e % 2 == 0);
+
+        assertThat(intList.isEmpty()).isTrue();
+        intList.add(6);
+        assertThat(intList.getFirst()).isEqualTo(6);
+        assertThat(intList.getLast()).isEqualTo(6);
+    }
+
+    @Test
+    @Order(52)
+    void replaceAll() {
+        addInternalElements(1, 2, 3);
+
+        intList.replaceAll(e -> e * 10);
+
+        assertThat(getInternalElement(0)).isEqualTo(10);
+        assertThat(getInternalElement(2)).isEqualTo(30);
+    }
+
+    @Test
+    @Order(53)
+    void iterator() {
+        addInternalElements(1, 2, 3);
+        var elements = new java.util.ArrayList<Integer>();
+
+        for (Integer element : intList) {
+            elements.add(element);
+        }
+
+        assertThat(elements.toArray()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @Order(54)
+    void iteratorOfEmptyList() {
+        var iterator = intList.iterator();
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(55)
+    void iteratorRemove() {
+        addInternalElements(1, 2, 3, 4);
+
+        var iterator = intList.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+
+        assertThat(intList.size()).isEqualTo(2);
+        assertThat(intList.get(1)).isEqualTo(3);
+        assertThat(intList.getLast()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(56)
+    void iteratorRemoveWithoutNext() {
+        addInternalElements(1, 2);
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> intList.iterator().remove());
+    }
+
+    @Test
+    @Order(57)
+    void iteratorFailsFastOnConcurrentModification() {
+        addInternalElements(1, 2, 3);
+        var iterator = intList.iterator();
+        iterator.next();
+
+        intList.add(4);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(58)
+    void listIteratorMovesInBothDirections() {
+        addInternalElements(1, 2, 3);
+        var iterator = intList.listIterator();
+
+        assertThat(iterator.next()).isEqualTo(1);
+        assertThat(iterator.next()).isEqualTo(2);
+        assertThat(iterator.previousIndex()).isEqualTo(1);
+        assertThat(iterator.previous()).isEqualTo(2);
+        assertThat(iterator.previous()).isEqualTo(1);
+        assertThat(iterator.hasPrevious()).isFalse();
+    }
+
+    @Test
+    @Order(59)
+    void listIteratorSetAndAdd() {
+        addInternalElements(1, 2, 4);
+        var iterator = intList.listIterator();
+
+        iterator.next();
+        iterator.set(10);
+        iterator.next();
+        iterator.add(3);
+        iterator.next();
+        iterator.add(5);
+
+        assertThat(intList.size()).isEqualTo(5);
+        assertThat(intList.get(0)).isEqualTo(10);
+        assertThat(intList.get(2)).isEqualTo(3);
+        assertThat(intList.getLast()).isEqualTo(5);
+    }
+
+    @Test
+    @Order(60)
+    void listIteratorRemoveAfterPrevious() {
+        addInternalElements(1, 2, 3);
+        var iterator = intList.listIterator();
+        iterator.next();
+        iterator.next();
+
+        iterator.previous();
+        iterator.remove();
+
+        assertThat(iterator.next()).isEqualTo(3);
+        assertThat(intList.size()).isEqualTo(2);
+        assertThat(intList.get(1)).isEqualTo(3);
+    }
+
+    @Test
+    @Order(61)
+    void spliteratorIsSized() {
+        addInternalElements(1, 2, 3, 4, 5);
+
+        var spliterator = intList.spliterator();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(5);
+    }
+
+    @Test
+    @Order(62)
+    void stream() {
+        addInternalElements(1, 2, 3);
+
+        int sum = intList.stream().mapToInt(Integer::intValue).sum();
+
+        assertThat(sum).isEqualTo(6);
+    }
+
+    @Test
+    @Order(63)
+    void parallelStreamKeepsOrder() {
+        intList.addAll(IntStream.range(0, 10_000).boxed().collect(Collectors.toList()));
+
+        var elements = intList.parallelStream()
+                .map(e -> e * 2)
+                .collect(Collectors.toList());
+
+        assertThat(elements.size()).isEqualTo(10_000);
+        assertThat(elements.get(0)).isEqualTo(0);
+        assertThat(elements.get(9_999)).isEqualTo(19_998);
+        assertThat(intList.parallelStream().mapToLong(Integer::longValue).sum()).isEqualTo(49_995_000L);
+    }
+
+    @Test
+    @Order(64)
+    void spliteratorFailsFastOnConcurrentModification() {
+        addInternalElements(1, 2, 3);
+        var spliterator = intList.spliterator();
+        spliterator.tryAdvance(e -> {
+        });
+
+        intList.add(4);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(() -> spliterator.forEachRemaining(e -> {
+                }));
+    }
+
+    @Test
+    @Order(65)
+    void addByIndexToTheEndUpdatesTail() {
+        intList.add(1);
+        intList.add(2);
+
+        intList.add(2, 3);
+        intList.add(4);
+
+        assertThat(intList.getLast()).isEqualTo(4);
+        assertThat(intList.stream().toArray()).isEqualTo(new Object[]{1, 2, 3, 4});
+    }
+
+    @Test
+    @Order(66)
+    void addByZeroIndexToEmptyListUpdatesTail() {
+        intList.add(0, 1);
+        intList.add(2);
+
+        assertThat(intList.getLast()).isEqualTo(2);
+        assertThat(intList.stream().toArray()).isEqualTo(new Object[]{1, 2});
+    }
+
     @SneakyThrows
     private int getInternalElement(int index) {
 
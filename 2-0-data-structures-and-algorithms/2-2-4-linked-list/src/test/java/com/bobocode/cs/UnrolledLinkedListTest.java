@@ -0,0 +1,281 @@
+package com.bobocode.cs;
+
+
+import org.junit.jupiter.api.*;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class UnrolledLinkedListTest {
+
+    private UnrolledLinkedList<Integer> intList = new UnrolledLinkedList<>(4);
+
+    @Test
+    @Order(1)
+    void createWithIncorrectNodeCapacity() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new UnrolledLinkedList<Integer>(1));
+    }
+
+    @Test
+    @Order(2)
+    void addToSeveralNodes() {
+        IntStream.range(0, 10).forEach(intList::add);
+
+        assertThat(intList.size()).isEqualTo(10);
+        assertThat(intList.getFirst()).isEqualTo(0);
+        assertThat(intList.getLast()).isEqualTo(9);
+        assertThat(intList.stream().toArray()).isEqualTo(new Object[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9});
+    }
+
+    @Test
+    @Order(3)
+    void getFromBothHalves() {
+        IntStream.range(0, 13).forEach(intList::add);
+
+        for (int i = 0; i < intList.size(); i++) {
+            assertThat(intList.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @Order(4)
+    void addByIndexToFullNode() {
+        IntStream.range(0, 8).forEach(intList::add);
+
+        intList.add(1, 10);
+        intList.add(7, 70);
+        intList.add(0, -1);
+
+        assertThat(intList.stream().toArray()).isEqualTo(new Object[]{-1, 0, 10, 1, 2, 3, 4, 5, 70, 6, 7});
+        assertThat(intList.getLast()).isEqualTo(7);
+    }
+
+    @Test
+    @Order(5)
+    void addByIndexOutOfBounds() {
+        intList.add(1);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.add(2, 66));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.add(-1, 66));
+    }
+
+    @Test
+    @Order(6)
+    void setByIndex() {
+        IntStream.range(0, 10).forEach(intList::add);
+
+        intList.set(2, 20);
+        intList.set(8, 80);
+
+        assertThat(intList.get(2)).isEqualTo(20);
+        assertThat(intList.get(8)).isEqualTo(80);
+    }
+
+    @Test
+    @Order(7)
+    void getFirstAndLastOfEmptyList() {
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> intList.getFirst());
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> intList.getLast());
+    }
+
+    @Test
+    @Order(8)
+    void removeByIndexUntilEmpty() {
+        IntStream.range(0, 10).forEach(intList::add);
+
+        assertThat(intList.remove(9)).isEqualTo(9);
+        assertThat(intList.remove(0)).isEqualTo(0);
+        assertThat(intList.remove(3)).isEqualTo(4);
+        assertThat(intList.stream().toArray()).isEqualTo(new Object[]{1, 2, 3, 5, 6, 7, 8});
+
+        while (!intList.isEmpty()) {
+            intList.remove(intList.size() / 2);
+        }
+        intList.add(1);
+
+        assertThat(intList.getFirst()).isEqualTo(1);
+        assertThat(intList.getLast()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(9)
+    void addAllByIndex() {
+        intList.addAll(0, new Integer[]{0, 1, 2, 3, 4, 9});
+
+        intList.addAll(5, new Integer[]{5, 6, 7, 8});
+        intList.addAll(0, new Integer[]{-2, -1});
+        intList.addAll(12, new Integer[]{10});
+
+        assertThat(intList.stream().toArray())
+                .isEqualTo(new Object[]{-2, -1, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10});
+        assertThat(intList.get(11)).isEqualTo(9);
+    }
+
+    @Test
+    @Order(10)
+    void addAllCollection() {
+        intList.add(0);
+        intList.addAll(IntStream.range(1, 10).boxed().collect(Collectors.toList()));
+
+        assertThat(intList.size()).isEqualTo(10);
+        assertThat(intList.getLast()).isEqualTo(9);
+        assertThat(intList.get(5)).isEqualTo(5);
+    }
+
+    @Test
+    @Order(11)
+    void removeRangeAcrossNodes() {
+        IntStream.range(0, 14).forEach(intList::add);
+
+        intList.removeRange(2, 11);
+
+        assertThat(intList.stream().toArray()).isEqualTo(new Object[]{0, 1, 11, 12, 13});
+        assertThat(intList.get(3)).isEqualTo(12);
+    }
+
+    @Test
+    @Order(12)
+    void removeRangeOutOfBounds() {
+        IntStream.range(0, 3).forEach(intList::add);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.removeRange(1, 4));
+    }
+
+    @Test
+    @Order(13)
+    void removeIfPacksNodes() {
+        IntStream.range(0, 15).forEach(intList::add);
+
+        boolean removed = intList.removeIf(e -> e % 3 != 0);
+
+        assertThat(removed).isTrue();
+        assertThat(intList.stream().toArray()).isEqualTo(new Object[]{0, 3, 6, 9, 12});
+        assertThat(intList.getLast()).isEqualTo(12);
+        intList.add(15);
+        assertThat(intList.get(5)).isEqualTo(15);
+    }
+
+    @Test
+    @Order(14)
+    void removeIfRemovesAll() {
+        IntStream.range(0, 7).forEach(intList::add);
+
+        intList.removeIf(e -> true);
+
+        assertThat(intList.isEmpty()).isTrue();
+        assertThat(intList.removeIf(e -> true)).isFalse();
+    }
+
+    @Test
+    @Order(15)
+    void replaceAllAndContains() {
+        IntStream.range(0, 7).forEach(intList::add);
+
+        intList.replaceAll(e -> e * 10);
+
+        assertThat(intList.contains(60)).isTrue();
+        assertThat(intList.contains(6)).isFalse();
+    }
+
+    @Test
+    @Order(16)
+    void listIteratorMovesBackward() {
+        IntStream.range(0, 6).forEach(intList::add);
+        var iterator = intList.listIterator();
+        while (iterator.hasNext()) {
+            iterator.next();
+        }
+
+        for (int i = 5; i >= 0; i--) {
+            assertThat(iterator.previous()).isEqualTo(i);
+        }
+        assertThat(iterator.hasPrevious()).isFalse();
+    }
+
+    @Test
+    @Order(17)
+    void listIteratorModifiesList() {
+        IntStream.range(0, 6).forEach(intList::add);
+        var iterator = intList.listIterator();
+
+        while (iterator.hasNext()) {
+            int element = iterator.next();
+            if (element % 2 == 0) {
+                iterator.remove();
+            } else {
+                iterator.set(element * 10);
+                iterator.add(element * 10 + 1);
+            }
+        }
+
+        assertThat(intList.stream().toArray()).isEqualTo(new Object[]{10, 11, 30, 31, 50, 51});
+    }
+
+    @Test
+    @Order(18)
+    void iteratorFailsFastOnConcurrentModification() {
+        IntStream.range(0, 3).forEach(intList::add);
+        var iterator = intList.iterator();
+        iterator.next();
+
+        intList.add(3);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(19)
+    void parallelStreamKeepsOrder() {
+        intList.addAll(IntStream.range(0, 10_000).boxed().collect(Collectors.toList()));
+
+        var elements = intList.parallelStream()
+                .map(e -> e * 2)
+                .collect(Collectors.toList());
+
+        assertThat(elements.size()).isEqualTo(10_000);
+        assertThat(elements.get(9_999)).isEqualTo(19_998);
+        assertThat(intList.parallelStream().mapToLong(Integer::longValue).sum()).isEqualTo(49_995_000L);
+    }
+
+    @Test
+    @Order(20)
+    void randomOperationsMatchJdkList() {
+        var random = new Random(42);
+        var expected = new java.util.ArrayList<Integer>();
+
+        for (int i = 0; i < 5_000; i++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                intList.add(index, i);
+                expected.add(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                assertThat(intList.remove(index)).isEqualTo(expected.remove(index));
+            } else if (operation == 2) {
+                intList.add(i);
+                expected.add(i);
+            } else {
+                int index = random.nextInt(expected.size());
+                assertThat(intList.get(index)).isEqualTo(expected.get(index));
+            }
+        }
+
+        assertThat(intList.size()).isEqualTo(expected.size());
+        assertThat(intList.stream().toArray()).isEqualTo(expected.toArray());
+    }
+}
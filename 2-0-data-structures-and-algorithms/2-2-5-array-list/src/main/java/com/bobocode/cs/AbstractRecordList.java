@@ -0,0 +1,313 @@
+package com.bobocode.cs;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
+
+/**
+ * {@link AbstractRecordList} is a base class of resizable lists of fixed-size records stored in {@link ByteBuffer}s
+ * outside of the Java heap. A record is a number of bytes, e.g. a single {@code long} or a struct of several fields
+ * encoded at fixed offsets. Fields are read and written in place by {@link AbstractRecordList#getLong(int, int)},
+ * {@link AbstractRecordList#setLong(int, int, long)} and similar methods, which never allocate objects.
+ * <p>
+ * Subclasses decide where records are stored by providing a buffer and an offset of each record. Memory is released
+ * by {@link AbstractRecordList#close()}, the list must not be used after that. Lists are not thread-safe.
+ */
+public abstract class AbstractRecordList implements AutoCloseable {
+    private final int recordSize;
+    private int size;
+    /**
+     * The number of leading records that may keep data of removed records, so they are zeroed when added again
+     */
+    private int dirty;
+    private boolean closed;
+
+    AbstractRecordList(int recordSize, int size, int dirty) {
+        this.recordSize = checkRecordSize(recordSize);
+        this.size = size;
+        this.dirty = dirty;
+    }
+
+    /**
+     * Returns a buffer that holds a record. The index is always within the list capacity.
+     */
+    abstract ByteBuffer buffer(int index);
+
+    /**
+     * Returns an offset of a record in its buffer
+     */
+    abstract int offset(int index);
+
+    /**
+     * Makes room for at least {@code minCapacity} records. Records that are added are filled with zero bytes or marked
+     * as dirty.
+     */
+    abstract void ensureCapacity(int minCapacity);
+
+    /**
+     * Releases memory and other resources. It is called once by {@link AbstractRecordList#close()}.
+     */
+    abstract void release();
+
+    /**
+     * Is called after each change of the list size
+     */
+    void sizeChanged(int size) {
+    }
+
+    /**
+     * Adds a record of zero bytes to the end of the list.
+     *
+     * @return the index of the new record
+     */
+    public int add() {
+        ensureOpen();
+        if (size == Integer.MAX_VALUE) {
+            throw new IllegalStateException("List is full");
+        }
+        int index = size;
+        ensureCapacity(index + 1);
+        if (index < dirty) {
+            var buffer = buffer(index);
+            int offset = offset(index);
+            for (int i = 0; i < recordSize; i++) {
+                buffer.put(offset + i, (byte) 0);
+            }
+        }
+        sizeChanged(++size);
+        return index;
+    }
+
+    /**
+     * Adds a record to the end of the list. The record is copied from {@code source} starting at its position, and
+     * the position is advanced by the record size.
+     *
+     * @param source a buffer that holds the record
+     * @return the index of the new record
+     * @throws BufferUnderflowException if fewer than record size bytes remain in the source buffer
+     */
+    public int add(ByteBuffer source) {
+        if (source.remaining() < recordSize) {
+            throw new BufferUnderflowException();
+        }
+        int index = add();
+        set(index, source);
+        return index;
+    }
+
+    /**
+     * Copies a record to {@code destination} starting at its position, and advances the position by the record size.
+     *
+     * @param index       index of record
+     * @param destination a buffer to copy the record to
+     * @throws BufferOverflowException if fewer than record size bytes remain in the destination buffer
+     */
+    public void get(int index, ByteBuffer destination) {
+        checkIndex(index);
+        if (destination.remaining() < recordSize) {
+            throw new BufferOverflowException();
+        }
+        int position = destination.position();
+        copy(buffer(index), offset(index), destination, position);
+        destination.position(position + recordSize);
+    }
+
+    /**
+     * Replaces a record with one copied from {@code source} starting at its position, and advances the position by
+     * the record size.
+     *
+     * @param index  index of record
+     * @param source a buffer that holds the record
+     * @throws BufferUnderflowException if fewer than record size bytes remain in the source buffer
+     */
+    public void set(int index, ByteBuffer source) {
+        checkIndex(index);
+        if (source.remaining() < recordSize) {
+            throw new BufferUnderflowException();
+        }
+        int position = source.position();
+        copy(source, position, buffer(index), offset(index));
+        source.position(position + recordSize);
+    }
+
+    /**
+     * Reads a {@code byte} field of a record in place, the same way as {@link AbstractRecordList#getLong(int, int)}.
+     */
+    public byte getByte(int index, int fieldOffset) {
+        return field(index, fieldOffset, Byte.BYTES).get(offset(index) + fieldOffset);
+    }
+
+    /**
+     * Writes a {@code byte} field of a record in place, the same way as
+     * {@link AbstractRecordList#setLong(int, int, long)}.
+     */
+    public void setByte(int index, int fieldOffset, byte value) {
+        field(index, fieldOffset, Byte.BYTES).put(offset(index) + fieldOffset, value);
+    }
+
+    /**
+     * Reads an {@code int} field of a record in place, the same way as {@link AbstractRecordList#getLong(int, int)}.
+     */
+    public int getInt(int index, int fieldOffset) {
+        return field(index, fieldOffset, Integer.BYTES).getInt(offset(index) + fieldOffset);
+    }
+
+    /**
+     * Writes an {@code int} field of a record in place, the same way as
+     * {@link AbstractRecordList#setLong(int, int, long)}.
+     */
+    public void setInt(int index, int fieldOffset, int value) {
+        field(index, fieldOffset, Integer.BYTES).putInt(offset(index) + fieldOffset, value);
+    }
+
+    /**
+     * Reads a {@code long} field of a record in place.
+     *
+     * @param index       index of record
+     * @param fieldOffset an offset of the field from the start of the record
+     * @return the value of the field
+     * @throws IndexOutOfBoundsException if the index is out of the list bounds or the field does not fit in a record
+     */
+    public long getLong(int index, int fieldOffset) {
+        return field(index, fieldOffset, Long.BYTES).getLong(offset(index) + fieldOffset);
+    }
+
+    /**
+     * Writes a {@code long} field of a record in place.
+     *
+     * @param index       index of record
+     * @param fieldOffset an offset of the field from the start of the record
+     * @param value       a new value of the field
+     * @throws IndexOutOfBoundsException if the index is out of the list bounds or the field does not fit in a record
+     */
+    public void setLong(int index, int fieldOffset, long value) {
+        field(index, fieldOffset, Long.BYTES).putLong(offset(index) + fieldOffset, value);
+    }
+
+    /**
+     * Reads a {@code double} field of a record in place, the same way as
+     * {@link AbstractRecordList#getLong(int, int)}.
+     */
+    public double getDouble(int index, int fieldOffset) {
+        return field(index, fieldOffset, Double.BYTES).getDouble(offset(index) + fieldOffset);
+    }
+
+    /**
+     * Writes a {@code double} field of a record in place, the same way as
+     * {@link AbstractRecordList#setLong(int, int, long)}.
+     */
+    public void setDouble(int index, int fieldOffset, double value) {
+        field(index, fieldOffset, Double.BYTES).putDouble(offset(index) + fieldOffset, value);
+    }
+
+    /**
+     * Removes the last record. Its memory is kept and reused by subsequent additions.
+     *
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    public void removeLast() {
+        ensureOpen();
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        dirty = Math.max(dirty, size);
+        sizeChanged(--size);
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return amount of saved records
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of bytes in a record
+     */
+    public int recordSize() {
+        return recordSize;
+    }
+
+    /**
+     * Removes all records. Allocated memory is kept and reused by subsequent additions.
+     */
+    public void clear() {
+        ensureOpen();
+        dirty = Math.max(dirty, size);
+        size = 0;
+        sizeChanged(0);
+    }
+
+    /**
+     * Releases memory of the list. Closing a closed list has no effect.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        size = 0;
+        release();
+    }
+
+    void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("List is closed");
+        }
+    }
+
+    /**
+     * Returns a buffer of a record after checking that the index and the field are within bounds
+     */
+    private ByteBuffer field(int index, int fieldOffset, int fieldSize) {
+        checkIndex(index);
+        if (fieldOffset < 0 || fieldOffset > recordSize - fieldSize) {
+            throw new IndexOutOfBoundsException();
+        }
+        return buffer(index);
+    }
+
+    /**
+     * Copies a record using absolute {@code get} and {@code put} methods, so buffer positions stay the same and no
+     * slice or duplicate is allocated
+     */
+    private void copy(ByteBuffer source, int sourceOffset, ByteBuffer destination, int destinationOffset) {
+        int i = 0;
+        if (source.order() == destination.order()) {
+            for (; i <= recordSize - Long.BYTES; i += Long.BYTES) {
+                destination.putLong(destinationOffset + i, source.getLong(sourceOffset + i));
+            }
+        }
+        for (; i < recordSize; i++) {
+            destination.put(destinationOffset + i, source.get(sourceOffset + i));
+        }
+    }
+
+    /**
+     * Checks an index, and reports a closed list only when the check fails, since a closed list has no records
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            ensureOpen();
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    static int checkRecordSize(int recordSize) {
+        if (recordSize <= 0) {
+            throw new IllegalArgumentException("Incorrect record size, should be > 0");
+        }
+        return recordSize;
+    }
+}
@@ -1,37 +1,67 @@
 package com.bobocode.cs;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
  * {@link ArrayList} is an implementation of {@link List} interface. This resizable data structure
- * based on an array and is simplified version of {@link java.util.ArrayList}.
+ * based on an array and is simplified version of {@link java.util.ArrayList}. When the inner array is full, its new
+ * capacity is computed by a growth policy (see {@link GrowthPolicies}). Capacity can also be managed explicitly using
+ * {@link ArrayList#ensureCapacity(int)} and {@link ArrayList#trimToSize()}.
+ * <p>
+ * Iterators and spliterators of the list are fail-fast. Each structural modification increments a modification
+ * counter, so iterating over a list that was modified by anything but the iterator itself throws
+ * {@link ConcurrentModificationException}.
  */
 public class ArrayList<T> implements List<T> {
     private Object[] array;
     private int size;
+    private int modCount;
+    private final IntUnaryOperator growthPolicy;
     private static final int DEFAULT_CAPACITY = 5;
 
     /**
-     * This constructor creates an instance of {@link ArrayList} with a specific capacity of an array inside.
+     * This constructor creates an instance of {@link ArrayList} with a specific capacity of an array inside and
+     * a specific growth policy.
      *
      * @param initCapacity - the initial capacity of the list
+     * @param growthPolicy - a function that computes a new capacity based on the current one
      * @throws IllegalArgumentException – if the specified initial capacity is negative or 0.
      */
-    public ArrayList(int initCapacity) {
+    public ArrayList(int initCapacity, IntUnaryOperator growthPolicy) {
         if (initCapacity <= 0) {
             throw new IllegalArgumentException("Incorrect capacity, should be > 0");
         }
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
         array = new Object[initCapacity];
     }
 
+    /**
+     * This constructor creates an instance of {@link ArrayList} with a specific capacity of an array inside.
+     *
+     * @param initCapacity - the initial capacity of the list
+     * @throws IllegalArgumentException – if the specified initial capacity is negative or 0.
+     */
+    public ArrayList(int initCapacity) {
+        this(initCapacity, GrowthPolicies.defaultPolicy());
+    }
+
     /**
      * This constructor creates an instance of {@link ArrayList} with a default capacity of an array inside.
      * A default size of inner array is 5;
      */
     public ArrayList() {
-        array = new Object[DEFAULT_CAPACITY];
+        this(DEFAULT_CAPACITY);
     }
 
     /**
@@ -59,9 +89,10 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public void add(T element) {
-        resizeArray();
+        ensureCapacityInternal(size + 1);
         array[size] = element;
         size++;
+        modCount++;
     }
 
     /**
@@ -75,11 +106,46 @@ public class ArrayList<T> implements List<T> {
         if (index < 0 || index > size) {
             throw new IndexOutOfBoundsException();
         }
-        resizeArray();
-        System.arraycopy(array, 0, array, 0, index);
-        System.arraycopy(array, index, array, index + 1, array.length - 1 - index);
+        ensureCapacityInternal(size + 1);
+        System.arraycopy(array, index, array, index + 1, size - index);
         array[index] = element;
         size++;
+        modCount++;
+    }
+
+    /**
+     * Adds all elements of provided collection to the end of the list. The array is resized at most once and
+     * elements are copied with a single {@link System#arraycopy(Object, int, Object, int, int)} call.
+     *
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        Object[] newElements = elements.toArray();
+        ensureCapacityInternal(size + newElements.length);
+        System.arraycopy(newElements, 0, array, size, newElements.length);
+        size += newElements.length;
+        modCount++;
+    }
+
+    /**
+     * Adds all provided elements to the specific position in the list. The tail of the list is shifted to the right
+     * only once, no matter how many elements are added. In case provided index in out of the list bounds it throws
+     * {@link IndexOutOfBoundsException}
+     *
+     * @param index    index of position
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(int index, T[] elements) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        ensureCapacityInternal(size + elements.length);
+        System.arraycopy(array, index, array, index + elements.length, size - index);
+        System.arraycopy(elements, 0, array, index, elements.length);
+        size += elements.length;
+        modCount++;
     }
 
     /**
@@ -125,7 +191,7 @@ public class ArrayList<T> implements List<T> {
         if (size < 1) {
             throw new NoSuchElementException();
         }
-        return (T) array[array.length - 1];
+        return (T) array[size - 1];
     }
 
     /**
@@ -157,12 +223,71 @@ public class ArrayList<T> implements List<T> {
             throw new IndexOutOfBoundsException();
         }
         T removedElement = (T) array[index];
-        System.arraycopy(array, 0, array, 0, index);
-        System.arraycopy(array, index + 1, array, index, array.length - 1 - index);
-        size--;
+        System.arraycopy(array, index + 1, array, index, size - 1 - index);
+        array[--size] = null;
+        modCount++;
         return removedElement;
     }
 
+    /**
+     * Removes all elements with index from range [fromIndex, toIndex). The tail of the list is shifted to the left
+     * only once. In case provided range in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param fromIndex index of the first element to remove
+     * @param toIndex   index after the last element to remove
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        System.arraycopy(array, toIndex, array, fromIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(array, newSize, size, null);
+        size = newSize;
+        modCount++;
+    }
+
+    /**
+     * Removes all elements that match provided filter. Remaining elements are moved to the left in a single pass,
+     * so each of them is copied at most once.
+     *
+     * @param filter a predicate that returns {@code true} for elements to remove
+     * @return {@code true} if any element was removed, {@code false} otherwise
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        int newSize = 0;
+        for (int i = 0; i < size; i++) {
+            if (!filter.test((T) array[i])) {
+                array[newSize++] = array[i];
+            }
+        }
+        Arrays.fill(array, newSize, size, null);
+        boolean removed = newSize < size;
+        if (removed) {
+            size = newSize;
+            modCount++;
+        }
+        return removed;
+    }
+
+    /**
+     * Replaces each element of the list with the result of applying provided operator to that element.
+     *
+     * @param operator an operator to apply to each element
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void replaceAll(UnaryOperator<T> operator) {
+        Objects.requireNonNull(operator);
+        for (int i = 0; i < size; i++) {
+            array[i] = operator.apply((T) array[i]);
+        }
+    }
+
     /**
      * Checks for existing of a specific element in the list.
      *
@@ -171,7 +296,12 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public boolean contains(T element) {
-        return size >= 1 && Arrays.asList(array).contains(element);
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(array[i], element)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -193,12 +323,69 @@ public class ArrayList<T> implements List<T> {
     }
 
     /**
-     * Removes all list elements
+     * Removes all list elements. The inner array keeps its capacity, so it can be reused without resizing. Use
+     * {@link ArrayList#trimToSize()} to release it.
      */
     @Override
     public void clear() {
-        array = new Object[0];
+        Arrays.fill(array, 0, Math.min(size, array.length), null);
         size = 0;
+        modCount++;
+    }
+
+    /**
+     * Increases the capacity of the inner array, if necessary, so it can hold at least provided number of elements
+     * without resizing. It allows to pre-size the list once before adding a large number of elements.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > array.length) {
+            array = Arrays.copyOf(array, minCapacity);
+        }
+    }
+
+    /**
+     * Trims the capacity of the inner array to the current size of the list.
+     */
+    public void trimToSize() {
+        if (size < array.length) {
+            array = Arrays.copyOf(array, size);
+        }
+    }
+
+    /**
+     * Returns a fail-fast iterator over the list elements.
+     *
+     * @return an iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new ArrayListIterator();
+    }
+
+    /**
+     * Returns a fail-fast list iterator that starts at the beginning of the list. It can move in both directions,
+     * and allows to remove, set and add elements.
+     *
+     * @return a list iterator
+     */
+    @Override
+    public ListIterator<T> listIterator() {
+        return new ArrayListIterator();
+    }
+
+    /**
+     * Returns a fail-fast spliterator over the list elements. It reports {@link Spliterator#ORDERED},
+     * {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED} characteristics and splits the index range in halves,
+     * so parallel streams get evenly sized chunks. The range is bound when it is first used, so the list can still be
+     * modified after the spliterator is created.
+     *
+     * @return a spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ArrayListSpliterator(0, -1, 0);
     }
 
     @Override
@@ -210,9 +397,169 @@ public class ArrayList<T> implements List<T> {
         return arrayString.toString();
     }
 
-    private void resizeArray() {
-        if (array.length == size) {
-            array = Arrays.copyOf(array, (array.length / 2) * 3);
+    private class ArrayListIterator implements ListIterator<T> {
+        private int cursor;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            checkForComodification();
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = cursor++;
+            return (T) array[lastReturned];
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T previous() {
+            checkForComodification();
+            if (cursor <= 0) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = --cursor;
+            return (T) array[lastReturned];
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            ArrayList.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(T element) {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            array[lastReturned] = element;
+        }
+
+        @Override
+        public void add(T element) {
+            checkForComodification();
+            ArrayList.this.add(cursor++, element);
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private class ArrayListSpliterator implements Spliterator<T> {
+        private int index;
+        private int fence;
+        private int expectedModCount;
+
+        /**
+         * @param origin           index of the first element
+         * @param fence            index after the last element, or -1 if the range is not bound yet
+         * @param expectedModCount expected modification counter, it is set when the range is bound
+         */
+        ArrayListSpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                expectedModCount = modCount;
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int high = getFence();
+            int middle = (index + high) >>> 1;
+            if (index >= middle) {
+                return null;
+            }
+            var prefix = new ArrayListSpliterator(index, middle, expectedModCount);
+            index = middle;
+            return prefix;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            if (index >= getFence()) {
+                return false;
+            }
+            action.accept((T) array[index++]);
+            checkForComodification();
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            int high = getFence();
+            Object[] elements = array;
+            for (; index < high; index++) {
+                action.accept((T) elements[index]);
+            }
+            checkForComodification();
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private void ensureCapacityInternal(int minCapacity) {
+        if (minCapacity > array.length) {
+            array = Arrays.copyOf(array, GrowthPolicies.grow(growthPolicy, array.length, minCapacity));
         }
     }
 }
@@ -0,0 +1,54 @@
+package com.bobocode.cs;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * A class that consists of static methods only and releases memory of direct and mapped {@link ByteBuffer}s right
+ * away. Java 11 has no public API for that, so memory of a buffer is released by garbage collector only when the
+ * buffer becomes unreachable, which may never happen for a buffer that has been promoted to the old generation.
+ * {@code sun.misc.Unsafe#invokeCleaner} releases it immediately. When it is not available, buffers are left to
+ * garbage collector.
+ */
+final class DirectBuffers {
+    private static final MethodHandle INVOKE_CLEANER = invokeCleaner();
+
+    private DirectBuffers() {
+    }
+
+    /**
+     * Releases memory of a direct or mapped buffer. The buffer must not be accessed afterwards, since its memory may
+     * be reused by the operating system, and reading it would crash the JVM.
+     *
+     * @param buffer a buffer returned by {@link ByteBuffer#allocateDirect(int)} or
+     *               {@link java.nio.channels.FileChannel#map}, but not its slice or duplicate
+     */
+    static void free(ByteBuffer buffer) {
+        if (Objects.isNull(INVOKE_CLEANER) || !buffer.isDirect()) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invokeExact(buffer);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MethodHandle invokeCleaner() {
+        try {
+            var unsafeClass = Class.forName("sun.misc.Unsafe");
+            var theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(theUnsafe.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * {@link DoubleArrayList} is a resizable list of {@code double} values. It follows the shape of {@link List} interface, but
+ * stores values in a dense {@code double[]} array instead of {@code Object[]}, so values are never boxed. Bulk
+ * operations {@link DoubleArrayList#addAll(double[])} and {@link DoubleArrayList#toArray()} copy whole ranges using
+ * {@link System#arraycopy(Object, int, Object, int, int)}.
+ */
+public class DoubleArrayList {
+    private static final int DEFAULT_CAPACITY = 5;
+
+    private double[] array;
+    private int size;
+
+    /**
+     * This constructor creates an instance of {@link DoubleArrayList} with a specific capacity of an array inside.
+     *
+     * @param initCapacity - the initial capacity of the list
+     * @throws IllegalArgumentException – if the specified initial capacity is negative or 0.
+     */
+    public DoubleArrayList(int initCapacity) {
+        if (initCapacity <= 0) {
+            throw new IllegalArgumentException("Incorrect capacity, should be > 0");
+        }
+        array = new double[initCapacity];
+    }
+
+    /**
+     * This constructor creates an instance of {@link DoubleArrayList} with a default capacity of an array inside.
+     * A default size of inner array is 5;
+     */
+    public DoubleArrayList() {
+        array = new double[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Creates and returns an instance of {@link DoubleArrayList} with provided elements
+     *
+     * @param elements to add
+     * @return new instance
+     */
+    public static DoubleArrayList of(double... elements) {
+        if (Objects.isNull(elements)) {
+            throw new NullPointerException();
+        }
+        var list = new DoubleArrayList(Math.max(elements.length, 1));
+        list.addAll(elements);
+        return list;
+    }
+
+    /**
+     * Adds an element to the end of the list.
+     *
+     * @param element element to add
+     */
+    public void add(double element) {
+        ensureCapacityInternal(size + 1);
+        array[size] = element;
+        size++;
+    }
+
+    /**
+     * Adds an element to the specific position in the list. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   index of position
+     * @param element element to add
+     */
+    public void add(int index, double element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        ensureCapacityInternal(size + 1);
+        System.arraycopy(array, index, array, index + 1, size - index);
+        array[index] = element;
+        size++;
+    }
+
+    /**
+     * Adds all provided elements to the end of the list. The array is resized at most once and elements are copied
+     * with a single {@link System#arraycopy(Object, int, Object, int, int)} call.
+     *
+     * @param elements elements to add
+     */
+    public void addAll(double[] elements) {
+        if (Objects.isNull(elements)) {
+            throw new NullPointerException();
+        }
+        ensureCapacityInternal(size + elements.length);
+        System.arraycopy(elements, 0, array, size, elements.length);
+        size += elements.length;
+    }
+
+    /**
+     * Changes the value of array at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   position of value
+     * @param element a new value
+     */
+    public void set(int index, double element) {
+        checkIndex(index);
+        array[index] = element;
+    }
+
+    /**
+     * Retrieves an element by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index index of element
+     * @return en element
+     */
+    public double get(int index) {
+        checkIndex(index);
+        return array[index];
+    }
+
+    /**
+     * Returns the first element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the first element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    public double getFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return array[0];
+    }
+
+    /**
+     * Returns the last element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the last element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    public double getLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return array[size - 1];
+    }
+
+    /**
+     * Removes an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return deleted element
+     */
+    public double remove(int index) {
+        checkIndex(index);
+        double removedElement = array[index];
+        System.arraycopy(array, index + 1, array, index, size - 1 - index);
+        size--;
+        return removedElement;
+    }
+
+    /**
+     * Checks for existing of a specific element in the list. Values are compared the same way as
+     * {@link Double#equals(Object)} does, so {@code NaN} is found and {@code 0.0} is not equal to {@code -0.0}.
+     *
+     * @param element is element
+     * @return If element exists method returns true, otherwise it returns false
+     */
+    public boolean contains(double element) {
+        for (int i = 0; i < size; i++) {
+            if (Double.compare(array[i], element) == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size < 1;
+    }
+
+    /**
+     * @return amount of saved elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all list elements. Primitive values do not hold references, so the inner array is kept as is and
+     * can be reused by subsequent additions.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns a new array that contains all elements of the list in the same order.
+     *
+     * @return an array of list elements
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(array, size);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder arrayString = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            arrayString.append(array[i]).append(" ");
+        }
+        return arrayString.toString();
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private void ensureCapacityInternal(int minCapacity) {
+        if (minCapacity > array.length) {
+            int newCapacity = Math.max(array.length + (array.length >> 1) + 1, minCapacity);
+            array = Arrays.copyOf(array, newCapacity);
+        }
+    }
+}
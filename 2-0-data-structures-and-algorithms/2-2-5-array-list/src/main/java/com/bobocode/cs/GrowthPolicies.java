@@ -0,0 +1,65 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A class that consists of static methods only and creates growth policies for {@link ArrayList}. A growth policy is
+ * an {@link IntUnaryOperator} that accepts current capacity of an inner array and returns a new one. When a policy
+ * returns a capacity that is not large enough, the list grows to the required capacity instead.
+ */
+public class GrowthPolicies {
+    private GrowthPolicies() {
+    }
+
+    /**
+     * Creates a policy that multiplies current capacity by provided factor. E.g. factor 1.5 grows capacity of 10 to 15.
+     *
+     * @param factor a growth factor
+     * @return a new growth policy
+     * @throws IllegalArgumentException if factor is not greater than 1
+     */
+    public static IntUnaryOperator factor(double factor) {
+        if (!(factor > 1)) {
+            throw new IllegalArgumentException("Incorrect growth factor, should be > 1");
+        }
+        return capacity -> (int) Math.min(capacity * factor, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a policy that adds a fixed number of elements to current capacity.
+     *
+     * @param increment a number of elements to add on each resize
+     * @return a new growth policy
+     * @throws IllegalArgumentException if increment is negative or 0
+     */
+    public static IntUnaryOperator additive(int increment) {
+        if (increment <= 0) {
+            throw new IllegalArgumentException("Incorrect growth increment, should be > 0");
+        }
+        return capacity -> (int) Math.min((long) capacity + increment, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns a default policy that grows capacity by half, so adding an element takes amortized constant time.
+     *
+     * @return a default growth policy
+     */
+    public static IntUnaryOperator defaultPolicy() {
+        return factor(1.5);
+    }
+
+    /**
+     * Computes a new capacity using provided policy. The result is never less than required capacity, so the list
+     * always grows, even when a policy returns the same capacity (e.g. factor 1.5 applied to capacity 1).
+     *
+     * @param policy          a growth policy
+     * @param currentCapacity current capacity of an inner array
+     * @param minCapacity     required capacity
+     * @return a new capacity
+     */
+    static int grow(IntUnaryOperator policy, int currentCapacity, int minCapacity) {
+        Objects.requireNonNull(policy);
+        return Math.max(policy.applyAsInt(currentCapacity), minCapacity);
+    }
+}
@@ -0,0 +1,232 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * {@link IntArrayList} is a resizable list of {@code int} values. It follows the shape of {@link List} interface, but
+ * stores values in a dense {@code int[]} array instead of {@code Object[]}, so values are never boxed. Bulk
+ * operations {@link IntArrayList#addAll(int[])} and {@link IntArrayList#toArray()} copy whole ranges using
+ * {@link System#arraycopy(Object, int, Object, int, int)}.
+ */
+public class IntArrayList {
+    private static final int DEFAULT_CAPACITY = 5;
+
+    private int[] array;
+    private int size;
+
+    /**
+     * This constructor creates an instance of {@link IntArrayList} with a specific capacity of an array inside.
+     *
+     * @param initCapacity - the initial capacity of the list
+     * @throws IllegalArgumentException – if the specified initial capacity is negative or 0.
+     */
+    public IntArrayList(int initCapacity) {
+        if (initCapacity <= 0) {
+            throw new IllegalArgumentException("Incorrect capacity, should be > 0");
+        }
+        array = new int[initCapacity];
+    }
+
+    /**
+     * This constructor creates an instance of {@link IntArrayList} with a default capacity of an array inside.
+     * A default size of inner array is 5;
+     */
+    public IntArrayList() {
+        array = new int[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Creates and returns an instance of {@link IntArrayList} with provided elements
+     *
+     * @param elements to add
+     * @return new instance
+     */
+    public static IntArrayList of(int... elements) {
+        if (Objects.isNull(elements)) {
+            throw new NullPointerException();
+        }
+        var list = new IntArrayList(Math.max(elements.length, 1));
+        list.addAll(elements);
+        return list;
+    }
+
+    /**
+     * Adds an element to the end of the list.
+     *
+     * @param element element to add
+     */
+    public void add(int element) {
+        ensureCapacityInternal(size + 1);
+        array[size] = element;
+        size++;
+    }
+
+    /**
+     * Adds an element to the specific position in the list. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   index of position
+     * @param element element to add
+     */
+    public void add(int index, int element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        ensureCapacityInternal(size + 1);
+        System.arraycopy(array, index, array, index + 1, size - index);
+        array[index] = element;
+        size++;
+    }
+
+    /**
+     * Adds all provided elements to the end of the list. The array is resized at most once and elements are copied
+     * with a single {@link System#arraycopy(Object, int, Object, int, int)} call.
+     *
+     * @param elements elements to add
+     */
+    public void addAll(int[] elements) {
+        if (Objects.isNull(elements)) {
+            throw new NullPointerException();
+        }
+        ensureCapacityInternal(size + elements.length);
+        System.arraycopy(elements, 0, array, size, elements.length);
+        size += elements.length;
+    }
+
+    /**
+     * Changes the value of array at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   position of value
+     * @param element a new value
+     */
+    public void set(int index, int element) {
+        checkIndex(index);
+        array[index] = element;
+    }
+
+    /**
+     * Retrieves an element by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index index of element
+     * @return en element
+     */
+    public int get(int index) {
+        checkIndex(index);
+        return array[index];
+    }
+
+    /**
+     * Returns the first element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the first element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    public int getFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return array[0];
+    }
+
+    /**
+     * Returns the last element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the last element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    public int getLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return array[size - 1];
+    }
+
+    /**
+     * Removes an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return deleted element
+     */
+    public int remove(int index) {
+        checkIndex(index);
+        int removedElement = array[index];
+        System.arraycopy(array, index + 1, array, index, size - 1 - index);
+        size--;
+        return removedElement;
+    }
+
+    /**
+     * Checks for existing of a specific element in the list.
+     *
+     * @param element is element
+     * @return If element exists method returns true, otherwise it returns false
+     */
+    public boolean contains(int element) {
+        for (int i = 0; i < size; i++) {
+            if (array[i] == element) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size < 1;
+    }
+
+    /**
+     * @return amount of saved elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all list elements. Primitive values do not hold references, so the inner array is kept as is and
+     * can be reused by subsequent additions.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns a new array that contains all elements of the list in the same order.
+     *
+     * @return an array of list elements
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(array, size);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder arrayString = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            arrayString.append(array[i]).append(" ");
+        }
+        return arrayString.toString();
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private void ensureCapacityInternal(int minCapacity) {
+        if (minCapacity > array.length) {
+            int newCapacity = Math.max(array.length + (array.length >> 1) + 1, minCapacity);
+            array = Arrays.copyOf(array, newCapacity);
+        }
+    }
+}
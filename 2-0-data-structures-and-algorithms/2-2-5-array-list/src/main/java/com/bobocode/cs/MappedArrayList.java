@@ -0,0 +1,188 @@
+package com.bobocode.cs;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * {@link MappedArrayList} is a persistent resizable list of fixed-size records stored in a file. Fields of records are
+ * read and written in place without allocating objects, see {@link AbstractRecordList}.
+ * <p>
+ * The file is mapped into memory by {@link FileChannel#map(FileChannel.MapMode, long, long)}, so records are read and
+ * written directly in the page cache of the operating system. When the list is full, the file is extended to double
+ * capacity and mapped again, the old mapping is released. The file starts with a header that keeps a format version,
+ * a record size and the size of the list, followed by records in little-endian byte order. The size is updated on
+ * each change, so {@link MappedArrayList#open(Path, int)} reopens a list of any size in constant time O(1) by mapping
+ * the file, and records are loaded lazily by page faults when they are accessed.
+ * <p>
+ * Changes reach the disk when the operating system writes modified pages back. {@link MappedArrayList#force()} writes
+ * them synchronously, so the list survives a crash of the operating system as well as of the JVM. A single mapping
+ * holds at most 2 GiB, which limits the capacity of the list.
+ */
+public class MappedArrayList extends AbstractRecordList {
+    /**
+     * "MARL" in ASCII
+     */
+    private static final int MAGIC = 0x4D41524C;
+    private static final int VERSION = 1;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int RECORD_SIZE_OFFSET = 8;
+    private static final int SIZE_OFFSET = 12;
+    static final int HEADER_SIZE = 16;
+    private static final int DEFAULT_CAPACITY_BYTES = 1 << 16;
+
+    private final FileChannel channel;
+    private final int maxCapacity;
+    private MappedByteBuffer buffer;
+    private int capacity;
+
+    private MappedArrayList(FileChannel channel, int recordSize, int size, int capacity) throws IOException {
+        super(recordSize, size, capacity);
+        this.channel = channel;
+        this.maxCapacity = (Integer.MAX_VALUE - HEADER_SIZE) / recordSize;
+        this.capacity = capacity;
+        this.buffer = map(capacity);
+    }
+
+    /**
+     * Opens a list stored in a file, or creates a new empty list if the file does not exist or is empty. Opening takes
+     * constant time regardless of the list size.
+     *
+     * @param path       a path to the file
+     * @param recordSize the number of bytes in a record
+     * @return an open list
+     * @throws IllegalArgumentException – if the specified record size is negative or 0
+     * @throws IOException              if the file cannot be opened, or it is not a list of records of the given size
+     */
+    public static MappedArrayList open(Path path, int recordSize) throws IOException {
+        Objects.requireNonNull(path);
+        checkRecordSize(recordSize);
+        var channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            long fileSize = channel.size();
+            if (fileSize == 0) {
+                var list = new MappedArrayList(channel, recordSize, 0, 0);
+                list.ensureCapacity(Math.max(1, DEFAULT_CAPACITY_BYTES / recordSize));
+                list.writeHeader();
+                return list;
+            }
+            var header = readHeader(channel);
+            if (fileSize < HEADER_SIZE || header.getInt(MAGIC_OFFSET) != MAGIC) {
+                throw new IOException("Incorrect file format, not a list of records: " + path);
+            }
+            if (header.getInt(VERSION_OFFSET) != VERSION) {
+                throw new IOException("Unsupported format version " + header.getInt(VERSION_OFFSET) + ": " + path);
+            }
+            if (header.getInt(RECORD_SIZE_OFFSET) != recordSize) {
+                throw new IOException("Incorrect record size, the file keeps records of "
+                        + header.getInt(RECORD_SIZE_OFFSET) + " bytes: " + path);
+            }
+            int size = header.getInt(SIZE_OFFSET);
+            long capacity = (Math.min(fileSize, Integer.MAX_VALUE) - HEADER_SIZE) / recordSize;
+            if (size < 0 || size > capacity) {
+                throw new IOException("Incorrect list size " + size + ", the file is truncated: " + path);
+            }
+            return new MappedArrayList(channel, recordSize, size, (int) capacity);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Writes all changes of the list to the storage device and waits until they are written.
+     */
+    public void force() {
+        ensureOpen();
+        buffer.force();
+    }
+
+    /**
+     * @return the number of records the list can hold without extending the file
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    ByteBuffer buffer(int index) {
+        return buffer;
+    }
+
+    @Override
+    int offset(int index) {
+        return HEADER_SIZE + index * recordSize();
+    }
+
+    /**
+     * Extends the file and maps it again. Extended part of a file reads as zero bytes.
+     */
+    @Override
+    void ensureCapacity(int minCapacity) {
+        if (minCapacity <= capacity) {
+            return;
+        }
+        if (minCapacity > maxCapacity) {
+            throw new IllegalStateException("List is full");
+        }
+        int newCapacity = (int) Math.min(Math.max((long) capacity * 2, minCapacity), maxCapacity);
+        try {
+            var oldBuffer = buffer;
+            buffer = map(newCapacity);
+            capacity = newCapacity;
+            DirectBuffers.free(oldBuffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    void sizeChanged(int size) {
+        buffer.putInt(SIZE_OFFSET, size);
+    }
+
+    /**
+     * Releases the mapping and closes the file. Changes that were not forced are written back by the operating system
+     * later.
+     */
+    @Override
+    void release() {
+        DirectBuffers.free(buffer);
+        buffer = null;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private MappedByteBuffer map(int capacity) throws IOException {
+        var mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) capacity * recordSize());
+        mapped.order(ByteOrder.LITTLE_ENDIAN);
+        return mapped;
+    }
+
+    private void writeHeader() {
+        buffer.putInt(MAGIC_OFFSET, MAGIC);
+        buffer.putInt(VERSION_OFFSET, VERSION);
+        buffer.putInt(RECORD_SIZE_OFFSET, recordSize());
+        buffer.putInt(SIZE_OFFSET, size());
+    }
+
+    private static ByteBuffer readHeader(FileChannel channel) throws IOException {
+        var header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        int read;
+        do {
+            read = channel.read(header, header.position());
+        } while (read > 0 && header.hasRemaining());
+        return header;
+    }
+}
@@ -0,0 +1,87 @@
+package com.bobocode.cs;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * {@link OffHeapRecordList} is a resizable list of fixed-size records stored outside of the Java heap in direct
+ * {@link ByteBuffer}s. Fields of records are read and written in place without allocating objects, see
+ * {@link AbstractRecordList}.
+ * <p>
+ * Records are kept in chunks, each holding the same power-of-two number of records, so a chunk and a position of a
+ * record are found by a shift and a mask. The list grows by allocating a new chunk, and existing records are never
+ * copied. Garbage collector sees a few chunk objects instead of millions of elements, so a large list does not make
+ * GC pauses longer. Direct memory of chunks is released by {@link OffHeapRecordList#close()}.
+ */
+public class OffHeapRecordList extends AbstractRecordList {
+    private static final int DEFAULT_CHUNK_BYTES = 1 << 20;
+    private static final int DEFAULT_CHUNKS = 8;
+
+    private final int chunkShift;
+    private final int chunkMask;
+    private ByteBuffer[] chunks = new ByteBuffer[DEFAULT_CHUNKS];
+    private int chunkCount;
+
+    /**
+     * This constructor creates an instance of {@link OffHeapRecordList} of records of a specific size. Chunks hold
+     * about 1 MiB each.
+     *
+     * @param recordSize the number of bytes in a record
+     * @throws IllegalArgumentException – if the specified record size is negative or 0
+     */
+    public OffHeapRecordList(int recordSize) {
+        this(recordSize, Integer.highestOneBit(Math.max(1, DEFAULT_CHUNK_BYTES / checkRecordSize(recordSize))));
+    }
+
+    /**
+     * This constructor creates an instance of {@link OffHeapRecordList} of records of a specific size with a specific
+     * number of records in each chunk.
+     *
+     * @param recordSize    the number of bytes in a record
+     * @param chunkCapacity the number of records in a chunk
+     * @throws IllegalArgumentException – if the specified record size is not positive, or the chunk capacity is not a
+     *                                  power of two, or a chunk does not fit in 2 GiB
+     */
+    public OffHeapRecordList(int recordSize, int chunkCapacity) {
+        super(recordSize, 0, 0);
+        if (Integer.bitCount(chunkCapacity) != 1) {
+            throw new IllegalArgumentException("Incorrect chunk capacity, should be a power of two");
+        }
+        if ((long) recordSize * chunkCapacity > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Incorrect chunk capacity, a chunk should be < 2 GiB");
+        }
+        this.chunkShift = Integer.numberOfTrailingZeros(chunkCapacity);
+        this.chunkMask = chunkCapacity - 1;
+    }
+
+    @Override
+    ByteBuffer buffer(int index) {
+        return chunks[index >>> chunkShift];
+    }
+
+    @Override
+    int offset(int index) {
+        return (index & chunkMask) * recordSize();
+    }
+
+    @Override
+    void ensureCapacity(int minCapacity) {
+        int minChunks = (int) (((long) minCapacity + chunkMask) >>> chunkShift);
+        while (chunkCount < minChunks) {
+            if (chunkCount == chunks.length) {
+                chunks = Arrays.copyOf(chunks, chunks.length * 2);
+            }
+            chunks[chunkCount++] = ByteBuffer.allocateDirect(recordSize() << chunkShift).order(ByteOrder.nativeOrder());
+        }
+    }
+
+    @Override
+    void release() {
+        for (int i = 0; i < chunkCount; i++) {
+            DirectBuffers.free(chunks[i]);
+            chunks[i] = null;
+        }
+        chunkCount = 0;
+    }
+}
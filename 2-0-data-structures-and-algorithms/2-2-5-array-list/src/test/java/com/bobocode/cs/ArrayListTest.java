@@ -7,7 +7,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
 import java.lang.reflect.Field;
+import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
@@ -353,6 +357,392 @@ class ArrayListTest {
                 .isThrownBy(() -> arrayList.get(0));
     }
 
+    @Test
+    @Order(37)
+    void getLastElementWhenArrayIsNotFilled() {
+        arrayList = new ArrayList<>(10);
+        arrayList.add(31);
+        arrayList.add(34);
+
+        assertThat(arrayList.getLast()).isEqualTo(34);
+    }
+
+    @Test
+    @Order(38)
+    void addShouldResizeArrayOfCapacityOne() {
+        arrayList = new ArrayList<>(1);
+
+        arrayList.add(15);
+        arrayList.add(69);
+
+        assertThat(getTestArray().length).isGreaterThanOrEqualTo(2);
+        assertThat(arrayList.get(1)).isEqualTo(69);
+    }
+
+    @Test
+    @Order(39)
+    void clearKeepsInnerArrayCapacity() {
+        arrayList = new ArrayList<>(10);
+        arrayList.add(4);
+        arrayList.add(5);
+
+        arrayList.clear();
+
+        Object[] internalArray = getTestArray();
+        assertThat(internalArray.length).isEqualTo(10);
+        assertThat(internalArray[0]).isNull();
+        assertThat(internalArray[1]).isNull();
+    }
+
+    @Test
+    @Order(40)
+    void ensureCapacity() {
+        var list = new ArrayList<Integer>();
+        arrayList = list;
+        arrayList.add(4);
+
+        list.ensureCapacity(100);
+
+        assertThat(getTestArray().length).isEqualTo(100);
+        assertThat(arrayList.get(0)).isEqualTo(4);
+    }
+
+    @Test
+    @Order(41)
+    void ensureCapacityDoesNotShrinkArray() {
+        var list = new ArrayList<Integer>(10);
+        arrayList = list;
+
+        list.ensureCapacity(5);
+
+        assertThat(getTestArray().length).isEqualTo(10);
+    }
+
+    @Test
+    @Order(42)
+    void trimToSize() {
+        var list = new ArrayList<Integer>(10);
+        arrayList = list;
+        arrayList.add(4);
+        arrayList.add(5);
+
+        list.trimToSize();
+
+        assertThat(getTestArray().length).isEqualTo(2);
+        arrayList.add(6);
+        assertThat(arrayList.get(2)).isEqualTo(6);
+    }
+
+    @Test
+    @Order(43)
+    void additiveGrowthPolicy() {
+        arrayList = new ArrayList<>(2, GrowthPolicies.additive(10));
+
+        arrayList.add(1);
+        arrayList.add(2);
+        arrayList.add(3);
+
+        assertThat(getTestArray().length).isEqualTo(12);
+    }
+
+    @Test
+    @Order(44)
+    void factorGrowthPolicy() {
+        arrayList = new ArrayList<>(4, GrowthPolicies.factor(2));
+
+        for (int i = 0; i < 5; i++) {
+            arrayList.add(i);
+        }
+
+        assertThat(getTestArray().length).isEqualTo(8);
+    }
+
+    @Test
+    @Order(45)
+    void customGrowthPolicyThatDoesNotGrow() {
+        arrayList = new ArrayList<>(1, capacity -> capacity);
+
+        arrayList.add(1);
+        arrayList.add(2);
+
+        assertThat(getTestArray().length).isEqualTo(2);
+        assertThat(getTestSize()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(46)
+    void wrongGrowthPolicy() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> GrowthPolicies.factor(1));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> GrowthPolicies.additive(0));
+    }
+
+    @Test
+    @Order(47)
+    void addAllCollection() {
+        arrayList = new ArrayList<>(2);
+        arrayList.add(1);
+
+        arrayList.addAll(java.util.List.of(2, 3, 4, 5));
+
+        Object[] internalArray = getTestArray();
+        assertThat(internalArray[1]).isEqualTo(2);
+        assertThat(internalArray[4]).isEqualTo(5);
+        assertThat(getTestSize()).isEqualTo(5);
+    }
+
+    @Test
+    @Order(48)
+    void addAllByIndex() {
+        fillTestArray(1, 2, 5);
+
+        arrayList.addAll(2, new Integer[]{3, 4});
+
+        Object[] internalArray = getTestArray();
+        assertThat(internalArray[1]).isEqualTo(2);
+        assertThat(internalArray[2]).isEqualTo(3);
+        assertThat(internalArray[3]).isEqualTo(4);
+        assertThat(internalArray[4]).isEqualTo(5);
+        assertThat(getTestSize()).isEqualTo(5);
+    }
+
+    @Test
+    @Order(49)
+    void addAllByIndexLargerThanListSize() {
+        fillTestArray(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> arrayList.addAll(3, new Integer[]{3}));
+    }
+
+    @Test
+    @Order(50)
+    void removeRange() {
+        fillTestArray(1, 2, 3, 4, 5);
+
+        arrayList.removeRange(1, 3);
+
+        Object[] internalArray = getTestArray();
+        assertThat(internalArray[0]).isEqualTo(1);
+        assertThat(internalArray[1]).isEqualTo(4);
+        assertThat(internalArray[2]).isEqualTo(5);
+        assertThat(internalArray[3]).isNull();
+        assertThat(getTestSize()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(51)
+    void removeRangeOutOfBounds() {
+        fillTestArray(1, 2, 3);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> arrayList.removeRange(2, 4));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> arrayList.removeRange(2, 1));
+    }
+
+    @Test
+    @Order(52)
+    void removeIf() {
+        fillTestArray(1, 2, 3, 4, 5, 6);
+
+        boolean removed = arrayList.removeIf(e -> e % 2 == 0);
+
+        Object[] internalArray = getTestArray();
+        assertThat(removed).isTrue();
+        assertThat(internalArray[0]).isEqualTo(1);
+        assertThat(internalArray[1]).isEqualTo(3);
+        assertThat(internalArray[2]).isEqualTo(5);
+        assertThat(internalArray[3]).isNull();
+        assertThat(getTestSize()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(53)
+    void removeIfWhenNothingMatches() {
+        fillTestArray(1, 3);
+
+        assertThat(arrayList.removeIf(e -> e % 2 == 0)).isFalse();
+        assertThat(getTestSize()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(54)
+    void replaceAll() {
+        fillTestArray(1, 2, 3);
+
+        arrayList.replaceAll(e -> e * 10);
+
+        Object[] internalArray = getTestArray();
+        assertThat(internalArray[0]).isEqualTo(10);
+        assertThat(internalArray[2]).isEqualTo(30);
+    }
+
+    @Test
+    @Order(55)
+    void iterator() {
+        fillTestArray(1, 2, 3);
+        var elements = new java.util.ArrayList<Integer>();
+
+        for (Integer element : arrayList) {
+            elements.add(element);
+        }
+
+        assertThat(elements.toArray()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @Order(56)
+    void iteratorOfEmptyList() {
+        var iterator = arrayList.iterator();
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(57)
+    void iteratorRemove() {
+        fillTestArray(1, 2, 3, 4);
+
+        var iterator = arrayList.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+
+        assertThat(arrayList.size()).isEqualTo(2);
+        assertThat(arrayList.get(1)).isEqualTo(3);
+        assertThat(arrayList.getLast()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(58)
+    void iteratorRemoveWithoutNext() {
+        fillTestArray(1, 2);
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> arrayList.iterator().remove());
+    }
+
+    @Test
+    @Order(59)
+    void iteratorFailsFastOnConcurrentModification() {
+        fillTestArray(1, 2, 3);
+        var iterator = arrayList.iterator();
+        iterator.next();
+
+        arrayList.add(4);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(60)
+    void listIteratorMovesInBothDirections() {
+        fillTestArray(1, 2, 3);
+        var iterator = arrayList.listIterator();
+
+        assertThat(iterator.next()).isEqualTo(1);
+        assertThat(iterator.next()).isEqualTo(2);
+        assertThat(iterator.previousIndex()).isEqualTo(1);
+        assertThat(iterator.previous()).isEqualTo(2);
+        assertThat(iterator.previous()).isEqualTo(1);
+        assertThat(iterator.hasPrevious()).isFalse();
+    }
+
+    @Test
+    @Order(61)
+    void listIteratorSetAndAdd() {
+        fillTestArray(1, 2, 4);
+        var iterator = arrayList.listIterator();
+
+        iterator.next();
+        iterator.set(10);
+        iterator.next();
+        iterator.add(3);
+        iterator.next();
+        iterator.add(5);
+
+        assertThat(arrayList.size()).isEqualTo(5);
+        assertThat(arrayList.get(0)).isEqualTo(10);
+        assertThat(arrayList.get(2)).isEqualTo(3);
+        assertThat(arrayList.getLast()).isEqualTo(5);
+    }
+
+    @Test
+    @Order(62)
+    void listIteratorRemoveAfterPrevious() {
+        fillTestArray(1, 2, 3);
+        var iterator = arrayList.listIterator();
+        iterator.next();
+        iterator.next();
+
+        iterator.previous();
+        iterator.remove();
+
+        assertThat(iterator.next()).isEqualTo(3);
+        assertThat(arrayList.size()).isEqualTo(2);
+        assertThat(arrayList.get(1)).isEqualTo(3);
+    }
+
+    @Test
+    @Order(63)
+    void spliteratorIsSized() {
+        fillTestArray(1, 2, 3, 4, 5);
+
+        var spliterator = arrayList.spliterator();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(5);
+    }
+
+    @Test
+    @Order(64)
+    void stream() {
+        fillTestArray(1, 2, 3);
+
+        int sum = arrayList.stream().mapToInt(Integer::intValue).sum();
+
+        assertThat(sum).isEqualTo(6);
+    }
+
+    @Test
+    @Order(65)
+    void parallelStreamKeepsOrder() {
+        arrayList.addAll(IntStream.range(0, 10_000).boxed().collect(Collectors.toList()));
+
+        var elements = arrayList.parallelStream()
+                .map(e -> e * 2)
+                .collect(Collectors.toList());
+
+        assertThat(elements.size()).isEqualTo(10_000);
+        assertThat(elements.get(0)).isEqualTo(0);
+        assertThat(elements.get(9_999)).isEqualTo(19_998);
+        assertThat(arrayList.parallelStream().mapToLong(Integer::longValue).sum()).isEqualTo(49_995_000L);
+    }
+
+    @Test
+    @Order(66)
+    void spliteratorFailsFastOnConcurrentModification() {
+        fillTestArray(1, 2, 3);
+        var spliterator = arrayList.spliterator();
+        spliterator.tryAdvance(e -> {
+        });
+
+        arrayList.add(4);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(() -> spliterator.forEachRemaining(e -> {
+                }));
+    }
+
     @SneakyThrows
     private void setTestSize(int size) {
         Field sizeField = arrayList.getClass().getDeclaredField("size");
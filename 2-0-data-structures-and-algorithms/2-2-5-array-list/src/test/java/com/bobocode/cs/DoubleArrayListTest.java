@@ -0,0 +1,51 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class DoubleArrayListTest {
+
+    private DoubleArrayList doubleList = new DoubleArrayList();
+
+    @Test
+    @Order(1)
+    void addAndGet() {
+        doubleList.add(2.5);
+        doubleList.add(0, 1.5);
+
+        assertThat(doubleList.getFirst()).isEqualTo(1.5);
+        assertThat(doubleList.getLast()).isEqualTo(2.5);
+    }
+
+    @Test
+    @Order(2)
+    void addAllAndToArray() {
+        doubleList = DoubleArrayList.of(0.5);
+
+        doubleList.addAll(new double[]{1.5, 2.5});
+
+        assertThat(doubleList.toArray()).containsExactly(0.5, 1.5, 2.5);
+    }
+
+    @Test
+    @Order(3)
+    void containsComparesLikeDoubleEquals() {
+        doubleList = DoubleArrayList.of(Double.NaN, 0.0);
+
+        assertThat(doubleList.contains(Double.NaN)).isTrue();
+        assertThat(doubleList.contains(-0.0)).isFalse();
+    }
+
+    @Test
+    @Order(4)
+    void removeByIndexOutOfBounds() {
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> doubleList.remove(0));
+    }
+}
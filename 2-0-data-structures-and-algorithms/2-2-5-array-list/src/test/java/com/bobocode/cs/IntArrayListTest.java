@@ -0,0 +1,191 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.lang.reflect.Field;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class IntArrayListTest {
+
+    private IntArrayList intList = new IntArrayList();
+
+    @Test
+    @Order(1)
+    void storesElementsInPrimitiveArray() {
+        intList.add(10);
+        intList.add(15);
+
+        int[] internalArray = getTestArray();
+
+        assertThat(internalArray[0]).isEqualTo(10);
+        assertThat(internalArray[1]).isEqualTo(15);
+        assertThat(intList.size()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(2)
+    void createListWithWrongCapacity() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new IntArrayList(0));
+    }
+
+    @Test
+    @Order(3)
+    void addShouldResizeWhenArrayIsFull() {
+        intList = new IntArrayList(1);
+
+        for (int i = 0; i < 7; i++) {
+            intList.add(i);
+        }
+
+        assertThat(getTestArray().length).isGreaterThanOrEqualTo(7);
+        assertThat(intList.toArray()).containsExactly(0, 1, 2, 3, 4, 5, 6);
+    }
+
+    @Test
+    @Order(4)
+    void of() {
+        intList = IntArrayList.of(15, 69, 58);
+
+        assertThat(intList.toArray()).containsExactly(15, 69, 58);
+    }
+
+    @Test
+    @Order(5)
+    void ofEmptyArray() {
+        intList = IntArrayList.of();
+
+        assertThat(intList.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(6)
+    void addElementByIndex() {
+        intList = IntArrayList.of(15, 69, 58, 78, 68);
+
+        intList.add(2, 10);
+        intList.add(6, 11);
+
+        assertThat(intList.toArray()).containsExactly(15, 69, 10, 58, 78, 68, 11);
+    }
+
+    @Test
+    @Order(7)
+    void addElementByIndexLargerThanListSize() {
+        intList = IntArrayList.of(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.add(3, 88));
+    }
+
+    @Test
+    @Order(8)
+    void addAll() {
+        intList = IntArrayList.of(1, 2);
+
+        intList.addAll(new int[]{3, 4, 5, 6, 7, 8, 9});
+
+        assertThat(intList.toArray()).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(intList.size()).isEqualTo(9);
+    }
+
+    @Test
+    @Order(9)
+    void setAndGetElementByIndex() {
+        intList = IntArrayList.of(15, 69, 58);
+
+        intList.set(1, 10);
+
+        assertThat(intList.get(1)).isEqualTo(10);
+        assertThat(intList.getFirst()).isEqualTo(15);
+        assertThat(intList.getLast()).isEqualTo(58);
+    }
+
+    @Test
+    @Order(10)
+    void getElementByIndexThrowsExceptionWhenIndexIsOutOfBound() {
+        intList = IntArrayList.of(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.get(2));
+    }
+
+    @Test
+    @Order(11)
+    void getFirstAndLastOfEmptyList() {
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> intList.getFirst());
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> intList.getLast());
+    }
+
+    @Test
+    @Order(12)
+    void removeElementByIndex() {
+        intList = IntArrayList.of(15, 69, 58, 78, 100);
+
+        int removedElement = intList.remove(2);
+
+        assertThat(removedElement).isEqualTo(58);
+        assertThat(intList.toArray()).containsExactly(15, 69, 78, 100);
+    }
+
+    @Test
+    @Order(13)
+    void removeElementByIndexThrowsExceptionWhenIndexEqualsSize() {
+        intList = IntArrayList.of(15, 69);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.remove(2));
+    }
+
+    @Test
+    @Order(14)
+    void containsIgnoresElementsBeyondSize() {
+        intList = IntArrayList.of(15, 69, 58);
+        intList.remove(2);
+
+        assertThat(intList.contains(69)).isTrue();
+        assertThat(intList.contains(58)).isFalse();
+    }
+
+    @Test
+    @Order(15)
+    void clearKeepsInnerArray() {
+        intList = IntArrayList.of(4, 5, 6);
+        int[] internalArray = getTestArray();
+
+        intList.clear();
+
+        assertThat(intList.isEmpty()).isTrue();
+        assertThat(getTestArray()).isSameAs(internalArray);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.get(0));
+    }
+
+    @Test
+    @Order(16)
+    void toArrayReturnsCopy() {
+        intList = IntArrayList.of(1, 2, 3);
+
+        int[] array = intList.toArray();
+        array[0] = 100;
+
+        assertThat(intList.get(0)).isEqualTo(1);
+    }
+
+    @SneakyThrows
+    private int[] getTestArray() {
+        Field field = IntArrayList.class.getDeclaredField("array");
+        field.setAccessible(true);
+        return (int[]) field.get(intList);
+    }
+}
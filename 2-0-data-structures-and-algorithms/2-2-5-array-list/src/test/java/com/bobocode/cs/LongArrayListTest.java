@@ -0,0 +1,66 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class LongArrayListTest {
+
+    private LongArrayList longList = new LongArrayList();
+
+    @Test
+    @Order(1)
+    void addAndGet() {
+        longList.add(Long.MAX_VALUE);
+        longList.add(0, 1L);
+
+        assertThat(longList.get(0)).isEqualTo(1L);
+        assertThat(longList.get(1)).isEqualTo(Long.MAX_VALUE);
+        assertThat(longList.size()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(2)
+    void addAllResizesOnce() {
+        longList = new LongArrayList(2);
+
+        longList.addAll(new long[]{1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L});
+
+        assertThat(longList.toArray()).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+    }
+
+    @Test
+    @Order(3)
+    void removeAndContains() {
+        longList = LongArrayList.of(3L, 4L, 5L);
+
+        assertThat(longList.remove(0)).isEqualTo(3L);
+        assertThat(longList.contains(3L)).isFalse();
+        assertThat(longList.contains(5L)).isTrue();
+    }
+
+    @Test
+    @Order(4)
+    void setByIndexOutOfBounds() {
+        longList = LongArrayList.of(3L);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> longList.set(1, 4L));
+    }
+
+    @Test
+    @Order(5)
+    void clear() {
+        longList = LongArrayList.of(3L, 4L);
+
+        longList.clear();
+
+        assertThat(longList.isEmpty()).isTrue();
+        assertThat(longList.toArray()).isEmpty();
+    }
+}
@@ -0,0 +1,115 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class MappedArrayListTest {
+    private static final int ELEMENTS = 100_000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @Order(1)
+    @SneakyThrows
+    void openCreatesEmptyList() {
+        var path = directory.resolve("list.bin");
+
+        try (var list = MappedArrayList.open(path, Long.BYTES)) {
+            assertThat(list.isEmpty()).isTrue();
+            assertThat(list.recordSize()).isEqualTo(Long.BYTES);
+            assertThat(list.capacity()).isPositive();
+        }
+        assertThat(Files.size(path)).isGreaterThan(MappedArrayList.HEADER_SIZE);
+    }
+
+    @Test
+    @Order(2)
+    void openThrowsExceptionWhenRecordSizeIsIncorrect() {
+        assertThatIllegalArgumentException().isThrownBy(() -> MappedArrayList.open(directory.resolve("list.bin"), 0));
+    }
+
+    @Test
+    @Order(3)
+    @SneakyThrows
+    void listGrowsByRemapping() {
+        try (var list = MappedArrayList.open(directory.resolve("list.bin"), Long.BYTES)) {
+            int initialCapacity = list.capacity();
+            for (int i = 0; i < ELEMENTS; i++) {
+                list.setLong(list.add(), 0, i * 3L);
+            }
+
+            assertThat(list.capacity()).isGreaterThan(initialCapacity).isGreaterThanOrEqualTo(ELEMENTS);
+            assertThat(list.size()).isEqualTo(ELEMENTS);
+            for (int i = 0; i < ELEMENTS; i++) {
+                assertThat(list.getLong(i, 0)).isEqualTo(i * 3L);
+            }
+        }
+    }
+
+    @Test
+    @Order(4)
+    @SneakyThrows
+    void reopenedListKeepsRecords() {
+        var path = directory.resolve("list.bin");
+        try (var list = MappedArrayList.open(path, 12)) {
+            for (int i = 0; i < ELEMENTS; i++) {
+                int index = list.add();
+                list.setInt(index, 0, i);
+                list.setLong(index, 4, -i);
+            }
+            list.removeLast();
+            list.force();
+        }
+
+        try (var list = MappedArrayList.open(path, 12)) {
+            assertThat(list.size()).isEqualTo(ELEMENTS - 1);
+            assertThat(list.getInt(ELEMENTS - 2, 0)).isEqualTo(ELEMENTS - 2);
+            assertThat(list.getLong(ELEMENTS - 2, 4)).isEqualTo(-(ELEMENTS - 2));
+
+            list.add();
+            assertThat(list.getInt(ELEMENTS - 1, 0)).isZero();
+            assertThat(list.getLong(ELEMENTS - 1, 4)).isZero();
+        }
+    }
+
+    @Test
+    @Order(5)
+    @SneakyThrows
+    void openThrowsExceptionWhenFileHasAnotherFormat() {
+        var path = directory.resolve("list.bin");
+        MappedArrayList.open(path, Long.BYTES).close();
+        var text = Files.writeString(directory.resolve("text.txt"), "not a list of records");
+
+        assertThatExceptionOfType(IOException.class).isThrownBy(() -> MappedArrayList.open(path, Integer.BYTES));
+        assertThatExceptionOfType(IOException.class).isThrownBy(() -> MappedArrayList.open(text, Long.BYTES));
+    }
+
+    @Test
+    @Order(6)
+    @SneakyThrows
+    void listCannotBeUsedAfterClose() {
+        var list = MappedArrayList.open(directory.resolve("list.bin"), Long.BYTES);
+        list.add();
+
+        list.close();
+        list.close();
+
+        assertThatIllegalStateException().isThrownBy(() -> list.getLong(0, 0));
+        assertThatIllegalStateException().isThrownBy(list::force);
+    }
+}
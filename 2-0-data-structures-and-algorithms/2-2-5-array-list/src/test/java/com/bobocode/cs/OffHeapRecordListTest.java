@@ -0,0 +1,162 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class OffHeapRecordListTest {
+    /**
+     * A record of an {@code int} id, a {@code long} timestamp and a {@code double} price
+     */
+    private static final int ID = 0;
+    private static final int TIMESTAMP = 4;
+    private static final int PRICE = 12;
+    private static final int RECORD_SIZE = 20;
+
+    private OffHeapRecordList list = new OffHeapRecordList(Long.BYTES, 4);
+
+    @AfterEach
+    void close() {
+        list.close();
+    }
+
+    @Test
+    @Order(1)
+    void createWithIncorrectArguments() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new OffHeapRecordList(0));
+        assertThatIllegalArgumentException().isThrownBy(() -> new OffHeapRecordList(8, 3));
+        assertThatIllegalArgumentException().isThrownBy(() -> new OffHeapRecordList(8, 0));
+        assertThatIllegalArgumentException().isThrownBy(() -> new OffHeapRecordList(8, 1 << 30));
+    }
+
+    @Test
+    @Order(2)
+    void addAndGetLongsAcrossChunks() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(list.add()).isEqualTo(i);
+            list.setLong(i, 0, i * 1_000_000_000L);
+        }
+
+        assertThat(list.size()).isEqualTo(100);
+        for (int i = 0; i < 100; i++) {
+            assertThat(list.getLong(i, 0)).isEqualTo(i * 1_000_000_000L);
+        }
+    }
+
+    @Test
+    @Order(3)
+    void structFieldsAreReadAndWrittenInPlace() {
+        list = new OffHeapRecordList(RECORD_SIZE);
+        for (int i = 0; i < 10_000; i++) {
+            int index = list.add();
+            list.setInt(index, ID, i);
+            list.setLong(index, TIMESTAMP, 1_600_000_000_000L + i);
+            list.setDouble(index, PRICE, i / 4.0);
+        }
+
+        list.setDouble(42, PRICE, -1.5);
+
+        assertThat(list.getInt(9_999, ID)).isEqualTo(9_999);
+        assertThat(list.getLong(9_999, TIMESTAMP)).isEqualTo(1_600_000_000_000L + 9_999);
+        assertThat(list.getDouble(9_999, PRICE)).isEqualTo(9_999 / 4.0);
+        assertThat(list.getInt(42, ID)).isEqualTo(42);
+        assertThat(list.getDouble(42, PRICE)).isEqualTo(-1.5);
+    }
+
+    @Test
+    @Order(4)
+    void recordsAreCopiedFromAndToBuffers() {
+        list = new OffHeapRecordList(RECORD_SIZE, 2);
+        var record = ByteBuffer.allocate(2 * RECORD_SIZE);
+        for (int i = 0; i < 2 * RECORD_SIZE; i++) {
+            record.put((byte) i);
+        }
+        record.flip();
+
+        list.add(record);
+        list.add(record);
+        var copy = ByteBuffer.allocate(RECORD_SIZE);
+        list.get(1, copy);
+
+        assertThat(record.hasRemaining()).isFalse();
+        assertThat(copy.hasRemaining()).isFalse();
+        for (int i = 0; i < RECORD_SIZE; i++) {
+            assertThat(list.getByte(0, i)).isEqualTo((byte) i);
+            assertThat(copy.get(i)).isEqualTo((byte) (RECORD_SIZE + i));
+        }
+    }
+
+    @Test
+    @Order(5)
+    void copyThrowsExceptionWhenBufferIsTooSmall() {
+        list.add();
+
+        assertThatExceptionOfType(BufferUnderflowException.class).isThrownBy(() -> list.add(ByteBuffer.allocate(7)));
+        assertThatExceptionOfType(BufferUnderflowException.class).isThrownBy(() -> list.set(0, ByteBuffer.allocate(7)));
+        assertThatExceptionOfType(BufferOverflowException.class).isThrownBy(() -> list.get(0, ByteBuffer.allocate(7)));
+        assertThat(list.size()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(6)
+    void accessOutOfBounds() {
+        list.add();
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.getLong(1, 0));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.getLong(-1, 0));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.getLong(0, 1));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.setInt(0, 5, 1));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.getByte(0, -1));
+    }
+
+    @Test
+    @Order(7)
+    void removedRecordsAreZeroedWhenAddedAgain() {
+        for (int i = 0; i < 10; i++) {
+            list.setLong(list.add(), 0, -1L);
+        }
+
+        list.removeLast();
+        list.clear();
+        list.add();
+        list.add();
+
+        assertThat(list.size()).isEqualTo(2);
+        assertThat(list.getLong(0, 0)).isZero();
+        assertThat(list.getLong(1, 0)).isZero();
+    }
+
+    @Test
+    @Order(8)
+    void removeLastThrowsExceptionWhenListIsEmpty() {
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> list.removeLast());
+    }
+
+    @Test
+    @Order(9)
+    void listCannotBeUsedAfterClose() {
+        list.add();
+        list.setLong(0, 0, 1L);
+
+        list.close();
+        list.close();
+
+        assertThat(list.isEmpty()).isTrue();
+        assertThatIllegalStateException().isThrownBy(() -> list.getLong(0, 0));
+        assertThatIllegalStateException().isThrownBy(() -> list.add());
+        assertThatIllegalStateException().isThrownBy(() -> list.clear());
+    }
+}
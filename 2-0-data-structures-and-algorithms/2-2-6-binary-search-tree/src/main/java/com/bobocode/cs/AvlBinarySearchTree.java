@@ -0,0 +1,360 @@
+package com.bobocode.cs;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@link AvlBinarySearchTree} is a self-balancing implementation of {@link BinarySearchTree}. For every node, heights
+ * of its left and right subtrees differ at most by one, so the tree depth never exceeds about {@code 1.44 * log2(n)}
+ * even when elements are inserted in a sorted order. The balance is restored by rotations on the way back from
+ * a newly inserted node to the root.
+ * <p>
+ * Unlike {@link RecursiveBinarySearchTree}, all operations are iterative, so they do not depend on the thread stack
+ * size. Insertion and search take O(log n) time, depth is computed in constant time O(1) since each node stores
+ * the height of its subtree. Each node also stores the number of elements in its subtree, so {@link #rank(Comparable)}
+ * and {@link #select(int)} take O(log n) time, and {@link #rangeTraversal(Comparable, Comparable, Consumer)} takes
+ * O(log n + k) time for a range of k elements.
+ *
+ * @param <T> generic type parameter
+ */
+public class AvlBinarySearchTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+    /**
+     * An AVL tree of {@link Integer#MAX_VALUE} elements is never higher than 45, so a path from the root to any node
+     * always fits into an array of this length
+     */
+    private static final int MAX_HEIGHT = 64;
+
+    private Node<T> root;
+    private int size;
+
+    private static class Node<T> {
+        T element;
+        Node<T> left;
+        Node<T> right;
+        int height = 1;
+        int size = 1;
+
+        public Node(T element) {
+            this.element = element;
+        }
+    }
+
+    public static <T extends Comparable<T>> AvlBinarySearchTree<T> of(T... elements) {
+        if (Objects.isNull(elements)) {
+            throw new NullPointerException();
+        }
+        AvlBinarySearchTree<T> tree = new AvlBinarySearchTree<>();
+        for (T element : elements) {
+            tree.insert(element);
+        }
+        return tree;
+    }
+
+    @Override
+    public boolean insert(T element) {
+        if (Objects.isNull(element)) {
+            throw new NullPointerException();
+        }
+        if (Objects.isNull(root)) {
+            root = new Node<>(element);
+            size++;
+            return true;
+        }
+        Node<T>[] path = newPath();
+        int pathLength = 0;
+        var current = root;
+        while (true) {
+            path[pathLength++] = current;
+            int comparison = element.compareTo(current.element);
+            if (comparison < 0) {
+                if (Objects.isNull(current.left)) {
+                    current.left = new Node<>(element);
+                    break;
+                }
+                current = current.left;
+            } else if (comparison > 0) {
+                if (Objects.isNull(current.right)) {
+                    current.right = new Node<>(element);
+                    break;
+                }
+                current = current.right;
+            } else {
+                return false;
+            }
+        }
+        size++;
+        rebalance(path, pathLength);
+        return true;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        if (Objects.isNull(element)) {
+            throw new NullPointerException();
+        }
+        var current = root;
+        while (Objects.nonNull(current)) {
+            int comparison = element.compareTo(current.element);
+            if (comparison < 0) {
+                current = current.left;
+            } else if (comparison > 0) {
+                current = current.right;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int depth() {
+        return Objects.isNull(root) ? 0 : root.height - 1;
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        Node<T>[] stack = newPath();
+        int stackSize = 0;
+        var current = root;
+        while (Objects.nonNull(current) || stackSize > 0) {
+            while (Objects.nonNull(current)) {
+                stack[stackSize++] = current;
+                current = current.left;
+            }
+            current = stack[--stackSize];
+            consumer.accept(current.element);
+            current = current.right;
+        }
+    }
+
+    @Override
+    public T floor(T element) {
+        if (Objects.isNull(element)) {
+            throw new NullPointerException();
+        }
+        T floor = null;
+        var current = root;
+        while (Objects.nonNull(current)) {
+            int comparison = element.compareTo(current.element);
+            if (comparison < 0) {
+                current = current.left;
+            } else if (comparison > 0) {
+                floor = current.element;
+                current = current.right;
+            } else {
+                return current.element;
+            }
+        }
+        return floor;
+    }
+
+    @Override
+    public T ceiling(T element) {
+        if (Objects.isNull(element)) {
+            throw new NullPointerException();
+        }
+        T ceiling = null;
+        var current = root;
+        while (Objects.nonNull(current)) {
+            int comparison = element.compareTo(current.element);
+            if (comparison > 0) {
+                current = current.right;
+            } else if (comparison < 0) {
+                ceiling = current.element;
+                current = current.left;
+            } else {
+                return current.element;
+            }
+        }
+        return ceiling;
+    }
+
+    @Override
+    public T min() {
+        if (Objects.isNull(root)) {
+            throw new NoSuchElementException();
+        }
+        var current = root;
+        while (Objects.nonNull(current.left)) {
+            current = current.left;
+        }
+        return current.element;
+    }
+
+    @Override
+    public T max() {
+        if (Objects.isNull(root)) {
+            throw new NoSuchElementException();
+        }
+        var current = root;
+        while (Objects.nonNull(current.right)) {
+            current = current.right;
+        }
+        return current.element;
+    }
+
+    @Override
+    public void rangeTraversal(T from, T to, Consumer<T> consumer) {
+        if (Objects.isNull(from) || Objects.isNull(to)) {
+            throw new NullPointerException();
+        }
+        if (from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("Incorrect range, from should be <= to");
+        }
+        Node<T>[] stack = newPath();
+        int stackSize = 0;
+        var current = root;
+        while (true) {
+            while (Objects.nonNull(current)) {
+                if (from.compareTo(current.element) > 0) {
+                    current = current.right;
+                } else {
+                    stack[stackSize++] = current;
+                    current = current.left;
+                }
+            }
+            if (stackSize == 0) {
+                return;
+            }
+            current = stack[--stackSize];
+            if (to.compareTo(current.element) < 0) {
+                return;
+            }
+            consumer.accept(current.element);
+            current = current.right;
+        }
+    }
+
+    @Override
+    public int rank(T element) {
+        if (Objects.isNull(element)) {
+            throw new NullPointerException();
+        }
+        int rank = 0;
+        var current = root;
+        while (Objects.nonNull(current)) {
+            int comparison = element.compareTo(current.element);
+            if (comparison < 0) {
+                current = current.left;
+            } else if (comparison > 0) {
+                rank += subtreeSize(current.left) + 1;
+                current = current.right;
+            } else {
+                return rank + subtreeSize(current.left);
+            }
+        }
+        return rank;
+    }
+
+    @Override
+    public T select(int k) {
+        if (k < 0 || k >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        var current = root;
+        while (true) {
+            int leftSize = subtreeSize(current.left);
+            if (k < leftSize) {
+                current = current.left;
+            } else if (k > leftSize) {
+                k -= leftSize + 1;
+                current = current.right;
+            } else {
+                return current.element;
+            }
+        }
+    }
+
+    /**
+     * Restores the balance of the nodes on the path from the root to the parent of a new node, starting from the
+     * bottom. A single or a double rotation brings the subtree back to its height before insertion, so ancestors above
+     * it keep their heights and only their sizes are incremented.
+     */
+    private void rebalance(Node<T>[] path, int pathLength) {
+        int i = pathLength - 1;
+        while (i >= 0) {
+            var node = path[i];
+            int oldHeight = node.height;
+            var balancedNode = balance(node);
+            if (balancedNode != node) {
+                replaceChild(i == 0 ? null : path[i - 1], node, balancedNode);
+            }
+            i--;
+            if (balancedNode.height == oldHeight) {
+                break;
+            }
+        }
+        for (; i >= 0; i--) {
+            path[i].size++;
+        }
+    }
+
+    private void replaceChild(Node<T> parent, Node<T> oldChild, Node<T> newChild) {
+        if (Objects.isNull(parent)) {
+            root = newChild;
+        } else if (parent.left == oldChild) {
+            parent.left = newChild;
+        } else {
+            parent.right = newChild;
+        }
+    }
+
+    private Node<T> balance(Node<T> node) {
+        update(node);
+        int balanceFactor = height(node.left) - height(node.right);
+        if (balanceFactor > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (balanceFactor < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        var newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        update(node);
+        update(newRoot);
+        return newRoot;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        var newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        update(node);
+        update(newRoot);
+        return newRoot;
+    }
+
+    private void update(Node<T> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        node.size = 1 + subtreeSize(node.left) + subtreeSize(node.right);
+    }
+
+    private int height(Node<T> node) {
+        return Objects.isNull(node) ? 0 : node.height;
+    }
+
+    private int subtreeSize(Node<T> node) {
+        return Objects.isNull(node) ? 0 : node.size;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node<T>[] newPath() {
+        return (Node<T>[]) new Node[MAX_HEIGHT];
+    }
+}
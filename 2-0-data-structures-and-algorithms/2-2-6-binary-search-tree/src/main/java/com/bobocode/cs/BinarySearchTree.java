@@ -29,4 +29,46 @@ public interface BinarySearchTree<T extends Comparable<T>> {
      * @param consumer accepts ref. to node during traversing
      */
     void inOrderTraversal(Consumer<T> consumer);
+
+    /**
+     * @return the greatest element less than or equal to the given one, or {@code null} if there is no such element
+     */
+    T floor(T element);
+
+    /**
+     * @return the least element greater than or equal to the given one, or {@code null} if there is no such element
+     */
+    T ceiling(T element);
+
+    /**
+     * @return the least element in the tree
+     * @throws java.util.NoSuchElementException if tree is empty
+     */
+    T min();
+
+    /**
+     * @return the greatest element in the tree
+     * @throws java.util.NoSuchElementException if tree is empty
+     */
+    T max();
+
+    /**
+     * traverse elements from range [from, to] in element's natural order. Subtrees that are out of the range are
+     * skipped, so only the elements of the range and the nodes on the paths to its bounds are visited
+     * @param consumer accepts ref. to node during traversing
+     * @throws IllegalArgumentException if from is greater than to
+     */
+    void rangeTraversal(T from, T to, Consumer<T> consumer);
+
+    /**
+     * @return number of elements in the tree that are less than the given one
+     */
+    int rank(T element);
+
+    /**
+     * @param k an index of element in natural order, starting from 0
+     * @return k-th least element in the tree
+     * @throws IndexOutOfBoundsException if k is negative or not less than the tree size
+     */
+    T select(int k);
 }
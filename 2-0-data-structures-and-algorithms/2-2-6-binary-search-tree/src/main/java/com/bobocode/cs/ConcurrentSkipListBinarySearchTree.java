@@ -0,0 +1,278 @@
+package com.bobocode.cs;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * {@link ConcurrentSkipListBinarySearchTree} is a thread-safe implementation of {@link BinarySearchTree} based on a
+ * lock-free skip list. All elements are kept in a sorted linked list, and each node also belongs to a random number of
+ * index lists above it. Every next index list holds about a half of the nodes of the list below, so a search starts
+ * at the top list and goes down, skipping most of the nodes, and takes O(log n) time on average.
+ * <p>
+ * A new node is linked into each list with a single compare-and-set of its predecessor's link using
+ * {@link VarHandle}, starting from the bottom list. An element is inserted once it is linked into the bottom list,
+ * index lists only speed up searches. Elements are never removed, so a node never changes its position, and readers
+ * never wait for writers. Traversals are weakly consistent: they see all elements inserted before they started and
+ * may or may not see elements inserted concurrently.
+ * <p>
+ * A skip list has no root, so {@link #depth()} is the number of index lists in use, which grows as log2(n) like the
+ * depth of a balanced tree. Nodes do not keep the number of elements after them, so {@link #rank(Comparable)} and
+ * {@link #select(int)} take linear time. {@link #size()} sums up a {@link LongAdder}, so it is exact only when no
+ * thread inserts elements.
+ *
+ * @param <T> generic type parameter
+ */
+public class ConcurrentSkipListBinarySearchTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+    private static final int MAX_LEVEL = 32;
+    private static final VarHandle NEXT = MethodHandles.arrayElementVarHandle(Node[].class);
+
+    private final Node<T> head = new Node<>(null, MAX_LEVEL);
+    /**
+     * The number of lists that hold at least one node. It may lag behind while a new node is being linked
+     */
+    private final AtomicInteger levels = new AtomicInteger(1);
+    private final LongAdder size = new LongAdder();
+
+    private static class Node<T> {
+        final T element;
+        final Node<T>[] next;
+
+        @SuppressWarnings("unchecked")
+        Node(T element, int level) {
+            this.element = element;
+            this.next = (Node<T>[]) new Node[level];
+        }
+
+        @SuppressWarnings("unchecked")
+        Node<T> next(int level) {
+            return (Node<T>) NEXT.getAcquire(next, level);
+        }
+
+        boolean casNext(int level, Node<T> expected, Node<T> newNext) {
+            return NEXT.compareAndSet(next, level, expected, newNext);
+        }
+    }
+
+    public static <T extends Comparable<T>> ConcurrentSkipListBinarySearchTree<T> of(T... elements) {
+        if (Objects.isNull(elements)) {
+            throw new NullPointerException();
+        }
+        var tree = new ConcurrentSkipListBinarySearchTree<T>();
+        for (T element : elements) {
+            tree.insert(element);
+        }
+        return tree;
+    }
+
+    @Override
+    public boolean insert(T element) {
+        if (Objects.isNull(element)) {
+            throw new NullPointerException();
+        }
+        int level = randomLevel();
+        int topLevel = Math.max(levels.get(), level);
+        Node<T>[] preds = newNodes(topLevel);
+        Node<T>[] succs = newNodes(topLevel);
+        Node<T> node = null;
+        while (true) {
+            if (find(element, preds, succs, topLevel)) {
+                return false;
+            }
+            if (Objects.isNull(node)) {
+                node = new Node<>(element, level);
+            }
+            System.arraycopy(succs, 0, node.next, 0, level);
+            if (preds[0].casNext(0, succs[0], node)) {
+                break;
+            }
+        }
+        size.increment();
+        for (int i = 1; i < level; i++) {
+            while (!preds[i].casNext(i, succs[i], node)) {
+                find(element, preds, succs, level);
+                node.next[i] = succs[i];
+            }
+        }
+        levels.accumulateAndGet(level, Math::max);
+        return true;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        if (Objects.isNull(element)) {
+            throw new NullPointerException();
+        }
+        var pred = head;
+        for (int level = levels.get() - 1; level >= 0; level--) {
+            var current = pred.next(level);
+            while (Objects.nonNull(current)) {
+                int comparison = current.element.compareTo(element);
+                if (comparison < 0) {
+                    pred = current;
+                    current = pred.next(level);
+                } else if (comparison > 0) {
+                    break;
+                } else {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.min(size.sum(), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int depth() {
+        return size() <= 1 ? 0 : levels.get() - 1;
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        for (var current = head.next(0); Objects.nonNull(current); current = current.next(0)) {
+            consumer.accept(current.element);
+        }
+    }
+
+    @Override
+    public T floor(T element) {
+        var pred = predecessor(element);
+        var next = pred.next(0);
+        if (Objects.nonNull(next) && next.element.compareTo(element) == 0) {
+            return next.element;
+        }
+        return pred.element;
+    }
+
+    @Override
+    public T ceiling(T element) {
+        var next = predecessor(element).next(0);
+        return Objects.isNull(next) ? null : next.element;
+    }
+
+    @Override
+    public T min() {
+        var first = head.next(0);
+        if (Objects.isNull(first)) {
+            throw new NoSuchElementException();
+        }
+        return first.element;
+    }
+
+    @Override
+    public T max() {
+        var pred = head;
+        for (int level = levels.get() - 1; level >= 0; level--) {
+            for (var current = pred.next(level); Objects.nonNull(current); current = current.next(level)) {
+                pred = current;
+            }
+        }
+        if (pred == head) {
+            throw new NoSuchElementException();
+        }
+        return pred.element;
+    }
+
+    @Override
+    public void rangeTraversal(T from, T to, Consumer<T> consumer) {
+        if (Objects.isNull(from) || Objects.isNull(to)) {
+            throw new NullPointerException();
+        }
+        if (from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("Incorrect range, from should be <= to");
+        }
+        var current = predecessor(from).next(0);
+        while (Objects.nonNull(current) && current.element.compareTo(to) <= 0) {
+            consumer.accept(current.element);
+            current = current.next(0);
+        }
+    }
+
+    @Override
+    public int rank(T element) {
+        if (Objects.isNull(element)) {
+            throw new NullPointerException();
+        }
+        int rank = 0;
+        var current = head.next(0);
+        while (Objects.nonNull(current) && current.element.compareTo(element) < 0) {
+            rank++;
+            current = current.next(0);
+        }
+        return rank;
+    }
+
+    @Override
+    public T select(int k) {
+        if (k < 0 || k >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        var current = head.next(0);
+        for (int i = 0; i < k && Objects.nonNull(current); i++) {
+            current = current.next(0);
+        }
+        if (Objects.isNull(current)) {
+            throw new IndexOutOfBoundsException();
+        }
+        return current.element;
+    }
+
+    /**
+     * Finds the nodes between which an element belongs in each list from {@code topLevel - 1} down to the bottom one.
+     * A predecessor is the last node with a smaller element, a successor is the node after it.
+     *
+     * @return {@code true} if the bottom successor holds an equal element
+     */
+    private boolean find(T element, Node<T>[] preds, Node<T>[] succs, int topLevel) {
+        var pred = head;
+        for (int level = topLevel - 1; level >= 0; level--) {
+            var current = pred.next(level);
+            while (Objects.nonNull(current) && current.element.compareTo(element) < 0) {
+                pred = current;
+                current = pred.next(level);
+            }
+            preds[level] = pred;
+            succs[level] = current;
+        }
+        return Objects.nonNull(succs[0]) && succs[0].element.compareTo(element) == 0;
+    }
+
+    /**
+     * Returns the last node of the bottom list with an element less than the given one, or the head if there is none
+     */
+    private Node<T> predecessor(T element) {
+        if (Objects.isNull(element)) {
+            throw new NullPointerException();
+        }
+        var pred = head;
+        for (int level = levels.get() - 1; level >= 0; level--) {
+            var current = pred.next(level);
+            while (Objects.nonNull(current) && current.element.compareTo(element) < 0) {
+                pred = current;
+                current = pred.next(level);
+            }
+        }
+        return pred;
+    }
+
+    /**
+     * Returns a level from 1 to {@link #MAX_LEVEL}, each next one is half as likely as the previous one
+     */
+    private static int randomLevel() {
+        return Integer.numberOfTrailingZeros(ThreadLocalRandom.current().nextInt() | 1 << (MAX_LEVEL - 1)) + 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node<T>[] newNodes(int length) {
+        return (Node<T>[]) new Node[length];
+    }
+}
@@ -1,5 +1,6 @@
 package com.bobocode.cs;
 
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.function.Consumer;
 
@@ -11,6 +12,7 @@ public class RecursiveBinarySearchTree<T extends Comparable<T>> implements Binar
         T element;
         Node<T> left;
         Node<T> right;
+        int size = 1;
 
         public Node(T element) {
             this.element = element;
@@ -45,20 +47,21 @@ public class RecursiveBinarySearchTree<T extends Comparable<T>> implements Binar
             if (Objects.isNull(current.left)) {
                 current.left = element;
                 size++;
-                return true;
-            } else {
-                return recursiveInsert(current.left, element);
+            } else if (!recursiveInsert(current.left, element)) {
+                return false;
             }
         } else if (element.element.compareTo(current.element) > 0) {
             if (Objects.isNull(current.right)) {
                 current.right = element;
                 size++;
-                return true;
-            } else {
-                return recursiveInsert(current.right, element);
+            } else if (!recursiveInsert(current.right, element)) {
+                return false;
             }
+        } else {
+            return false;
         }
-        return false;
+        current.size++;
+        return true;
     }
 
     @Override
@@ -107,4 +110,140 @@ public class RecursiveBinarySearchTree<T extends Comparable<T>> implements Binar
             recursiveInOrderTraversal(current.right, consumer);
         }
     }
+
+    @Override
+    public T floor(T element) {
+        if (Objects.isNull(element)) {
+            throw new NullPointerException();
+        }
+        return recursiveFloor(root, element);
+    }
+
+    private T recursiveFloor(Node<T> current, T element) {
+        if (Objects.isNull(current)) {
+            return null;
+        } else if (element.compareTo(current.element) < 0) {
+            return recursiveFloor(current.left, element);
+        } else if (element.compareTo(current.element) > 0) {
+            T floor = recursiveFloor(current.right, element);
+            return Objects.nonNull(floor) ? floor : current.element;
+        } else {
+            return current.element;
+        }
+    }
+
+    @Override
+    public T ceiling(T element) {
+        if (Objects.isNull(element)) {
+            throw new NullPointerException();
+        }
+        return recursiveCeiling(root, element);
+    }
+
+    private T recursiveCeiling(Node<T> current, T element) {
+        if (Objects.isNull(current)) {
+            return null;
+        } else if (element.compareTo(current.element) > 0) {
+            return recursiveCeiling(current.right, element);
+        } else if (element.compareTo(current.element) < 0) {
+            T ceiling = recursiveCeiling(current.left, element);
+            return Objects.nonNull(ceiling) ? ceiling : current.element;
+        } else {
+            return current.element;
+        }
+    }
+
+    @Override
+    public T min() {
+        if (Objects.isNull(root)) {
+            throw new NoSuchElementException();
+        }
+        return recursiveMin(root);
+    }
+
+    private T recursiveMin(Node<T> current) {
+        return Objects.isNull(current.left) ? current.element : recursiveMin(current.left);
+    }
+
+    @Override
+    public T max() {
+        if (Objects.isNull(root)) {
+            throw new NoSuchElementException();
+        }
+        return recursiveMax(root);
+    }
+
+    private T recursiveMax(Node<T> current) {
+        return Objects.isNull(current.right) ? current.element : recursiveMax(current.right);
+    }
+
+    @Override
+    public void rangeTraversal(T from, T to, Consumer<T> consumer) {
+        if (Objects.isNull(from) || Objects.isNull(to)) {
+            throw new NullPointerException();
+        }
+        if (from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("Incorrect range, from should be <= to");
+        }
+        recursiveRangeTraversal(root, from, to, consumer);
+    }
+
+    private void recursiveRangeTraversal(Node<T> current, T from, T to, Consumer<T> consumer) {
+        if (Objects.nonNull(current)) {
+            boolean afterFrom = from.compareTo(current.element) <= 0;
+            boolean beforeTo = to.compareTo(current.element) >= 0;
+            if (afterFrom) {
+                recursiveRangeTraversal(current.left, from, to, consumer);
+            }
+            if (afterFrom && beforeTo) {
+                consumer.accept(current.element);
+            }
+            if (beforeTo) {
+                recursiveRangeTraversal(current.right, from, to, consumer);
+            }
+        }
+    }
+
+    @Override
+    public int rank(T element) {
+        if (Objects.isNull(element)) {
+            throw new NullPointerException();
+        }
+        return recursiveRank(root, element);
+    }
+
+    private int recursiveRank(Node<T> current, T element) {
+        if (Objects.isNull(current)) {
+            return 0;
+        } else if (element.compareTo(current.element) < 0) {
+            return recursiveRank(current.left, element);
+        } else if (element.compareTo(current.element) > 0) {
+            return subtreeSize(current.left) + 1 + recursiveRank(current.right, element);
+        } else {
+            return subtreeSize(current.left);
+        }
+    }
+
+    @Override
+    public T select(int k) {
+        if (k < 0 || k >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return recursiveSelect(root, k);
+    }
+
+    private T recursiveSelect(Node<T> current, int k) {
+        int leftSize = subtreeSize(current.left);
+        if (k < leftSize) {
+            return recursiveSelect(current.left, k);
+        } else if (k > leftSize) {
+            return recursiveSelect(current.right, k - leftSize - 1);
+        } else {
+            return current.element;
+        }
+    }
+
+    private int subtreeSize(Node<T> node) {
+        return Objects.isNull(node) ? 0 : node.size;
+    }
 }
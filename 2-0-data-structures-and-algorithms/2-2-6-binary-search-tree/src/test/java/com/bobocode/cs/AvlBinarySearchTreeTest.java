@@ -0,0 +1,286 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class AvlBinarySearchTreeTest {
+
+    private static final Integer[] someElements = {10, 9, 11, 8, 12, 7};
+    private BinarySearchTree<Integer> tree = new AvlBinarySearchTree<>();
+
+    @Test
+    @Order(1)
+    void of() {
+        tree = AvlBinarySearchTree.of(someElements);
+
+        for (var e : someElements) {
+            assertThat(tree.contains(e)).isTrue();
+        }
+        assertThat(tree.size()).isEqualTo(someElements.length);
+    }
+
+    @Test
+    @Order(2)
+    void insert() {
+        for (Integer e : someElements) {
+            assertThat(tree.contains(e)).isFalse();
+            assertThat(tree.insert(e)).isTrue();
+            assertThat(tree.contains(e)).isTrue();
+        }
+    }
+
+    @Test
+    @Order(3)
+    void insertDoesNotAddDuplicateElements() {
+        tree = AvlBinarySearchTree.of(10, 11, 12);
+
+        assertThat(tree.insert(10)).isFalse();
+        assertThat(tree.insert(11)).isFalse();
+        assertThat(tree.insert(12)).isFalse();
+        assertThat(tree.size()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(4)
+    void insertThrowsExceptionWhenArgumentIsNull() {
+        tree = AvlBinarySearchTree.of(someElements);
+
+        assertThatNullPointerException().isThrownBy(() -> tree.insert(null));
+    }
+
+    @Test
+    @Order(5)
+    void containsReturnsFalseIfElementDoesntExist() {
+        tree = AvlBinarySearchTree.of(someElements);
+
+        assertThat(tree.contains(100)).isFalse();
+        assertThat(tree.contains(-100)).isFalse();
+    }
+
+    @Test
+    @Order(6)
+    void containsThrowsExceptionIFParameterIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> tree.contains(null));
+    }
+
+    @Order(7)
+    @ParameterizedTest
+    @MethodSource("depthArguments")
+    void depth(Integer[] elements, int depth) {
+        tree = AvlBinarySearchTree.of(elements);
+
+        assertThat(tree.depth()).isEqualTo(depth);
+    }
+
+    @Test
+    @Order(8)
+    void sortedInputBuildsPerfectTree() {
+        IntStream.rangeClosed(1, 1023).forEach(tree::insert);
+
+        assertThat(tree.size()).isEqualTo(1023);
+        assertThat(tree.depth()).isEqualTo(9);
+    }
+
+    @Test
+    @Order(9)
+    void largeSortedInputKeepsLogarithmicDepth() {
+        int size = 1_000_000;
+        for (int i = size; i > 0; i--) {
+            tree.insert(i);
+        }
+
+        assertThat(tree.size()).isEqualTo(size);
+        assertThat(tree.depth()).isLessThanOrEqualTo((int) (1.44 * Math.log(size) / Math.log(2)));
+        assertThat(tree.contains(1)).isTrue();
+        assertThat(tree.contains(size)).isTrue();
+        assertThat(tree.contains(size + 1)).isFalse();
+    }
+
+    @Test
+    @Order(10)
+    void inorderTraversal() {
+        tree = AvlBinarySearchTree.of(someElements);
+        Integer[] sortedElements = Arrays.copyOf(someElements, someElements.length);
+        Arrays.sort(sortedElements);
+
+        List<Integer> traversedElements = new ArrayList<>(tree.size());
+        tree.inOrderTraversal(traversedElements::add);
+
+        assertThat(traversedElements).isEqualTo(List.of(sortedElements));
+    }
+
+    @Test
+    @Order(11)
+    void inorderTraversalOfShuffledInput() {
+        var elements = new ArrayList<Integer>();
+        IntStream.range(0, 10_000).forEach(elements::add);
+        Collections.shuffle(elements, new Random(42));
+        elements.forEach(tree::insert);
+
+        List<Integer> traversedElements = new ArrayList<>(tree.size());
+        tree.inOrderTraversal(traversedElements::add);
+
+        Collections.sort(elements);
+        assertThat(traversedElements).isEqualTo(elements);
+    }
+
+    @Test
+    @Order(12)
+    void floorAndCeiling() {
+        tree = AvlBinarySearchTree.of(10, 5, 15, 1, 20);
+
+        assertThat(tree.floor(10)).isEqualTo(10);
+        assertThat(tree.floor(14)).isEqualTo(10);
+        assertThat(tree.floor(0)).isNull();
+        assertThat(tree.ceiling(6)).isEqualTo(10);
+        assertThat(tree.ceiling(15)).isEqualTo(15);
+        assertThat(tree.ceiling(21)).isNull();
+    }
+
+    @Test
+    @Order(13)
+    void minAndMax() {
+        tree = AvlBinarySearchTree.of(someElements);
+
+        assertThat(tree.min()).isEqualTo(7);
+        assertThat(tree.max()).isEqualTo(12);
+    }
+
+    @Test
+    @Order(14)
+    void minThrowsExceptionIfTreeIsEmpty() {
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> tree.min());
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> tree.max());
+    }
+
+    @Test
+    @Order(15)
+    void rangeTraversal() {
+        tree = AvlBinarySearchTree.of(10, 5, 15, 1, 20, 7, 12);
+
+        List<Integer> traversedElements = new ArrayList<>();
+        tree.rangeTraversal(6, 15, traversedElements::add);
+
+        assertThat(traversedElements).isEqualTo(List.of(7, 10, 12, 15));
+
+        traversedElements.clear();
+        tree.rangeTraversal(21, 30, traversedElements::add);
+        tree.rangeTraversal(-10, 0, traversedElements::add);
+        assertThat(traversedElements).isEmpty();
+    }
+
+    @Test
+    @Order(16)
+    void rangeTraversalThrowsExceptionIfRangeIsIncorrect() {
+        tree = AvlBinarySearchTree.of(someElements);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> tree.rangeTraversal(10, 9, e -> {
+        }));
+    }
+
+    @Test
+    @Order(17)
+    void rank() {
+        tree = AvlBinarySearchTree.of(someElements);
+
+        assertThat(tree.rank(7)).isEqualTo(0);
+        assertThat(tree.rank(10)).isEqualTo(3);
+        assertThat(tree.rank(100)).isEqualTo(6);
+        assertThat(tree.rank(-100)).isEqualTo(0);
+    }
+
+    @Test
+    @Order(18)
+    void select() {
+        tree = AvlBinarySearchTree.of(someElements);
+
+        assertThat(tree.select(0)).isEqualTo(7);
+        assertThat(tree.select(3)).isEqualTo(10);
+        assertThat(tree.select(5)).isEqualTo(12);
+    }
+
+    @Test
+    @Order(19)
+    void selectThrowsExceptionIfIndexIsOutOfBounds() {
+        tree = AvlBinarySearchTree.of(someElements);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> tree.select(6));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> tree.select(-1));
+    }
+
+    @Test
+    @Order(20)
+    void rankAndSelectAfterDuplicateInsert() {
+        tree = AvlBinarySearchTree.of(someElements);
+
+        tree.insert(10);
+        tree.insert(7);
+
+        assertThat(tree.rank(12)).isEqualTo(5);
+        assertThat(tree.select(5)).isEqualTo(12);
+    }
+
+    @Test
+    @Order(21)
+    void orderStatisticsMatchTreeSet() {
+        var random = new Random(42);
+        var expected = new TreeSet<Integer>();
+        for (int i = 0; i < 10_000; i++) {
+            int element = random.nextInt(20_000);
+            assertThat(tree.insert(element)).isEqualTo(expected.add(element));
+        }
+        var sortedElements = new ArrayList<>(expected);
+
+        for (int i = 0; i < 1_000; i++) {
+            int element = random.nextInt(20_000);
+            assertThat(tree.floor(element)).isEqualTo(expected.floor(element));
+            assertThat(tree.ceiling(element)).isEqualTo(expected.ceiling(element));
+            assertThat(tree.rank(element)).isEqualTo(expected.headSet(element).size());
+            int k = random.nextInt(sortedElements.size());
+            assertThat(tree.select(k)).isEqualTo(sortedElements.get(k));
+        }
+        List<Integer> traversedElements = new ArrayList<>();
+        tree.rangeTraversal(5_000, 5_100, traversedElements::add);
+        assertThat(traversedElements).isEqualTo(new ArrayList<>(expected.subSet(5_000, true, 5_100, true)));
+    }
+
+    public static Stream<Arguments> depthArguments() {
+        return Stream.of(
+                //empty tree
+                arguments(new Integer[]{}, 0),
+                //tree with a single element
+                arguments(new Integer[]{24}, 0),
+                arguments(new Integer[]{10, 5, 15, 1, 20}, 2),
+                /*
+                 * ......2
+                 * ...../ \
+                 * ....1   4
+                 * ......./ \
+                 * ......3   5
+                 */
+                arguments(new Integer[]{1, 2, 3, 4, 5}, 2),
+                //left-right case
+                arguments(new Integer[]{3, 1, 2}, 1),
+                //right-left case
+                arguments(new Integer[]{1, 3, 2}, 1));
+    }
+}
@@ -14,6 +14,7 @@ import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -235,6 +236,102 @@ class BinarySearchTreeTest {
         assertThat(traversedElements).isEqualTo(List.of(sortedElements));
     }
 
+    @Test
+    @Order(20)
+    void floorAndCeiling() {
+        tree = RecursiveBinarySearchTree.of(10, 5, 15, 1, 20);
+
+        assertThat(tree.floor(10)).isEqualTo(10);
+        assertThat(tree.floor(14)).isEqualTo(10);
+        assertThat(tree.floor(0)).isNull();
+        assertThat(tree.ceiling(6)).isEqualTo(10);
+        assertThat(tree.ceiling(15)).isEqualTo(15);
+        assertThat(tree.ceiling(21)).isNull();
+    }
+
+    @Test
+    @Order(21)
+    void minAndMax() {
+        tree = RecursiveBinarySearchTree.of(someElements);
+
+        assertThat(tree.min()).isEqualTo(7);
+        assertThat(tree.max()).isEqualTo(12);
+    }
+
+    @Test
+    @Order(22)
+    void minThrowsExceptionIfTreeIsEmpty() {
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> tree.min());
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> tree.max());
+    }
+
+    @Test
+    @Order(23)
+    void rangeTraversal() {
+        tree = RecursiveBinarySearchTree.of(10, 5, 15, 1, 20, 7, 12);
+
+        List<Integer> traversedElements = new ArrayList<>();
+        tree.rangeTraversal(6, 15, traversedElements::add);
+
+        assertThat(traversedElements).isEqualTo(List.of(7, 10, 12, 15));
+
+        traversedElements.clear();
+        tree.rangeTraversal(21, 30, traversedElements::add);
+        tree.rangeTraversal(-10, 0, traversedElements::add);
+        assertThat(traversedElements).isEmpty();
+    }
+
+    @Test
+    @Order(24)
+    void rangeTraversalThrowsExceptionIfRangeIsIncorrect() {
+        tree = RecursiveBinarySearchTree.of(someElements);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> tree.rangeTraversal(10, 9, e -> {
+        }));
+    }
+
+    @Test
+    @Order(25)
+    void rank() {
+        tree = RecursiveBinarySearchTree.of(someElements);
+
+        assertThat(tree.rank(7)).isEqualTo(0);
+        assertThat(tree.rank(10)).isEqualTo(3);
+        assertThat(tree.rank(100)).isEqualTo(6);
+        assertThat(tree.rank(-100)).isEqualTo(0);
+    }
+
+    @Test
+    @Order(26)
+    void select() {
+        tree = RecursiveBinarySearchTree.of(someElements);
+
+        assertThat(tree.select(0)).isEqualTo(7);
+        assertThat(tree.select(3)).isEqualTo(10);
+        assertThat(tree.select(5)).isEqualTo(12);
+    }
+
+    @Test
+    @Order(27)
+    void selectThrowsExceptionIfIndexIsOutOfBounds() {
+        tree = RecursiveBinarySearchTree.of(someElements);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> tree.select(6));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> tree.select(-1));
+    }
+
+    @Test
+    @Order(28)
+    void rankAndSelectAfterDuplicateInsert() {
+        tree = RecursiveBinarySearchTree.of(someElements);
+
+        tree.insert(10);
+        tree.insert(7);
+
+        assertThat(tree.rank(12)).isEqualTo(5);
+        assertThat(tree.select(5)).isEqualTo(12);
+    }
+
     public static Stream<Arguments> depthArguments() {
         return Stream.of(
                 //empty tree
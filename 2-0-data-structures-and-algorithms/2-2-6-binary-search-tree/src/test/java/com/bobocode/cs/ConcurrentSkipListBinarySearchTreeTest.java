@@ -0,0 +1,253 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ConcurrentSkipListBinarySearchTreeTest {
+    private static final int THREADS = 4;
+    private static final int ELEMENTS = 100_000;
+
+    private static final Integer[] someElements = {10, 9, 11, 8, 12, 7};
+    private BinarySearchTree<Integer> tree = new ConcurrentSkipListBinarySearchTree<>();
+
+    @Test
+    @Order(1)
+    void of() {
+        tree = ConcurrentSkipListBinarySearchTree.of(someElements);
+
+        for (var e : someElements) {
+            assertThat(tree.contains(e)).isTrue();
+        }
+        assertThat(tree.size()).isEqualTo(someElements.length);
+    }
+
+    @Test
+    @Order(2)
+    void insert() {
+        for (Integer e : someElements) {
+            assertThat(tree.contains(e)).isFalse();
+            assertThat(tree.insert(e)).isTrue();
+            assertThat(tree.contains(e)).isTrue();
+        }
+    }
+
+    @Test
+    @Order(3)
+    void insertDoesNotAddDuplicateElements() {
+        tree = ConcurrentSkipListBinarySearchTree.of(10, 11, 12);
+
+        assertThat(tree.insert(10)).isFalse();
+        assertThat(tree.insert(11)).isFalse();
+        assertThat(tree.insert(12)).isFalse();
+        assertThat(tree.size()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(4)
+    void insertAndContainsThrowExceptionWhenArgumentIsNull() {
+        tree = ConcurrentSkipListBinarySearchTree.of(someElements);
+
+        assertThatNullPointerException().isThrownBy(() -> tree.insert(null));
+        assertThatNullPointerException().isThrownBy(() -> tree.contains(null));
+    }
+
+    @Test
+    @Order(5)
+    void containsReturnsFalseIfElementDoesntExist() {
+        tree = ConcurrentSkipListBinarySearchTree.of(someElements);
+
+        assertThat(tree.contains(100)).isFalse();
+        assertThat(tree.contains(-100)).isFalse();
+    }
+
+    @Test
+    @Order(6)
+    void depthGrowsLogarithmically() {
+        assertThat(tree.depth()).isEqualTo(0);
+        tree.insert(1);
+        assertThat(tree.depth()).isEqualTo(0);
+
+        IntStream.range(0, ELEMENTS).forEach(tree::insert);
+
+        assertThat(tree.depth()).isBetween(1, 3 * (int) (Math.log(ELEMENTS) / Math.log(2)));
+    }
+
+    @Test
+    @Order(7)
+    void inorderTraversal() {
+        tree = ConcurrentSkipListBinarySearchTree.of(someElements);
+        Integer[] sortedElements = Arrays.copyOf(someElements, someElements.length);
+        Arrays.sort(sortedElements);
+
+        List<Integer> traversedElements = new ArrayList<>(tree.size());
+        tree.inOrderTraversal(traversedElements::add);
+
+        assertThat(traversedElements).isEqualTo(List.of(sortedElements));
+    }
+
+    @Test
+    @Order(8)
+    void floorAndCeiling() {
+        tree = ConcurrentSkipListBinarySearchTree.of(10, 5, 15, 1, 20);
+
+        assertThat(tree.floor(10)).isEqualTo(10);
+        assertThat(tree.floor(14)).isEqualTo(10);
+        assertThat(tree.floor(0)).isNull();
+        assertThat(tree.ceiling(6)).isEqualTo(10);
+        assertThat(tree.ceiling(15)).isEqualTo(15);
+        assertThat(tree.ceiling(21)).isNull();
+    }
+
+    @Test
+    @Order(9)
+    void minAndMax() {
+        tree = ConcurrentSkipListBinarySearchTree.of(someElements);
+
+        assertThat(tree.min()).isEqualTo(7);
+        assertThat(tree.max()).isEqualTo(12);
+    }
+
+    @Test
+    @Order(10)
+    void minThrowsExceptionIfTreeIsEmpty() {
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> tree.min());
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> tree.max());
+    }
+
+    @Test
+    @Order(11)
+    void rangeTraversal() {
+        tree = ConcurrentSkipListBinarySearchTree.of(10, 5, 15, 1, 20, 7, 12);
+
+        List<Integer> traversedElements = new ArrayList<>();
+        tree.rangeTraversal(6, 15, traversedElements::add);
+
+        assertThat(traversedElements).isEqualTo(List.of(7, 10, 12, 15));
+        assertThatIllegalArgumentException().isThrownBy(() -> tree.rangeTraversal(10, 9, e -> {
+        }));
+    }
+
+    @Test
+    @Order(12)
+    void rankAndSelect() {
+        tree = ConcurrentSkipListBinarySearchTree.of(someElements);
+
+        assertThat(tree.rank(10)).isEqualTo(3);
+        assertThat(tree.rank(100)).isEqualTo(6);
+        assertThat(tree.select(0)).isEqualTo(7);
+        assertThat(tree.select(5)).isEqualTo(12);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> tree.select(6));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> tree.select(-1));
+    }
+
+    @Test
+    @Order(13)
+    void orderStatisticsMatchTreeSet() {
+        var random = new Random(42);
+        var expected = new TreeSet<Integer>();
+        for (int i = 0; i < 10_000; i++) {
+            int element = random.nextInt(20_000);
+            assertThat(tree.insert(element)).isEqualTo(expected.add(element));
+        }
+        var sortedElements = new ArrayList<>(expected);
+
+        for (int i = 0; i < 1_000; i++) {
+            int element = random.nextInt(20_000);
+            assertThat(tree.contains(element)).isEqualTo(expected.contains(element));
+            assertThat(tree.floor(element)).isEqualTo(expected.floor(element));
+            assertThat(tree.ceiling(element)).isEqualTo(expected.ceiling(element));
+            assertThat(tree.rank(element)).isEqualTo(expected.headSet(element).size());
+            int k = random.nextInt(sortedElements.size());
+            assertThat(tree.select(k)).isEqualTo(sortedElements.get(k));
+        }
+        assertThat(tree.min()).isEqualTo(expected.first());
+        assertThat(tree.max()).isEqualTo(expected.last());
+    }
+
+    @Test
+    @Order(14)
+    @SneakyThrows
+    void concurrentInsertsOfOverlappingElementsAddEachElementOnce() {
+        var inserted = new AtomicInteger();
+        var executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            var tasks = new ArrayList<Callable<Void>>();
+            for (int t = 0; t < THREADS; t++) {
+                var random = new Random(t);
+                tasks.add(() -> {
+                    for (int i = 0; i < ELEMENTS; i++) {
+                        if (tree.insert(random.nextInt(ELEMENTS))) {
+                            inserted.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            for (var future : executor.invokeAll(tasks, 30, TimeUnit.SECONDS)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<Integer> traversedElements = new ArrayList<>(tree.size());
+        tree.inOrderTraversal(traversedElements::add);
+
+        assertThat(tree.size()).isEqualTo(inserted.get());
+        assertThat(traversedElements).hasSize(inserted.get()).isSorted().doesNotHaveDuplicates();
+        traversedElements.forEach(e -> assertThat(tree.contains(e)).isTrue());
+    }
+
+    @Test
+    @Order(15)
+    @SneakyThrows
+    void readersSeeSortedElementsWhileWritersInsert() {
+        var done = new AtomicBoolean();
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            var writer = executor.submit(() -> {
+                var random = new Random(7);
+                for (int i = 0; i < ELEMENTS; i++) {
+                    int element = random.nextInt();
+                    tree.insert(element);
+                    assertThat(tree.contains(element)).isTrue();
+                }
+                done.set(true);
+                return null;
+            });
+            var reader = executor.submit(() -> {
+                while (!done.get()) {
+                    List<Integer> traversedElements = new ArrayList<>();
+                    tree.inOrderTraversal(traversedElements::add);
+                    assertThat(traversedElements).isSorted();
+                    Thread.yield();
+                }
+                return null;
+            });
+
+            writer.get(30, TimeUnit.SECONDS);
+            reader.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.bobocode.cs.benchmark;
+
+import java.util.Random;
+
+/**
+ * A class that consists of static methods only and generates reproducible input data for benchmarks. A fixed seed is
+ * used, so every run and every implementation works with exactly the same indices and keys.
+ */
+final class BenchmarkData {
+    /**
+     * Number of pre-generated random values. It is a power of two, so a cursor can wrap around using a bit mask.
+     */
+    static final int SAMPLES = 1 << 10;
+    static final int SAMPLES_MASK = SAMPLES - 1;
+
+    private static final long SEED = 42L;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Generates {@link BenchmarkData#SAMPLES} random values in range [0, bound)
+     *
+     * @param bound upper bound (exclusive)
+     * @return an array of random indices
+     */
+    static int[] randomIndices(int bound) {
+        var random = new Random(SEED);
+        var indices = new int[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            indices[i] = random.nextInt(bound);
+        }
+        return indices;
+    }
+
+    /**
+     * Generates all values in range [0, size) in a random order
+     *
+     * @param size number of keys
+     * @return an array of shuffled keys
+     */
+    static Integer[] shuffledKeys(int size) {
+        var random = new Random(SEED);
+        var keys = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = i;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            var temp = keys[i];
+            keys[i] = keys[j];
+            keys[j] = temp;
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,102 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.BinarySearchTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link BinarySearchTree} implementations against {@link java.util.TreeSet}. Keys are inserted in a random
+ * order, so an unbalanced tree keeps logarithmic depth on average. {@link SortedInsertBenchmark} shows the worst case,
+ * when an unbalanced tree degrades to a linked list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class BinarySearchTreeBenchmark {
+    private static final int RANGE_LENGTH = 100;
+
+    @Param({Implementations.RECURSIVE_BINARY_SEARCH_TREE, Implementations.AVL_BINARY_SEARCH_TREE,
+            Implementations.JDK_TREE_SET})
+    private String impl;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private Integer[] keys;
+    private int[] lookups;
+    private int cursor;
+    private BinarySearchTree<Integer> tree;
+
+    @Setup
+    public void setUp() {
+        keys = BenchmarkData.shuffledKeys(size);
+        lookups = BenchmarkData.randomIndices(2 * size);
+        tree = filledTree();
+    }
+
+    /**
+     * Inserts {@code size} shuffled keys into an empty tree.
+     */
+    @Benchmark
+    public BinarySearchTree<Integer> insert() {
+        return filledTree();
+    }
+
+    /**
+     * Looks for a random key from range [0, 2 * size), so about a half of lookups are misses.
+     */
+    @Benchmark
+    public boolean contains() {
+        return tree.contains(lookups[cursor++ & BenchmarkData.SAMPLES_MASK]);
+    }
+
+    @Benchmark
+    public void iterate(Blackhole blackhole) {
+        tree.inOrderTraversal(blackhole::consume);
+    }
+
+    /**
+     * Traverses up to {@link BinarySearchTreeBenchmark#RANGE_LENGTH} keys starting from a random one.
+     */
+    @Benchmark
+    public void rangeTraversal(Blackhole blackhole) {
+        int from = lookups[cursor++ & BenchmarkData.SAMPLES_MASK];
+        tree.rangeTraversal(from, from + RANGE_LENGTH - 1, blackhole::consume);
+    }
+
+    @Benchmark
+    public int rank() {
+        return tree.rank(lookups[cursor++ & BenchmarkData.SAMPLES_MASK]);
+    }
+
+    /**
+     * Looks for a key by a random percentile of the tree.
+     */
+    @Benchmark
+    public Integer select() {
+        return tree.select(lookups[cursor++ & BenchmarkData.SAMPLES_MASK] % size);
+    }
+
+    private BinarySearchTree<Integer> filledTree() {
+        BinarySearchTree<Integer> newTree = Implementations.tree(impl);
+        for (var key : keys) {
+            newTree.insert(key);
+        }
+        return newTree;
+    }
+}
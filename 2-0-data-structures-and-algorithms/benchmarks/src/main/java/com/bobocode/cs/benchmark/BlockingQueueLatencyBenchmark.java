@@ -0,0 +1,75 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.BlockingQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the latency of handing an element from a producer thread to a waiting consumer thread with
+ * {@link BlockingQueue}. A benchmark thread puts a request into one queue, and an echo thread takes it and puts it
+ * into another queue, where the benchmark thread takes it back. So a sample is a round trip of two hand-offs, each of
+ * them wakes up a parked thread. {@link Mode#SampleTime} shows percentiles of the round trip, not only an average.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Threads(1)
+public class BlockingQueueLatencyBenchmark {
+    @Param({Implementations.ARRAY_BLOCKING_QUEUE, Implementations.JDK_ARRAY_BLOCKING_QUEUE,
+            Implementations.JDK_LINKED_BLOCKING_QUEUE})
+    private String impl;
+
+    private BlockingQueue<Integer> requests;
+    private BlockingQueue<Integer> responses;
+    private Thread echo;
+    /**
+     * A pre-boxed element, so putting it does not allocate anything but the queue structures
+     */
+    private Integer element;
+
+    @Setup
+    public void setUp() {
+        requests = Implementations.blockingQueue(impl);
+        responses = Implementations.blockingQueue(impl);
+        element = 1;
+        echo = new Thread(() -> {
+            try {
+                while (true) {
+                    responses.put(requests.take());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "echo");
+        echo.setDaemon(true);
+        echo.start();
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        echo.interrupt();
+        echo.join();
+    }
+
+    @Benchmark
+    public Integer roundTrip() throws InterruptedException {
+        requests.put(element);
+        return responses.take();
+    }
+}
@@ -0,0 +1,127 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.LongArrayList;
+import com.bobocode.cs.MappedArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long it takes to load a list of {@code size} longs saved by a previous run. Reopening a
+ * {@link MappedArrayList} maps its file and takes constant time, while an on-heap list is rebuilt element by element:
+ * {@link java.util.ArrayList} by Java deserialization and {@link LongArrayList} by reading raw values with
+ * {@link DataInputStream}. {@link ColdStartBenchmark#reopenMappedAndSum()} reads all values after reopening, so it
+ * compares the cost of the whole list rather than of the first access.
+ * <p>
+ * Files stay in the page cache between iterations, so results do not include reading from the disk, which every
+ * approach pays for in the same way.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ColdStartBenchmark {
+    @Param({"1000", "1000000", "10000000"})
+    private int size;
+
+    private Path directory;
+    private Path mappedFile;
+    private Path serializedFile;
+    private Path rawFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("cold-start");
+        mappedFile = directory.resolve("list.bin");
+        serializedFile = directory.resolve("list.ser");
+        rawFile = directory.resolve("list.raw");
+        var jdkList = new java.util.ArrayList<Long>(size);
+        try (var mappedList = MappedArrayList.open(mappedFile, Long.BYTES);
+             var raw = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(rawFile)))) {
+            raw.writeInt(size);
+            for (int i = 0; i < size; i++) {
+                mappedList.setLong(mappedList.add(), 0, i);
+                jdkList.add((long) i);
+                raw.writeLong(i);
+            }
+            mappedList.force();
+        }
+        try (var out = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(serializedFile)))) {
+            out.writeObject(jdkList);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(mappedFile);
+        Files.deleteIfExists(serializedFile);
+        Files.deleteIfExists(rawFile);
+        Files.deleteIfExists(directory);
+    }
+
+    /**
+     * Reopens a mapped list and reads its last value.
+     */
+    @Benchmark
+    public long reopenMapped() throws IOException {
+        try (var list = MappedArrayList.open(mappedFile, Long.BYTES)) {
+            return list.getLong(list.size() - 1, 0);
+        }
+    }
+
+    /**
+     * Reopens a mapped list and reads all values.
+     */
+    @Benchmark
+    public long reopenMappedAndSum() throws IOException {
+        try (var list = MappedArrayList.open(mappedFile, Long.BYTES)) {
+            long sum = 0;
+            for (int i = 0; i < list.size(); i++) {
+                sum += list.getLong(i, 0);
+            }
+            return sum;
+        }
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public java.util.List<Long> deserializeArrayList() throws IOException, ClassNotFoundException {
+        try (var in = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(serializedFile)))) {
+            return (java.util.List<Long>) in.readObject();
+        }
+    }
+
+    @Benchmark
+    public LongArrayList readLongArrayList() throws IOException {
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(rawFile)))) {
+            int length = in.readInt();
+            var list = new LongArrayList(Math.max(length, 1));
+            for (int i = 0; i < length; i++) {
+                list.add(in.readLong());
+            }
+            return list;
+        }
+    }
+}
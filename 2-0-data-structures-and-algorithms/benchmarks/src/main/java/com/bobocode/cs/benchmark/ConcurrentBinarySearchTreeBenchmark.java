@@ -0,0 +1,78 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.BinarySearchTree;
+import com.bobocode.cs.ConcurrentSkipListBinarySearchTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures throughput of thread-safe {@link BinarySearchTree} implementations shared by all benchmark threads.
+ * {@link ConcurrentSkipListBinarySearchTree} is compared against a synchronized {@code RecursiveBinarySearchTree} and
+ * {@link java.util.concurrent.ConcurrentSkipListSet}. A synchronized {@code AvlBinarySearchTree} shows how much a
+ * balanced tree changes the cost of holding the lock. Each operation is an insert with {@code writePercent}
+ * probability and a lookup otherwise, so 10 stands for a read-heavy mix and 50 for a write-heavy one.
+ * <p>
+ * A tree is filled with keys from range [0, size) before each iteration. Lookups look for a random key from range
+ * [0, 2 * size), so about a half of them are misses. Inserts add a random non-negative key, so almost all of them add
+ * a new element and the tree keeps growing during an iteration. The number of threads is set by {@code -t}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ConcurrentBinarySearchTreeBenchmark {
+
+    @Param({Implementations.CONCURRENT_SKIP_LIST_BINARY_SEARCH_TREE,
+            Implementations.SYNCHRONIZED_RECURSIVE_BINARY_SEARCH_TREE,
+            Implementations.SYNCHRONIZED_AVL_BINARY_SEARCH_TREE, Implementations.JDK_CONCURRENT_SKIP_LIST_SET})
+    private String impl;
+
+    @Param({"10", "50"})
+    private int writePercent;
+
+    @Param({"1000", "1000000"})
+    private int size;
+
+    private Integer[] keys;
+    private BinarySearchTree<Integer> tree;
+
+    @Setup
+    public void setUp() {
+        keys = BenchmarkData.shuffledKeys(size);
+    }
+
+    /**
+     * Creates a new tree before each iteration, so elements inserted during previous iterations do not pile up
+     */
+    @Setup(Level.Iteration)
+    public void fillTree() {
+        tree = Implementations.concurrentTree(impl);
+        for (var key : keys) {
+            tree.insert(key);
+        }
+    }
+
+    @Benchmark
+    public boolean readWrite() {
+        var random = ThreadLocalRandom.current();
+        if (random.nextInt(100) < writePercent) {
+            return tree.insert(random.nextInt(Integer.MAX_VALUE));
+        }
+        return tree.contains(random.nextInt(2 * size));
+    }
+}
@@ -0,0 +1,187 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.ConcurrentLinkedQueue;
+import com.bobocode.cs.Queue;
+import com.bobocode.cs.SpscRingQueue;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures throughput of concurrent {@link Queue} implementations when producer and consumer threads work at the same
+ * time. Each group has producer methods that add elements and consumer methods that poll them:
+ * <ul>
+ *     <li>{@code transfer} – a producer adds one element and a consumer polls one element per call</li>
+ *     <li>{@code batch} – a producer adds {@link ConcurrentQueueBenchmark#BATCH_SIZE} elements and a consumer drains
+ *     up to the same number of elements per call</li>
+ * </ul>
+ * Secondary results {@code offered} and {@code polled} show the number of elements that were actually transferred,
+ * {@code full} and {@code empty} show calls that found a bounded queue full or a queue empty. The numbers of producers
+ * and consumers are set by {@code -tg producers,consumers}, since JMH orders methods of a group by name
+ * ({@code *Offer} before {@code *Poll}). {@link ConcurrentQueueSweep} runs this suite for several combinations.
+ * <p>
+ * {@link SpscRingQueue} supports a single producer and a single consumer only, so it is skipped for other combinations.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ConcurrentQueueBenchmark {
+    static final int BATCH_SIZE = 64;
+
+    @Param({Implementations.CONCURRENT_LINKED_QUEUE, Implementations.SPSC_RING_QUEUE,
+            Implementations.JDK_CONCURRENT_LINKED_QUEUE})
+    private String impl;
+
+    private Queue<Integer> queue;
+    /**
+     * A pre-boxed element, so adding it does not allocate anything but the queue structures
+     */
+    private Integer element;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class ProducerCounters {
+        public long offered;
+        public long full;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            offered = 0;
+            full = 0;
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class ConsumerCounters {
+        public long polled;
+        public long empty;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            polled = 0;
+            empty = 0;
+        }
+    }
+
+    @Setup
+    public void setUp(BenchmarkParams params) {
+        if (Implementations.SPSC_RING_QUEUE.equals(impl)
+                && Arrays.stream(params.getThreadGroups()).anyMatch(threads -> threads > 1)) {
+            throw new IllegalStateException("SpscRingQueue supports one producer and one consumer only");
+        }
+        queue = Implementations.concurrentQueue(impl);
+        element = BATCH_SIZE;
+    }
+
+    /**
+     * Empties the queue after each iteration, so elements that were not consumed do not pile up in an unbounded queue
+     */
+    @TearDown(Level.Iteration)
+    public void drainQueue() {
+        while (!queue.isEmpty()) {
+            queue.poll();
+        }
+    }
+
+    @Benchmark
+    @Group("transfer")
+    @GroupThreads(1)
+    public void transferOffer(ProducerCounters counters) {
+        if (offer(element)) {
+            counters.offered++;
+        } else {
+            counters.full++;
+        }
+    }
+
+    @Benchmark
+    @Group("transfer")
+    @GroupThreads(1)
+    public Integer transferPoll(ConsumerCounters counters) {
+        var polled = queue.poll();
+        if (Objects.isNull(polled)) {
+            counters.empty++;
+        } else {
+            counters.polled++;
+        }
+        return polled;
+    }
+
+    @Benchmark
+    @Group("batch")
+    @GroupThreads(1)
+    public void batchOffer(ProducerCounters counters) {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            if (offer(element)) {
+                counters.offered++;
+            } else {
+                counters.full++;
+                return;
+            }
+        }
+    }
+
+    @Benchmark
+    @Group("batch")
+    @GroupThreads(1)
+    public void batchPoll(ConsumerCounters counters, Blackhole blackhole) {
+        int drained = drainTo(blackhole);
+        if (drained == 0) {
+            counters.empty++;
+        } else {
+            counters.polled += drained;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean offer(Integer element) {
+        if (queue instanceof SpscRingQueue) {
+            return ((SpscRingQueue<Integer>) queue).offer(element);
+        }
+        queue.add(element);
+        return true;
+    }
+
+    /**
+     * Drains a batch using {@code drainTo} of the implementations that support it, or polls elements one by one
+     */
+    @SuppressWarnings("unchecked")
+    private int drainTo(Blackhole blackhole) {
+        if (queue instanceof ConcurrentLinkedQueue) {
+            return ((ConcurrentLinkedQueue<Integer>) queue).drainTo(blackhole::consume, BATCH_SIZE);
+        }
+        if (queue instanceof SpscRingQueue) {
+            return ((SpscRingQueue<Integer>) queue).drainTo(blackhole::consume, BATCH_SIZE);
+        }
+        int drained = 0;
+        Integer polled;
+        while (drained < BATCH_SIZE && Objects.nonNull(polled = queue.poll())) {
+            blackhole.consume(polled);
+            drained++;
+        }
+        return drained;
+    }
+}
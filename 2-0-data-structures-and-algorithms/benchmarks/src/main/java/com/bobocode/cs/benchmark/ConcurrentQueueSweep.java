@@ -0,0 +1,63 @@
+package com.bobocode.cs.benchmark;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Runs {@link ConcurrentQueueBenchmark} for each combination of producer and consumer threads from
+ * {@link ConcurrentQueueSweep#THREAD_GROUPS}. JMH does not keep the numbers of threads per group in JSON results, so
+ * results of each combination are written to a separate file, e.g. {@code jmh-concurrent-queue-2p1c.json} for two
+ * producers and one consumer. Other standard JMH options (e.g. {@code -wi}, {@code -i}, {@code -f}) are passed to each
+ * run. Scores of all runs are printed in the end as a single table.
+ */
+public class ConcurrentQueueSweep {
+    static final String RESULT_FILE_FORMAT = "jmh-concurrent-queue-%dp%dc.json";
+    /**
+     * Numbers of producer and consumer threads
+     */
+    static final int[][] THREAD_GROUPS = {{1, 1}, {1, 2}, {2, 1}, {2, 2}, {4, 4}};
+
+    private ConcurrentQueueSweep() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        var commandLineOptions = new CommandLineOptions(args);
+        List<RunResult> results = new ArrayList<>();
+        for (int[] threadGroups : THREAD_GROUPS) {
+            boolean singleProducerAndConsumer = threadGroups[0] == 1 && threadGroups[1] == 1;
+            var options = new OptionsBuilder()
+                    .parent(commandLineOptions)
+                    .include(ConcurrentQueueBenchmark.class.getSimpleName())
+                    .threadGroups(threadGroups)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(String.format(RESULT_FILE_FORMAT, threadGroups[0], threadGroups[1]));
+            if (!singleProducerAndConsumer) {
+                options.param("impl", Implementations.CONCURRENT_LINKED_QUEUE,
+                        Implementations.JDK_CONCURRENT_LINKED_QUEUE);
+            }
+            results.addAll(new Runner(options.build()).run());
+        }
+        printSummary(results);
+    }
+
+    private static void printSummary(Collection<RunResult> results) {
+        System.out.printf("%n%-10s %-10s %-26s %-10s %14s%n", "Producers", "Consumers", "Implementation", "Group",
+                "Polled, ops/us");
+        for (var result : results) {
+            var params = result.getParams();
+            var polled = result.getSecondaryResults().get("polled");
+            System.out.printf("%-10d %-10d %-26s %-10s %14.3f%n",
+                    params.getThreadGroups()[0], params.getThreadGroups()[1], params.getParam("impl"),
+                    result.getPrimaryResult().getLabel(), polled == null ? Double.NaN : polled.getScore());
+        }
+    }
+}
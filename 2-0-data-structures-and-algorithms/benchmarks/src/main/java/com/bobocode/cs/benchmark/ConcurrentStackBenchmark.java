@@ -0,0 +1,62 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.ConcurrentLinkedStack;
+import com.bobocode.cs.Stack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures throughput of thread-safe {@link Stack} implementations shared by all benchmark threads.
+ * {@link ConcurrentLinkedStack} is compared with and without elimination against a synchronized {@code LinkedStack}
+ * and {@link java.util.concurrent.ConcurrentLinkedDeque}. Each thread pushes an element and pops an element right
+ * after it, so the stack never runs empty and keeps {@link ConcurrentStackBenchmark#INITIAL_SIZE} elements on
+ * average.
+ * <p>
+ * The number of threads is set by {@code -t}. {@link ConcurrentStackSweep} runs this suite from one thread up to
+ * the number of available processors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ConcurrentStackBenchmark {
+    static final int INITIAL_SIZE = 1000;
+
+    @Param({Implementations.CONCURRENT_LINKED_STACK, Implementations.CONCURRENT_LINKED_STACK_WITHOUT_ELIMINATION,
+            Implementations.SYNCHRONIZED_LINKED_STACK, Implementations.JDK_CONCURRENT_LINKED_DEQUE})
+    private String impl;
+
+    private Stack<Integer> stack;
+    /**
+     * A pre-boxed element, so pushing it does not allocate anything but the stack structures
+     */
+    private Integer element;
+
+    @Setup
+    public void setUp() {
+        stack = Implementations.concurrentStack(impl);
+        for (int i = 0; i < INITIAL_SIZE; i++) {
+            stack.push(i);
+        }
+        element = INITIAL_SIZE;
+    }
+
+    @Benchmark
+    public Integer pushPop() {
+        stack.push(element);
+        return stack.pop();
+    }
+}
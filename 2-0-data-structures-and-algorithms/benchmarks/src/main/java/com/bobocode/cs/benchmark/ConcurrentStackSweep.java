@@ -0,0 +1,56 @@
+package com.bobocode.cs.benchmark;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatFactory;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs {@link ConcurrentStackBenchmark} with 1, 2, 4 and so on threads up to the number of available processors and
+ * writes all results as JSON to {@link ConcurrentStackSweep#DEFAULT_RESULT_FILE}, or to a file specified with
+ * {@code -rff} option. JSON results keep the number of threads of each run. Other standard JMH options (e.g.
+ * {@code -wi}, {@code -i}, {@code -p}) are passed to each run. Scores of all runs are printed in the end as a single
+ * table.
+ */
+public class ConcurrentStackSweep {
+    static final String DEFAULT_RESULT_FILE = "jmh-concurrent-stack.json";
+
+    private ConcurrentStackSweep() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        var commandLineOptions = new CommandLineOptions(args);
+        var resultFile = commandLineOptions.getResult().orElse(DEFAULT_RESULT_FILE);
+        int maxThreads = Runtime.getRuntime().availableProcessors();
+        List<RunResult> results = new ArrayList<>();
+        for (int threads = 1; threads <= maxThreads; threads = nextThreads(threads, maxThreads)) {
+            var options = new OptionsBuilder()
+                    .parent(commandLineOptions)
+                    .include(ConcurrentStackBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build();
+            results.addAll(new Runner(options).run());
+        }
+        ResultFormatFactory.getInstance(ResultFormatType.JSON, resultFile).writeOut(results);
+
+        System.out.printf("%n%-8s %-40s %14s%n", "Threads", "Implementation", "Score, ops/us");
+        for (var result : results) {
+            System.out.printf("%-8d %-40s %14.3f%n", result.getParams().getThreads(),
+                    result.getParams().getParam("impl"), result.getPrimaryResult().getScore());
+        }
+    }
+
+    /**
+     * Doubles the number of threads, but never skips the maximum
+     */
+    private static int nextThreads(int threads, int maxThreads) {
+        return threads < maxThreads && threads * 2 > maxThreads ? maxThreads : threads * 2;
+    }
+}
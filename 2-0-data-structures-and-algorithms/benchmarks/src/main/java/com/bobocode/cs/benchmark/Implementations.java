@@ -0,0 +1,212 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.ArrayBlockingQueue;
+import com.bobocode.cs.ArrayList;
+import com.bobocode.cs.ArrayRingQueue;
+import com.bobocode.cs.ArrayStack;
+import com.bobocode.cs.AvlBinarySearchTree;
+import com.bobocode.cs.BinarySearchTree;
+import com.bobocode.cs.BlockingQueue;
+import com.bobocode.cs.ConcurrentSkipListBinarySearchTree;
+import com.bobocode.cs.ConcurrentLinkedQueue;
+import com.bobocode.cs.ConcurrentLinkedStack;
+import com.bobocode.cs.DoublyLinkedList;
+import com.bobocode.cs.LinkedList;
+import com.bobocode.cs.LinkedQueue;
+import com.bobocode.cs.LinkedStack;
+import com.bobocode.cs.List;
+import com.bobocode.cs.PriorityQueue;
+import com.bobocode.cs.Queue;
+import com.bobocode.cs.RecursiveBinarySearchTree;
+import com.bobocode.cs.SpscRingQueue;
+import com.bobocode.cs.Stack;
+import com.bobocode.cs.UnrolledLinkedList;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * A class that consists of static methods only and creates benchmarked data structures by the name used in
+ * benchmark {@code impl} parameter. Names prefixed with {@code Jdk} stand for JDK collections used as a baseline.
+ */
+final class Implementations {
+    static final String ARRAY_LIST = "ArrayList";
+    static final String LINKED_LIST = "LinkedList";
+    static final String DOUBLY_LINKED_LIST = "DoublyLinkedList";
+    static final String UNROLLED_LINKED_LIST = "UnrolledLinkedList";
+    static final String JDK_ARRAY_LIST = "JdkArrayList";
+    static final String JDK_LINKED_LIST = "JdkLinkedList";
+
+    static final String LINKED_STACK = "LinkedStack";
+    static final String ARRAY_STACK = "ArrayStack";
+    static final String CONCURRENT_LINKED_STACK = "ConcurrentLinkedStack";
+    static final String CONCURRENT_LINKED_STACK_WITHOUT_ELIMINATION = "ConcurrentLinkedStackWithoutElimination";
+    static final String SYNCHRONIZED_LINKED_STACK = "SynchronizedLinkedStack";
+    static final String JDK_CONCURRENT_LINKED_DEQUE = "JdkConcurrentLinkedDeque";
+    static final String LINKED_QUEUE = "LinkedQueue";
+    static final String ARRAY_RING_QUEUE = "ArrayRingQueue";
+    static final String JDK_ARRAY_DEQUE = "JdkArrayDeque";
+    static final String CONCURRENT_LINKED_QUEUE = "ConcurrentLinkedQueue";
+    static final String SPSC_RING_QUEUE = "SpscRingQueue";
+    static final String JDK_CONCURRENT_LINKED_QUEUE = "JdkConcurrentLinkedQueue";
+    static final String ARRAY_BLOCKING_QUEUE = "ArrayBlockingQueue";
+    static final String JDK_ARRAY_BLOCKING_QUEUE = "JdkArrayBlockingQueue";
+    static final String JDK_LINKED_BLOCKING_QUEUE = "JdkLinkedBlockingQueue";
+
+    static final String PRIORITY_QUEUE_ARITY_2 = "PriorityQueueArity2";
+    static final String PRIORITY_QUEUE_ARITY_4 = "PriorityQueueArity4";
+    static final String PRIORITY_QUEUE_ARITY_8 = "PriorityQueueArity8";
+    static final String JDK_PRIORITY_QUEUE = "JdkPriorityQueue";
+
+    static final String RECURSIVE_BINARY_SEARCH_TREE = "RecursiveBinarySearchTree";
+    static final String AVL_BINARY_SEARCH_TREE = "AvlBinarySearchTree";
+    static final String JDK_TREE_SET = "JdkTreeSet";
+    static final String CONCURRENT_SKIP_LIST_BINARY_SEARCH_TREE = "ConcurrentSkipListBinarySearchTree";
+    static final String SYNCHRONIZED_RECURSIVE_BINARY_SEARCH_TREE = "SynchronizedRecursiveBinarySearchTree";
+    static final String SYNCHRONIZED_AVL_BINARY_SEARCH_TREE = "SynchronizedAvlBinarySearchTree";
+    static final String JDK_CONCURRENT_SKIP_LIST_SET = "JdkConcurrentSkipListSet";
+
+    /**
+     * A capacity of bounded concurrent queues, it is big enough for a consumer to catch up with a producer
+     */
+    static final int CONCURRENT_QUEUE_CAPACITY = 1 << 16;
+
+    private Implementations() {
+    }
+
+    static <T> List<T> list(String name) {
+        switch (name) {
+            case ARRAY_LIST:
+                return new ArrayList<>();
+            case LINKED_LIST:
+                return new LinkedList<>();
+            case DOUBLY_LINKED_LIST:
+                return new DoublyLinkedList<>();
+            case UNROLLED_LINKED_LIST:
+                return new UnrolledLinkedList<>();
+            case JDK_ARRAY_LIST:
+                return new JdkList<>(new java.util.ArrayList<>());
+            case JDK_LINKED_LIST:
+                return new JdkList<>(new java.util.LinkedList<>());
+            default:
+                throw new IllegalArgumentException("Unknown list implementation: " + name);
+        }
+    }
+
+    static <T> Stack<T> stack(String name) {
+        switch (name) {
+            case LINKED_STACK:
+                return new LinkedStack<>();
+            case ARRAY_STACK:
+                return new ArrayStack<>();
+            case JDK_ARRAY_DEQUE:
+                return new JdkStack<>();
+            default:
+                throw new IllegalArgumentException("Unknown stack implementation: " + name);
+        }
+    }
+
+    static <T> Stack<T> concurrentStack(String name) {
+        switch (name) {
+            case CONCURRENT_LINKED_STACK:
+                return new ConcurrentLinkedStack<>();
+            case CONCURRENT_LINKED_STACK_WITHOUT_ELIMINATION:
+                return new ConcurrentLinkedStack<>(0);
+            case SYNCHRONIZED_LINKED_STACK:
+                return new SynchronizedStack<>(new LinkedStack<>());
+            case JDK_CONCURRENT_LINKED_DEQUE:
+                return new JdkStack<>(new ConcurrentLinkedDeque<>());
+            default:
+                throw new IllegalArgumentException("Unknown concurrent stack implementation: " + name);
+        }
+    }
+
+    static <T> Queue<T> queue(String name) {
+        switch (name) {
+            case LINKED_QUEUE:
+                return new LinkedQueue<>();
+            case ARRAY_RING_QUEUE:
+                return new ArrayRingQueue<>();
+            case JDK_ARRAY_DEQUE:
+                return new JdkQueue<>();
+            default:
+                throw new IllegalArgumentException("Unknown queue implementation: " + name);
+        }
+    }
+
+    static <T> Queue<T> concurrentQueue(String name) {
+        switch (name) {
+            case CONCURRENT_LINKED_QUEUE:
+                return new ConcurrentLinkedQueue<>();
+            case SPSC_RING_QUEUE:
+                return new SpscRingQueue<>(CONCURRENT_QUEUE_CAPACITY);
+            case JDK_CONCURRENT_LINKED_QUEUE:
+                return new JdkConcurrentQueue<>();
+            default:
+                throw new IllegalArgumentException("Unknown concurrent queue implementation: " + name);
+        }
+    }
+
+    static <T> BlockingQueue<T> blockingQueue(String name) {
+        switch (name) {
+            case ARRAY_BLOCKING_QUEUE:
+                return new ArrayBlockingQueue<>(CONCURRENT_QUEUE_CAPACITY);
+            case JDK_ARRAY_BLOCKING_QUEUE:
+                return new JdkBlockingQueue<>(new java.util.concurrent.ArrayBlockingQueue<>(CONCURRENT_QUEUE_CAPACITY));
+            case JDK_LINKED_BLOCKING_QUEUE:
+                return new JdkBlockingQueue<>(new LinkedBlockingQueue<>(CONCURRENT_QUEUE_CAPACITY));
+            default:
+                throw new IllegalArgumentException("Unknown blocking queue implementation: " + name);
+        }
+    }
+
+    /**
+     * Creates a priority queue of provided elements in linear time, the same way as
+     * {@link PriorityQueue#heapify(int, Comparator, Object[])}
+     */
+    static <T extends Comparable<T>> Queue<T> priorityQueue(String name, T[] elements) {
+        switch (name) {
+            case PRIORITY_QUEUE_ARITY_2:
+                return PriorityQueue.heapify(2, Comparator.naturalOrder(), elements);
+            case PRIORITY_QUEUE_ARITY_4:
+                return PriorityQueue.heapify(4, Comparator.naturalOrder(), elements);
+            case PRIORITY_QUEUE_ARITY_8:
+                return PriorityQueue.heapify(8, Comparator.naturalOrder(), elements);
+            case JDK_PRIORITY_QUEUE:
+                return new JdkQueue<>(new java.util.PriorityQueue<>(Arrays.asList(elements)));
+            default:
+                throw new IllegalArgumentException("Unknown priority queue implementation: " + name);
+        }
+    }
+
+    static <T extends Comparable<T>> BinarySearchTree<T> tree(String name) {
+        switch (name) {
+            case RECURSIVE_BINARY_SEARCH_TREE:
+                return new RecursiveBinarySearchTree<>();
+            case AVL_BINARY_SEARCH_TREE:
+                return new AvlBinarySearchTree<>();
+            case JDK_TREE_SET:
+                return new JdkTreeSet<>();
+            default:
+                throw new IllegalArgumentException("Unknown tree implementation: " + name);
+        }
+    }
+
+    static <T extends Comparable<T>> BinarySearchTree<T> concurrentTree(String name) {
+        switch (name) {
+            case CONCURRENT_SKIP_LIST_BINARY_SEARCH_TREE:
+                return new ConcurrentSkipListBinarySearchTree<>();
+            case SYNCHRONIZED_RECURSIVE_BINARY_SEARCH_TREE:
+                return new SynchronizedBinarySearchTree<>(new RecursiveBinarySearchTree<T>());
+            case SYNCHRONIZED_AVL_BINARY_SEARCH_TREE:
+                return new SynchronizedBinarySearchTree<>(new AvlBinarySearchTree<T>());
+            case JDK_CONCURRENT_SKIP_LIST_SET:
+                return new JdkTreeSet<>(new ConcurrentSkipListSet<T>());
+            default:
+                throw new IllegalArgumentException("Unknown concurrent tree implementation: " + name);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.BlockingQueue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * {@link JdkBlockingQueue} adapts any {@link java.util.concurrent.BlockingQueue} to {@link BlockingQueue} interface,
+ * so it can be used as a baseline for blocking queue benchmarks.
+ *
+ * @param <T> generic type parameter
+ */
+class JdkBlockingQueue<T> implements BlockingQueue<T> {
+    private final java.util.concurrent.BlockingQueue<T> queue;
+
+    JdkBlockingQueue(java.util.concurrent.BlockingQueue<T> queue) {
+        this.queue = queue;
+    }
+
+    @Override
+    public void add(T element) {
+        queue.add(element);
+    }
+
+    @Override
+    public boolean offer(T element) {
+        return queue.offer(element);
+    }
+
+    @Override
+    public boolean offer(T element, long timeout, TimeUnit unit) throws InterruptedException {
+        return queue.offer(element, timeout, unit);
+    }
+
+    @Override
+    public void put(T element) throws InterruptedException {
+        queue.put(element);
+    }
+
+    @Override
+    public T poll() {
+        return queue.poll();
+    }
+
+    @Override
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return queue.poll(timeout, unit);
+    }
+
+    @Override
+    public T take() throws InterruptedException {
+        return queue.take();
+    }
+
+    @Override
+    public int drainTo(Consumer<? super T> consumer, int maxElements) {
+        int count = 0;
+        T element;
+        while (count < maxElements && (element = queue.poll()) != null) {
+            consumer.accept(element);
+            count++;
+        }
+        return count;
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return queue.remainingCapacity();
+    }
+
+    @Override
+    public int size() {
+        return queue.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+}
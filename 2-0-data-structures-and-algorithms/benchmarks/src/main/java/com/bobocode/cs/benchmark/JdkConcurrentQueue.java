@@ -0,0 +1,35 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.Queue;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * {@link JdkConcurrentQueue} adapts {@link ConcurrentLinkedQueue} to {@link Queue} interface, so it can be used as a
+ * baseline for concurrent queue benchmarks.
+ *
+ * @param <T> generic type parameter
+ */
+class JdkConcurrentQueue<T> implements Queue<T> {
+    private final java.util.Queue<T> queue = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void add(T element) {
+        queue.add(element);
+    }
+
+    @Override
+    public T poll() {
+        return queue.poll();
+    }
+
+    @Override
+    public int size() {
+        return queue.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+}
@@ -0,0 +1,127 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.List;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * {@link JdkList} adapts a {@link java.util.List} to {@link List} interface, so JDK collections can be used as a
+ * baseline in the same benchmarks as the course implementations.
+ *
+ * @param <T> generic type parameter
+ */
+class JdkList<T> implements List<T> {
+    private final java.util.List<T> list;
+
+    JdkList(java.util.List<T> list) {
+        this.list = list;
+    }
+
+    @Override
+    public void add(T element) {
+        list.add(element);
+    }
+
+    @Override
+    public void add(int index, T element) {
+        list.add(index, element);
+    }
+
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        list.addAll(elements);
+    }
+
+    @Override
+    public void addAll(int index, T[] elements) {
+        list.addAll(index, Arrays.asList(elements));
+    }
+
+    @Override
+    public void set(int index, T element) {
+        list.set(index, element);
+    }
+
+    @Override
+    public T get(int index) {
+        return list.get(index);
+    }
+
+    @Override
+    public T getFirst() {
+        if (list.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return list.get(0);
+    }
+
+    @Override
+    public T getLast() {
+        if (list.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return list.get(list.size() - 1);
+    }
+
+    @Override
+    public T remove(int index) {
+        return list.remove(index);
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        list.subList(fromIndex, toIndex).clear();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        return list.removeIf(filter);
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<T> operator) {
+        list.replaceAll(operator);
+    }
+
+    @Override
+    public boolean contains(T element) {
+        return list.contains(element);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return list.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    @Override
+    public void clear() {
+        list.clear();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return list.iterator();
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return list.listIterator();
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return list.spliterator();
+    }
+}
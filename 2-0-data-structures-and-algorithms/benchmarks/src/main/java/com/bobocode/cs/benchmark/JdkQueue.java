@@ -0,0 +1,43 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.Queue;
+
+import java.util.ArrayDeque;
+
+/**
+ * {@link JdkQueue} adapts {@link ArrayDeque} or any other {@link java.util.Queue} to {@link Queue} interface, so it can
+ * be used as a baseline for queue benchmarks.
+ *
+ * @param <T> generic type parameter
+ */
+class JdkQueue<T> implements Queue<T> {
+    private final java.util.Queue<T> queue;
+
+    JdkQueue() {
+        this(new ArrayDeque<>());
+    }
+
+    JdkQueue(java.util.Queue<T> queue) {
+        this.queue = queue;
+    }
+
+    @Override
+    public void add(T element) {
+        queue.add(element);
+    }
+
+    @Override
+    public T poll() {
+        return queue.poll();
+    }
+
+    @Override
+    public int size() {
+        return queue.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+}
@@ -0,0 +1,49 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.Stack;
+import com.bobocode.cs.exception.EmptyStackException;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * {@link JdkStack} adapts {@link ArrayDeque} or any other {@link Deque} to {@link Stack} interface, so it can be used
+ * as a baseline for stack benchmarks.
+ *
+ * @param <T> generic type parameter
+ */
+class JdkStack<T> implements Stack<T> {
+    private final Deque<T> deque;
+
+    JdkStack() {
+        this(new ArrayDeque<>());
+    }
+
+    JdkStack(Deque<T> deque) {
+        this.deque = deque;
+    }
+
+    @Override
+    public void push(T element) {
+        deque.push(element);
+    }
+
+    @Override
+    public T pop() {
+        var element = deque.pollFirst();
+        if (element == null) {
+            throw new EmptyStackException();
+        }
+        return element;
+    }
+
+    @Override
+    public int size() {
+        return deque.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return deque.isEmpty();
+    }
+}
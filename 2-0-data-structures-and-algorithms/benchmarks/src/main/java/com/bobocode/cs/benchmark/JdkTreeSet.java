@@ -0,0 +1,95 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.BinarySearchTree;
+
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+/**
+ * {@link JdkTreeSet} adapts {@link TreeSet} or any other {@link NavigableSet} to {@link BinarySearchTree} interface, so
+ * it can be used as a baseline for tree benchmarks. {@link TreeSet} does not expose its structure, so
+ * {@link JdkTreeSet#depth()} is not supported. It does not keep subtree sizes either, so
+ * {@link JdkTreeSet#rank(Comparable)} and {@link JdkTreeSet#select(int)} take linear time.
+ *
+ * @param <T> generic type parameter
+ */
+class JdkTreeSet<T extends Comparable<T>> implements BinarySearchTree<T> {
+    private final NavigableSet<T> set;
+
+    JdkTreeSet() {
+        this(new TreeSet<>());
+    }
+
+    JdkTreeSet(NavigableSet<T> set) {
+        this.set = set;
+    }
+
+    @Override
+    public boolean insert(T element) {
+        return set.add(element);
+    }
+
+    @Override
+    public boolean contains(T element) {
+        return set.contains(element);
+    }
+
+    @Override
+    public int size() {
+        return set.size();
+    }
+
+    @Override
+    public int depth() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        set.forEach(consumer);
+    }
+
+    @Override
+    public T floor(T element) {
+        return set.floor(element);
+    }
+
+    @Override
+    public T ceiling(T element) {
+        return set.ceiling(element);
+    }
+
+    @Override
+    public T min() {
+        return set.first();
+    }
+
+    @Override
+    public T max() {
+        return set.last();
+    }
+
+    @Override
+    public void rangeTraversal(T from, T to, Consumer<T> consumer) {
+        set.subSet(from, true, to, true).forEach(consumer);
+    }
+
+    @Override
+    public int rank(T element) {
+        return set.headSet(element).size();
+    }
+
+    @Override
+    public T select(int k) {
+        if (k < 0 || k >= set.size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        Iterator<T> iterator = set.iterator();
+        for (int i = 0; i < k; i++) {
+            iterator.next();
+        }
+        return iterator.next();
+    }
+}
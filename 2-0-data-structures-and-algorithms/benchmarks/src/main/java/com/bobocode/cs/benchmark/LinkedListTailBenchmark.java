@@ -0,0 +1,72 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks tail-heavy access of singly and doubly linked lists. Every operation touches one of the last
+ * {@link LinkedListTailBenchmark#TAIL_WINDOW} elements, so a singly linked list walks almost the whole list while
+ * a doubly linked list starts from the tail. The list size stays the same for all operations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class LinkedListTailBenchmark {
+    private static final int TAIL_WINDOW = 64;
+
+    @Param({Implementations.LINKED_LIST, Implementations.DOUBLY_LINKED_LIST, Implementations.JDK_LINKED_LIST})
+    private String impl;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private List<Integer> list;
+    private int[] offsets;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        list = Implementations.list(impl);
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        offsets = BenchmarkData.randomIndices(Math.min(size, TAIL_WINDOW));
+    }
+
+    @Benchmark
+    public Integer getNearTail() {
+        return list.get(nextTailIndex());
+    }
+
+    @Benchmark
+    public void setNearTail() {
+        list.set(nextTailIndex(), cursor);
+    }
+
+    /**
+     * Removes the last element and appends it back.
+     */
+    @Benchmark
+    public void removeLast() {
+        list.add(list.remove(size - 1));
+    }
+
+    private int nextTailIndex() {
+        return size - 1 - offsets[cursor++ & BenchmarkData.SAMPLES_MASK];
+    }
+}
@@ -0,0 +1,87 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks single element operations of {@link List} implementations against JDK lists. Every operation except
+ * {@link ListBenchmark#add()} keeps the list size unchanged, so all measurement iterations see the same list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ListBenchmark {
+    @Param({Implementations.ARRAY_LIST, Implementations.LINKED_LIST, Implementations.DOUBLY_LINKED_LIST,
+            Implementations.UNROLLED_LINKED_LIST, Implementations.JDK_ARRAY_LIST, Implementations.JDK_LINKED_LIST})
+    private String impl;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private List<Integer> list;
+    private int[] indices;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        list = filledList();
+        indices = BenchmarkData.randomIndices(size);
+    }
+
+    /**
+     * Appends {@code size} elements to an empty list.
+     */
+    @Benchmark
+    public List<Integer> add() {
+        return filledList();
+    }
+
+    @Benchmark
+    public Integer get() {
+        return list.get(nextIndex());
+    }
+
+    /**
+     * Removes an element at a random position and inserts it back, so the list size stays the same.
+     */
+    @Benchmark
+    public void remove() {
+        int index = nextIndex();
+        list.add(index, list.remove(index));
+    }
+
+    /**
+     * Looks for an element that is not in the list, so the whole list is scanned.
+     */
+    @Benchmark
+    public boolean contains() {
+        return list.contains(-1);
+    }
+
+    private List<Integer> filledList() {
+        List<Integer> newList = Implementations.list(impl);
+        for (int i = 0; i < size; i++) {
+            newList.add(i);
+        }
+        return newList;
+    }
+
+    private int nextIndex() {
+        return indices[cursor++ & BenchmarkData.SAMPLES_MASK];
+    }
+}
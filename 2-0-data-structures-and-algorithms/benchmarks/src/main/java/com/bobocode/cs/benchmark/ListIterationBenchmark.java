@@ -0,0 +1,69 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a full pass over {@link List} implementations against JDK lists using an iterator, a parallel stream and
+ * index access. A pass over {@link com.bobocode.cs.LinkedList} by index takes quadratic time, so sizes stop at
+ * {@code 100 000} by default, where it takes a few seconds. Exclude
+ * {@link ListIterationBenchmark#iterateByIndex(Blackhole)} when running larger lists with {@code -p size=...}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ListIterationBenchmark {
+    @Param({Implementations.ARRAY_LIST, Implementations.LINKED_LIST, Implementations.UNROLLED_LINKED_LIST,
+            Implementations.JDK_ARRAY_LIST, Implementations.JDK_LINKED_LIST})
+    private String impl;
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private List<Integer> list;
+
+    @Setup
+    public void setUp() {
+        list = Implementations.list(impl);
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+    }
+
+    @Benchmark
+    public void iterate(Blackhole blackhole) {
+        for (Integer element : list) {
+            blackhole.consume(element);
+        }
+    }
+
+    @Benchmark
+    public long parallelStreamSum() {
+        return list.parallelStream()
+                .mapToLong(Integer::longValue)
+                .sum();
+    }
+
+    @Benchmark
+    public void iterateByIndex(Blackhole blackhole) {
+        for (int i = 0; i < list.size(); i++) {
+            blackhole.consume(list.get(i));
+        }
+    }
+}
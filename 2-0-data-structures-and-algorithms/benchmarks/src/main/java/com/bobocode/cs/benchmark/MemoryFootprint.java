@@ -0,0 +1,87 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.ArrayList;
+import com.bobocode.cs.DoubleArrayList;
+import com.bobocode.cs.IntArrayList;
+import com.bobocode.cs.LinkedList;
+import com.bobocode.cs.List;
+import com.bobocode.cs.LongArrayList;
+import com.bobocode.cs.UnrolledLinkedList;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.function.IntFunction;
+
+/**
+ * Prints retained heap size of boxed, linked and primitive lists for several sizes. It walks the whole object graph using
+ * JOL, so boxed values are counted as well. Values in range [-128, 127] are taken from {@link Integer} cache, so
+ * they are shared and add nothing to the footprint of small lists.
+ * <p>
+ * Run it with {@code java -cp benchmarks.jar com.bobocode.cs.benchmark.MemoryFootprint}
+ */
+public class MemoryFootprint {
+    private static final int[] SIZES = {10, 1_000, 100_000, 1_000_000};
+
+    private MemoryFootprint() {
+    }
+
+    public static void main(String[] args) {
+        System.out.printf("%-20s %12s %16s %14s%n", "list", "size", "total bytes", "bytes/element");
+        for (int size : SIZES) {
+            print("ArrayList<Integer>", size, MemoryFootprint::boxedList);
+            print("JdkArrayList", size, MemoryFootprint::jdkList);
+            print("LinkedList", size, n -> filledList(new LinkedList<>(), n));
+            print("UnrolledLinkedList", size, n -> filledList(new UnrolledLinkedList<>(), n));
+            print("IntArrayList", size, MemoryFootprint::intList);
+            print("LongArrayList", size, MemoryFootprint::longList);
+            print("DoubleArrayList", size, MemoryFootprint::doubleList);
+        }
+    }
+
+    private static void print(String name, int size, IntFunction<Object> factory) {
+        long totalSize = GraphLayout.parseInstance(factory.apply(size)).totalSize();
+        System.out.printf("%-20s %12d %16d %14.2f%n", name, size, totalSize, (double) totalSize / size);
+    }
+
+    private static Object boxedList(int size) {
+        return filledList(new ArrayList<>(), size);
+    }
+
+    private static Object filledList(List<Integer> list, int size) {
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    private static Object jdkList(int size) {
+        var list = new java.util.ArrayList<Integer>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    private static Object intList(int size) {
+        var list = new IntArrayList();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    private static Object longList(int size) {
+        var list = new LongArrayList();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    private static Object doubleList(int size) {
+        var list = new DoubleArrayList();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+}
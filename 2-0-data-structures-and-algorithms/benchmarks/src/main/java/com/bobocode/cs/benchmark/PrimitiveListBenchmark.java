@@ -0,0 +1,111 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.ArrayList;
+import com.bobocode.cs.IntArrayList;
+import com.bobocode.cs.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link IntArrayList} with boxed {@link ArrayList} and {@link java.util.ArrayList} of {@link Integer}.
+ * Run it with {@code -prof gc} to see allocated bytes per operation ({@code gc.alloc.rate.norm}). Retained memory
+ * of each list is reported by {@link MemoryFootprint}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class PrimitiveListBenchmark {
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private List<Integer> boxedList;
+    private java.util.List<Integer> jdkList;
+    private IntArrayList intList;
+
+    @Setup
+    public void setUp() {
+        boxedList = boxedList();
+        jdkList = jdkList();
+        intList = intList();
+    }
+
+    @Benchmark
+    public List<Integer> addBoxed() {
+        return boxedList();
+    }
+
+    @Benchmark
+    public java.util.List<Integer> addJdk() {
+        return jdkList();
+    }
+
+    @Benchmark
+    public IntArrayList addPrimitive() {
+        return intList();
+    }
+
+    @Benchmark
+    public long sumBoxed() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += boxedList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumJdk() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += jdkList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumPrimitive() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += intList.get(i);
+        }
+        return sum;
+    }
+
+    private List<Integer> boxedList() {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    private java.util.List<Integer> jdkList() {
+        java.util.List<Integer> list = new java.util.ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    private IntArrayList intList() {
+        var list = new IntArrayList();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+}
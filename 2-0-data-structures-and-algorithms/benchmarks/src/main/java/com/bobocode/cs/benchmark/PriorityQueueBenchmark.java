@@ -0,0 +1,94 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.PriorityQueue;
+import com.bobocode.cs.Queue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link PriorityQueue} with arity 2, 4 and 8 against {@link java.util.PriorityQueue}, which is a binary
+ * heap. Keys are added in a random order. {@link PriorityQueueBenchmark#addPoll()} works on a queue that already holds
+ * {@code size} elements, so it shows the steady state cost of a single add/poll pair at a given heap depth.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class PriorityQueueBenchmark {
+    @Param({Implementations.PRIORITY_QUEUE_ARITY_2, Implementations.PRIORITY_QUEUE_ARITY_4,
+            Implementations.PRIORITY_QUEUE_ARITY_8, Implementations.JDK_PRIORITY_QUEUE})
+    private String impl;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private Integer[] keys;
+    /**
+     * Pre-boxed random keys, so adding them does not allocate anything
+     */
+    private Integer[] samples;
+    private int cursor;
+    private Queue<Integer> queue;
+
+    @Setup
+    public void setUp() {
+        keys = BenchmarkData.shuffledKeys(size);
+        var indices = BenchmarkData.randomIndices(size);
+        samples = new Integer[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            samples[i] = indices[i];
+        }
+        queue = Implementations.priorityQueue(impl, keys);
+    }
+
+    /**
+     * Adds {@code size} keys to an empty queue one by one.
+     */
+    @Benchmark
+    public Queue<Integer> add() {
+        Queue<Integer> newQueue = Implementations.priorityQueue(impl, new Integer[0]);
+        for (Integer key : keys) {
+            newQueue.add(key);
+        }
+        return newQueue;
+    }
+
+    /**
+     * Builds a queue of {@code size} keys at once in linear time.
+     */
+    @Benchmark
+    public Queue<Integer> heapify() {
+        return Implementations.priorityQueue(impl, keys);
+    }
+
+    @Benchmark
+    public Integer addPoll() {
+        queue.add(samples[cursor++ & BenchmarkData.SAMPLES_MASK]);
+        return queue.poll();
+    }
+
+    /**
+     * Builds a queue of {@code size} keys and polls all of them in sorted order.
+     */
+    @Benchmark
+    public void heapifyAndPollAll(Blackhole blackhole) {
+        var newQueue = Implementations.priorityQueue(impl, keys);
+        while (!newQueue.isEmpty()) {
+            blackhole.consume(newQueue.poll());
+        }
+    }
+}
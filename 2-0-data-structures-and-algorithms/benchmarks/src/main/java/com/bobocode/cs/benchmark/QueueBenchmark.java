@@ -0,0 +1,81 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.Queue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link Queue} implementations against {@link java.util.ArrayDeque}. {@link QueueBenchmark#addPoll()}
+ * works on a queue that already holds {@code size} elements, so it shows the steady state cost of a single add/poll
+ * pair.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class QueueBenchmark {
+    @Param({Implementations.LINKED_QUEUE, Implementations.ARRAY_RING_QUEUE, Implementations.JDK_ARRAY_DEQUE})
+    private String impl;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private Queue<Integer> queue;
+    /**
+     * A pre-boxed element, so adding it does not allocate anything but the queue structures
+     */
+    private Integer element;
+
+    @Setup
+    public void setUp() {
+        queue = filledQueue();
+        element = size;
+    }
+
+    /**
+     * Adds {@code size} elements to an empty queue.
+     */
+    @Benchmark
+    public Queue<Integer> add() {
+        return filledQueue();
+    }
+
+    @Benchmark
+    public Integer addPoll() {
+        queue.add(element);
+        return queue.poll();
+    }
+
+    /**
+     * Adds {@code size} elements to an empty queue and polls all of them.
+     */
+    @Benchmark
+    public void addAndPollAll(Blackhole blackhole) {
+        var newQueue = filledQueue();
+        while (!newQueue.isEmpty()) {
+            blackhole.consume(newQueue.poll());
+        }
+    }
+
+    private Queue<Integer> filledQueue() {
+        Queue<Integer> newQueue = Implementations.queue(impl);
+        for (int i = 0; i < size; i++) {
+            newQueue.add(i);
+        }
+        return newQueue;
+    }
+}
@@ -0,0 +1,48 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.BinarySearchTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks inserting keys in ascending order into {@link BinarySearchTree} implementations against
+ * {@link java.util.TreeSet}. It is the worst case for an unbalanced tree, which degrades to a linked list, so insertion
+ * takes quadratic time and a recursive tree overflows the stack at about 10 000 elements. That is why sizes stop at
+ * {@code 1000}, where all implementations still finish.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SortedInsertBenchmark {
+    @Param({Implementations.RECURSIVE_BINARY_SEARCH_TREE, Implementations.AVL_BINARY_SEARCH_TREE,
+            Implementations.JDK_TREE_SET})
+    private String impl;
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    /**
+     * Inserts keys from range [0, size) in ascending order into an empty tree.
+     */
+    @Benchmark
+    public BinarySearchTree<Integer> insertSorted() {
+        BinarySearchTree<Integer> newTree = Implementations.tree(impl);
+        for (int i = 0; i < size; i++) {
+            newTree.insert(i);
+        }
+        return newTree;
+    }
+}
@@ -0,0 +1,95 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.Stack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link Stack} implementations against {@link java.util.ArrayDeque}. {@link StackBenchmark#pushPop()}
+ * works on a stack that already holds {@code size} elements, so it shows the cost of a single push/pop pair at a given
+ * depth. {@link StackBenchmark#popAllAndPushBack(Blackhole)} reuses the same stack, so run it with {@code -prof gc} to
+ * compare allocation per push of linked and array-based stacks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class StackBenchmark {
+    @Param({Implementations.LINKED_STACK, Implementations.ARRAY_STACK, Implementations.JDK_ARRAY_DEQUE})
+    private String impl;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private Stack<Integer> stack;
+    /**
+     * A pre-boxed element, so pushing it does not allocate anything but the stack structures
+     */
+    private Integer element;
+
+    @Setup
+    public void setUp() {
+        stack = filledStack();
+        element = size;
+    }
+
+    /**
+     * Pushes {@code size} elements onto an empty stack.
+     */
+    @Benchmark
+    public Stack<Integer> push() {
+        return filledStack();
+    }
+
+    @Benchmark
+    public Integer pushPop() {
+        stack.push(element);
+        return stack.pop();
+    }
+
+    /**
+     * Pushes {@code size} elements onto an empty stack and pops all of them.
+     */
+    @Benchmark
+    public void pushAndPopAll(Blackhole blackhole) {
+        var newStack = filledStack();
+        while (!newStack.isEmpty()) {
+            blackhole.consume(newStack.pop());
+        }
+    }
+
+    /**
+     * Pops all elements of a stack that holds {@code size} elements and pushes them back.
+     */
+    @Benchmark
+    public void popAllAndPushBack(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(stack.pop());
+        }
+        for (int i = 0; i < size; i++) {
+            stack.push(element);
+        }
+    }
+
+    private Stack<Integer> filledStack() {
+        Stack<Integer> newStack = Implementations.stack(impl);
+        for (int i = 0; i < size; i++) {
+            newStack.push(i);
+        }
+        return newStack;
+    }
+}
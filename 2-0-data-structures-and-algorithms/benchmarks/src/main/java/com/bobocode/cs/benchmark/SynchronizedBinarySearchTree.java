@@ -0,0 +1,80 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.BinarySearchTree;
+
+import java.util.function.Consumer;
+
+/**
+ * {@link SynchronizedBinarySearchTree} makes any {@link BinarySearchTree} thread-safe by synchronizing each method on
+ * the same monitor, so it shows the cost of sharing a sequential tree between threads. Readers exclude each other as
+ * well as writers.
+ *
+ * @param <T> generic type parameter
+ */
+class SynchronizedBinarySearchTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+    private final BinarySearchTree<T> tree;
+
+    SynchronizedBinarySearchTree(BinarySearchTree<T> tree) {
+        this.tree = tree;
+    }
+
+    @Override
+    public synchronized boolean insert(T element) {
+        return tree.insert(element);
+    }
+
+    @Override
+    public synchronized boolean contains(T element) {
+        return tree.contains(element);
+    }
+
+    @Override
+    public synchronized int size() {
+        return tree.size();
+    }
+
+    @Override
+    public synchronized int depth() {
+        return tree.depth();
+    }
+
+    @Override
+    public synchronized void inOrderTraversal(Consumer<T> consumer) {
+        tree.inOrderTraversal(consumer);
+    }
+
+    @Override
+    public synchronized T floor(T element) {
+        return tree.floor(element);
+    }
+
+    @Override
+    public synchronized T ceiling(T element) {
+        return tree.ceiling(element);
+    }
+
+    @Override
+    public synchronized T min() {
+        return tree.min();
+    }
+
+    @Override
+    public synchronized T max() {
+        return tree.max();
+    }
+
+    @Override
+    public synchronized void rangeTraversal(T from, T to, Consumer<T> consumer) {
+        tree.rangeTraversal(from, to, consumer);
+    }
+
+    @Override
+    public synchronized int rank(T element) {
+        return tree.rank(element);
+    }
+
+    @Override
+    public synchronized T select(int k) {
+        return tree.select(k);
+    }
+}
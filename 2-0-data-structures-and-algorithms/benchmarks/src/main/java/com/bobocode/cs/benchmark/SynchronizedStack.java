@@ -0,0 +1,37 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.Stack;
+
+/**
+ * {@link SynchronizedStack} makes any {@link Stack} thread-safe by synchronizing each method on the same monitor, so
+ * it shows the cost of sharing a sequential stack between threads.
+ *
+ * @param <T> generic type parameter
+ */
+class SynchronizedStack<T> implements Stack<T> {
+    private final Stack<T> stack;
+
+    SynchronizedStack(Stack<T> stack) {
+        this.stack = stack;
+    }
+
+    @Override
+    public synchronized void push(T element) {
+        stack.push(element);
+    }
+
+    @Override
+    public synchronized T pop() {
+        return stack.pop();
+    }
+
+    @Override
+    public synchronized int size() {
+        return stack.size();
+    }
+
+    @Override
+    public synchronized boolean isEmpty() {
+        return stack.isEmpty();
+    }
+}
@@ -1,11 +1,23 @@
 package com.bobocode.cs;
 
 
-public interface List<T> {
+import java.util.Collection;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public interface List<T> extends Iterable<T> {
     void add(T element);
 
     void add(int index, T element);
 
+    void addAll(Collection<? extends T> elements);
+
+    void addAll(int index, T[] elements);
+
     void set(int index, T element);
 
     T get(int index);
@@ -16,6 +28,12 @@ public interface List<T> {
 
     T remove(int index);
 
+    void removeRange(int fromIndex, int toIndex);
+
+    boolean removeIf(Predicate<? super T> filter);
+
+    void replaceAll(UnaryOperator<T> operator);
+
     boolean contains(T element);
 
     boolean isEmpty();
@@ -23,4 +41,17 @@ public interface List<T> {
     int size();
 
     void clear();
+
+    ListIterator<T> listIterator();
+
+    @Override
+    Spliterator<T> spliterator();
+
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
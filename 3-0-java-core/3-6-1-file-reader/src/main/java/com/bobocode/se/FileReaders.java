@@ -1,19 +1,189 @@
 package com.bobocode.se;
 
-import com.bobocode.util.ExerciseNotCompletedException;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
- * {@link FileReaders} provides an API that allow to read whole file into a {@link String} by file name.
+ * {@link FileReaders} provides an API that allow to read whole file into a {@link String} by file name. A file is
+ * looked up in the classpath first, and then in the file system. Files are decoded as UTF-8, malformed bytes are
+ * replaced with {@code '�'}.
+ * <p>
+ * {@link FileReaders#readWholeFile(String)} reads all bytes into an array of the file size and decodes it into a
+ * {@link String} at once, without splitting it into lines. Large files are copied from a memory mapping, so the bytes
+ * come straight from the page cache. {@link FileReaders#readLines(String, Consumer)} decodes a memory-mapped file
+ * through a small reusable buffer, so it can process files of any size.
  */
 public class FileReaders {
+    /**
+     * Files of this size and larger are read through a memory mapping
+     */
+    static final long MAPPED_THRESHOLD = 1 << 20;
+    /**
+     * A memory mapping covers at most this many bytes, larger files are mapped window by window
+     */
+    static final int MAPPED_WINDOW_SIZE = 1 << 30;
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+    private static final int CHAR_BUFFER_SIZE = 1 << 16;
 
     /**
-     * Returns a {@link String} that contains whole text from the file specified by name.
+     * Returns a {@link String} that contains whole text from the file specified by name. Line separators are kept
+     * as they are.
      *
      * @param fileName a name of a text file
      * @return string that holds whole file content
+     * @throws FileReaderException if the file cannot be found or read, or it does not fit in an array
      */
     public static String readWholeFile(String fileName) {
-        throw new ExerciseNotCompletedException(); //todo
+        var path = findFile(fileName);
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > MAX_ARRAY_SIZE) {
+                throw new FileReaderException("File is too large to read at once, read it by lines: " + fileName);
+            }
+            var bytes = new byte[(int) size];
+            int length;
+            if (size >= MAPPED_THRESHOLD) {
+                channel.map(FileChannel.MapMode.READ_ONLY, 0, size).get(bytes);
+                length = bytes.length;
+            } else {
+                length = readFully(channel, ByteBuffer.wrap(bytes));
+            }
+            return new String(bytes, 0, length, UTF_8);
+        } catch (IOException e) {
+            throw new FileReaderException("Cannot read file " + fileName, e);
+        }
+    }
+
+    /**
+     * Passes each line of the file specified by name to the consumer. Lines are separated by {@code "\n"} or
+     * {@code "\r\n"}, separators are not included. The whole file is never kept in memory. The consumer receives
+     * a reusable view of a line, which is valid only during the call, so it must be copied (e.g. by
+     * {@link CharSequence#toString()}) to be kept.
+     *
+     * @param fileName a name of a text file
+     * @param consumer accepts lines of the file
+     * @throws FileReaderException if the file cannot be found or read
+     */
+    public static void readLines(String fileName, Consumer<CharSequence> consumer) {
+        Objects.requireNonNull(consumer);
+        var path = findFile(fileName);
+        try {
+            readLines(path, consumer, MAPPED_WINDOW_SIZE);
+        } catch (IOException e) {
+            throw new FileReaderException("Cannot read file " + fileName, e);
+        }
+    }
+
+    /**
+     * Decodes a file window by window. A multibyte character can be split between windows, so a window starts
+     * right after the last byte that was decoded by the previous one.
+     */
+    static void readLines(Path path, Consumer<CharSequence> consumer, int windowSize) throws IOException {
+        CharsetDecoder decoder = UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        var chars = CharBuffer.allocate(CHAR_BUFFER_SIZE);
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            boolean endOfInput = false;
+            while (!endOfInput) {
+                long length = Math.min(windowSize, size - position);
+                endOfInput = position + length == size;
+                var bytes = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                while (decode(decoder, bytes, chars, endOfInput)) {
+                    chars = acceptLines(chars, consumer);
+                }
+                position += bytes.position();
+            }
+            while (decoder.flush(chars).isOverflow()) {
+                chars = acceptLines(chars, consumer);
+            }
+        }
+        chars = acceptLines(chars, consumer);
+        if (chars.position() > 0) {
+            chars.flip();
+            consumer.accept(chars);
+        }
+    }
+
+    /**
+     * Decodes bytes until they are over or the buffer of characters is full
+     *
+     * @return {@code true} if the buffer is full
+     */
+    private static boolean decode(CharsetDecoder decoder, ByteBuffer bytes, CharBuffer chars, boolean endOfInput)
+            throws CharacterCodingException {
+        var result = decoder.decode(bytes, chars, endOfInput);
+        if (result.isError()) {
+            result.throwException();
+        }
+        return result.isOverflow();
+    }
+
+    /**
+     * Passes all complete lines of the buffer to the consumer and moves an incomplete last line to the beginning of
+     * the buffer. If the buffer holds a single incomplete line, it is doubled, so a line can be of any length.
+     *
+     * @return the buffer to decode the rest of the file into
+     */
+    private static CharBuffer acceptLines(CharBuffer chars, Consumer<CharSequence> consumer) {
+        var array = chars.array();
+        int end = chars.position();
+        var line = chars.duplicate();
+        int start = 0;
+        for (int i = 0; i < end; i++) {
+            if (array[i] == '\n') {
+                int lineEnd = i > start && array[i - 1] == '\r' ? i - 1 : i;
+                line.limit(lineEnd).position(start);
+                consumer.accept(line);
+                line.limit(line.capacity());
+                start = i + 1;
+            }
+        }
+        if (start == 0 && end == chars.capacity()) {
+            var biggerChars = CharBuffer.allocate(chars.capacity() * 2);
+            return biggerChars.put(chars.flip());
+        }
+        chars.limit(end).position(start);
+        return chars.compact();
+    }
+
+    private static int readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        int read = 0;
+        while (buffer.hasRemaining() && read >= 0) {
+            read = channel.read(buffer);
+        }
+        return buffer.position();
+    }
+
+    private static Path findFile(String fileName) {
+        Objects.requireNonNull(fileName);
+        var url = FileReaders.class.getClassLoader().getResource(fileName);
+        Path path;
+        try {
+            path = Objects.nonNull(url) ? Path.of(url.toURI()) : Path.of(fileName);
+        } catch (URISyntaxException | FileSystemNotFoundException | InvalidPathException e) {
+            throw new FileReaderException("Invalid file name " + fileName, e);
+        }
+        if (!Files.isRegularFile(path)) {
+            throw new FileReaderException("File not found: " + fileName);
+        }
+        return path;
     }
 }
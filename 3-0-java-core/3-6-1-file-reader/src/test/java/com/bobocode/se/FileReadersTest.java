@@ -1,11 +1,23 @@
 package com.bobocode.se;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class FileReadersTest {
 
+    @TempDir
+    Path directory;
+
     @Test
     void testReadWholeFileOnEmptyFile() {
         String fileContent = FileReaders.readWholeFile("empty.txt");
@@ -31,4 +43,63 @@ public class FileReadersTest {
 
         assertEquals("Hello!\n" + "It's a test file.", fileContent);
     }
+
+    @Test
+    void testReadWholeFileThrowsExceptionWhenFileDoesNotExist() {
+        assertThrows(FileReaderException.class, () -> FileReaders.readWholeFile("missing.txt"));
+        assertThrows(NullPointerException.class, () -> FileReaders.readWholeFile(null));
+    }
+
+    @Test
+    void testReadWholeLargeFile() throws IOException {
+        var content = multilingualText(FileReaders.MAPPED_THRESHOLD);
+        var file = Files.writeString(directory.resolve("large.txt"), content);
+        assertTrue(Files.size(file) >= FileReaders.MAPPED_THRESHOLD);
+
+        String fileContent = FileReaders.readWholeFile(file.toString());
+
+        assertEquals(content, fileContent);
+    }
+
+    @Test
+    void testReadLines() {
+        List<String> lines = new ArrayList<>();
+
+        FileReaders.readLines("lines.txt", line -> lines.add(line.toString()));
+
+        assertEquals(List.of("Hey!", "", "What's up?", "", "Hi!"), lines);
+    }
+
+    @Test
+    void testReadLinesOnEmptyFile() {
+        List<String> lines = new ArrayList<>();
+
+        FileReaders.readLines("empty.txt", line -> lines.add(line.toString()));
+
+        assertEquals(List.of(), lines);
+    }
+
+    @Test
+    void testReadLinesSplitsCharactersAndLinesBetweenWindows() throws IOException {
+        var longLine = "x".repeat(200_000);
+        var content = multilingualText(10_000) + "\r\n" + longLine + "\n\nlast line";
+        var file = Files.writeString(directory.resolve("lines.txt"), content);
+        List<String> lines = new ArrayList<>();
+
+        FileReaders.readLines(file, line -> lines.add(line.toString()), 7);
+
+        assertEquals(Files.readAllLines(file), lines);
+        assertEquals(longLine, lines.get(lines.size() - 3));
+    }
+
+    /**
+     * Generates lines of one, two, three and four byte UTF-8 characters
+     */
+    private static String multilingualText(long minLength) {
+        var text = new StringBuilder();
+        for (int i = 0; text.length() < minLength; i++) {
+            text.append(i).append(" Hello, Привіт, 你好, 😀\n");
+        }
+        return text.toString();
+    }
 }
@@ -0,0 +1,170 @@
+package com.bobocode.se;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link DirectoryCounter} counts characters of files in a directory tree for
+ * {@link FileStats#fromDirectory(Path, String, int)}. Each directory is listed by its own task, which forks a task for
+ * each subdirectory and for each batch of matching files. Stats of each file are added to totals of {@link LongAdder}s,
+ * so threads do not wait for each other when they add counts of the same character. Totals are kept in pages of 256
+ * adders that are allocated on the first count of a character of the page, so a text of a few alphabets needs a few
+ * pages instead of 65536 adders.
+ * <p>
+ * A batch task counts its files one by one into a single reusable histogram. Small files are read through a heap
+ * buffer, since mapping a file costs more than reading it, and large ones are memory-mapped. Stats of each file are
+ * kept as {@link SparseFileStats}, since there can be millions of them.
+ */
+final class DirectoryCounter {
+    private static final int FILES_PER_TASK = 64;
+    private static final long MAPPED_THRESHOLD = 1 << 20;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final PathMatcher matcher;
+    private final Map<Path, FileStats> fileStats = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<LongAdder[]> totals = new AtomicReferenceArray<>(FileStats.PAGES);
+    private final LongAdder byteCount = new LongAdder();
+
+    DirectoryCounter(String glob) {
+        this.matcher = FileSystems.getDefault().getPathMatcher("glob:" + glob);
+    }
+
+    DirectoryStats count(Path directory, int parallelism) {
+        boolean commonPool = parallelism == ForkJoinPool.getCommonPoolParallelism();
+        var pool = commonPool ? ForkJoinPool.commonPool() : new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new DirectoryTask(directory));
+        } finally {
+            if (!commonPool) {
+                pool.shutdown();
+            }
+        }
+        var totalPages = new long[FileStats.PAGES][];
+        for (int p = 0; p < FileStats.PAGES; p++) {
+            var page = totals.get(p);
+            if (Objects.nonNull(page)) {
+                totalPages[p] = new long[FileStats.PAGE_SIZE];
+                for (int i = 0; i < FileStats.PAGE_SIZE; i++) {
+                    totalPages[p][i] = page[i].sum();
+                }
+            }
+        }
+        return new DirectoryStats(fileStats, new FileStats(totalPages), byteCount.sum());
+    }
+
+    private void addToTotals(SparseFileStats stats) {
+        for (int i = 0; i < stats.characters.length; i++) {
+            char character = stats.characters[i];
+            totalsPage(character >>> FileStats.PAGE_BITS)[character & (FileStats.PAGE_SIZE - 1)].add(stats.counts[i]);
+        }
+    }
+
+    private LongAdder[] totalsPage(int index) {
+        var page = totals.get(index);
+        if (Objects.isNull(page)) {
+            var newPage = new LongAdder[FileStats.PAGE_SIZE];
+            for (int i = 0; i < newPage.length; i++) {
+                newPage[i] = new LongAdder();
+            }
+            page = totals.compareAndExchange(index, null, newPage);
+            if (Objects.isNull(page)) {
+                page = newPage;
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Lists a directory and closes it before counting anything, so a thread never holds two handles
+     */
+    private class DirectoryTask extends RecursiveAction {
+        private final Path directory;
+
+        DirectoryTask(Path directory) {
+            this.directory = directory;
+        }
+
+        @Override
+        protected void compute() {
+            var tasks = new ArrayList<RecursiveAction>();
+            var files = new ArrayList<Path>();
+            try (var entries = Files.newDirectoryStream(directory)) {
+                for (var entry : entries) {
+                    var attributes = Files.readAttributes(entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                    if (attributes.isDirectory()) {
+                        tasks.add(new DirectoryTask(entry));
+                    } else if (attributes.isRegularFile() && matcher.matches(entry.getFileName())) {
+                        files.add(entry);
+                        if (files.size() == FILES_PER_TASK) {
+                            tasks.add(new FilesTask(files));
+                            files = new ArrayList<>();
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                throw new FileStatsException("Cannot read directory " + directory, e);
+            }
+            if (!files.isEmpty()) {
+                tasks.add(new FilesTask(files));
+            }
+            invokeAll(tasks);
+        }
+    }
+
+    private class FilesTask extends RecursiveAction {
+        private final List<Path> files;
+
+        FilesTask(List<Path> files) {
+            this.files = files;
+        }
+
+        @Override
+        protected void compute() {
+            var counts = new long[Utf8CharCounter.CHARS];
+            var buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            for (var file : files) {
+                try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                    long size = channel.size();
+                    if (size >= MAPPED_THRESHOLD) {
+                        FileStats.count(channel, 0, size, counts, 1, FileStats.MIN_CHUNK_SIZE);
+                    } else {
+                        read(channel, buffer, new Utf8CharCounter(counts));
+                    }
+                    byteCount.add(size);
+                } catch (IOException e) {
+                    throw new FileStatsException("Cannot read file " + file, e);
+                }
+                var stats = SparseFileStats.drain(counts);
+                addToTotals(stats);
+                fileStats.put(file, stats);
+            }
+        }
+
+        private void read(FileChannel channel, ByteBuffer buffer, Utf8CharCounter counter) throws IOException {
+            int read;
+            do {
+                buffer.clear();
+                read = channel.read(buffer);
+                counter.count(buffer, 0, buffer.position());
+            } while (read >= 0);
+            counter.finish();
+        }
+    }
+}
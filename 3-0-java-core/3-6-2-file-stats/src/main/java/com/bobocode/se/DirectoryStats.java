@@ -0,0 +1,53 @@
+package com.bobocode.se;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * {@link DirectoryStats} holds character statistic of each file found by {@link FileStats#fromDirectory(Path, String)}
+ * and of all of them together. Stats of each file keep only the characters that appeared in it, so they take about a
+ * kilobyte for a text of a hundred distinct characters.
+ */
+public class DirectoryStats {
+    private final Map<Path, FileStats> fileStats;
+    private final FileStats totalStats;
+    private final long byteCount;
+
+    DirectoryStats(Map<Path, FileStats> fileStats, FileStats totalStats, long byteCount) {
+        this.fileStats = Collections.unmodifiableMap(fileStats);
+        this.totalStats = totalStats;
+        this.byteCount = byteCount;
+    }
+
+    /**
+     * Returns stats of each counted file. A path of a file is resolved against the directory that was passed to
+     * {@link FileStats#fromDirectory(Path, String)}.
+     *
+     * @return unmodifiable map of files to their stats
+     */
+    public Map<Path, FileStats> getFileStats() {
+        return fileStats;
+    }
+
+    /**
+     * @return stats of characters of all counted files together
+     */
+    public FileStats getTotalStats() {
+        return totalStats;
+    }
+
+    /**
+     * @return the number of counted files
+     */
+    public int getFileCount() {
+        return fileStats.size();
+    }
+
+    /**
+     * @return the total size of counted files in bytes
+     */
+    public long getByteCount() {
+        return byteCount;
+    }
+}
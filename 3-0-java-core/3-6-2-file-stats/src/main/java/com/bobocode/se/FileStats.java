@@ -1,39 +1,250 @@
 package com.bobocode.se;
 
-import com.bobocode.util.ExerciseNotCompletedException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
 
 /**
  * {@link FileStats} provides an API that allow to get character statistic based on text file. All whitespace characters
  * are ignored.
+ * <p>
+ * A file is decoded as UTF-8 and counted into a histogram of all 65536 {@code char} values, so each statistic is
+ * a constant time O(1) lookup. The histogram is kept as 256 pages of 256 counters, and pages without counted
+ * characters share a single empty page, so a text of a few alphabets takes a few kilobytes.
+ * <p>
+ * A file is split into chunks that are memory-mapped and counted in parallel, each into its own histogram, and
+ * histograms are summed up in the end. A chunk boundary is moved past UTF-8 continuation bytes, so no character is
+ * split between chunks.
+ * <p>
+ * {@link FileStats#index(String)} saves stats to a small sidecar file next to the text file. While the text file is
+ * not changed, {@link FileStats#from(String)} loads stats from the sidecar instead of counting them again.
  */
 public class FileStats {
     /**
-     * Creates a new immutable {@link FileStats} objects using data from text file received as a parameter.
+     * A chunk is never smaller, so a small file is counted by a single thread
+     */
+    static final long MIN_CHUNK_SIZE = 1 << 23;
+    /**
+     * A chunk is never larger, since a single mapping holds at most 2 GiB
+     */
+    private static final long MAX_CHUNK_SIZE = 1 << 30;
+    /**
+     * Each thread counts a few chunks, so threads that are done early can take chunks of slower ones
+     */
+    private static final int CHUNKS_PER_THREAD = 4;
+    /**
+     * A character is encoded by at most four bytes, so a boundary is moved by at most three continuation bytes
+     */
+    static final int MAX_CONTINUATION_BYTES = 3;
+    /**
+     * Whitespace characters are found once, so dropping them from a histogram does not check all 65536 characters
+     */
+    private static final char[] WHITESPACES = IntStream.range(0, Utf8CharCounter.CHARS)
+            .filter(Character::isWhitespace)
+            .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+            .toString()
+            .toCharArray();
+
+    static final int PAGE_BITS = 8;
+    static final int PAGE_SIZE = 1 << PAGE_BITS;
+    static final int PAGES = Utf8CharCounter.CHARS >>> PAGE_BITS;
+    private static final long[] EMPTY_PAGE = new long[PAGE_SIZE];
+
+    private final long[][] pages;
+    private final int mostPopularCharacter;
+
+    /**
+     * Creates stats of a histogram of all characters, whitespace characters are dropped from it
+     */
+    FileStats(long[] counts) {
+        this(toPages(counts));
+    }
+
+    /**
+     * Creates stats that own the pages of a histogram, a {@code null} page has no counted characters. Whitespace
+     * characters are dropped from the pages.
+     */
+    FileStats(long[][] pages) {
+        for (char whitespace : WHITESPACES) {
+            var page = pages[whitespace >>> PAGE_BITS];
+            if (Objects.nonNull(page)) {
+                page[whitespace & (PAGE_SIZE - 1)] = 0;
+            }
+        }
+        int mostPopular = -1;
+        long mostPopularCount = 0;
+        for (int p = 0; p < PAGES; p++) {
+            if (Objects.isNull(pages[p])) {
+                pages[p] = EMPTY_PAGE;
+                continue;
+            }
+            for (int i = 0; i < PAGE_SIZE; i++) {
+                if (pages[p][i] > mostPopularCount) {
+                    mostPopular = p << PAGE_BITS | i;
+                    mostPopularCount = pages[p][i];
+                }
+            }
+        }
+        this.pages = pages;
+        this.mostPopularCharacter = mostPopular;
+    }
+
+    /**
+     * Creates stats of a subclass that keeps counts in its own way and overrides {@link FileStats#count(char)}
+     */
+    FileStats(int mostPopularCharacter) {
+        this.pages = null;
+        this.mostPopularCharacter = mostPopularCharacter;
+    }
+
+    /**
+     * Creates a new immutable {@link FileStats} objects using data from text file received as a parameter. The file
+     * is looked up in the classpath first, and then in the file system. Stats are loaded from a sidecar saved by
+     * {@link FileStats#index(String)} if the file has not changed since then. Otherwise, the file is counted by all
+     * threads of the common {@link ForkJoinPool}.
      *
      * @param fileName input text file name
      * @return new FileStats object created from text file
+     * @throws FileStatsException if the file cannot be found or read
      */
     public static FileStats from(String fileName) {
-        throw new ExerciseNotCompletedException(); //todo
+        return from(fileName, ForkJoinPool.getCommonPoolParallelism());
+    }
+
+    /**
+     * Creates a new immutable {@link FileStats} objects using data from text file received as a parameter. Stats are
+     * loaded from a valid sidecar, or the file is counted by the given number of threads.
+     *
+     * @param fileName    input text file name
+     * @param parallelism the number of threads, 1 counts the file in the calling thread
+     * @return new FileStats object created from text file
+     * @throws FileStatsException       if the file cannot be found or read
+     * @throws IllegalArgumentException if parallelism is not positive
+     */
+    public static FileStats from(String fileName, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Incorrect parallelism, should be > 0");
+        }
+        var path = findFile(fileName);
+        try {
+            var attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            var pages = FileStatsIndex.load(path, attributes);
+            if (Objects.nonNull(pages)) {
+                return new FileStats(pages);
+            }
+            return new FileStats(count(path, parallelism, MIN_CHUNK_SIZE));
+        } catch (IOException e) {
+            throw new FileStatsException("Cannot read file " + fileName, e);
+        }
+    }
+
+    /**
+     * Creates a new immutable {@link FileStats} objects the same way as {@link FileStats#from(String)} and saves them
+     * to a sidecar file next to the text file, unless a valid one exists. The sidecar has the name of the text file
+     * with {@code ".stats"} appended, and it is valid while the size and the last modified time of the text file stay
+     * the same.
+     *
+     * @param fileName input text file name
+     * @return new FileStats object created from text file
+     * @throws FileStatsException if the file cannot be found or read, or the sidecar cannot be written
+     */
+    public static FileStats index(String fileName) {
+        var path = findFile(fileName);
+        try {
+            var attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            var pages = FileStatsIndex.load(path, attributes);
+            if (Objects.nonNull(pages)) {
+                return new FileStats(pages);
+            }
+            var fileStats = new FileStats(count(path, ForkJoinPool.getCommonPoolParallelism(), MIN_CHUNK_SIZE));
+            FileStatsIndex.save(path, attributes, fileStats.pages);
+            return fileStats;
+        } catch (IOException e) {
+            throw new FileStatsException("Cannot index file " + fileName, e);
+        }
+    }
+
+    /**
+     * Creates statistics of all files that match the glob in the directory and its subdirectories, using all threads
+     * of the common {@link ForkJoinPool}.
+     *
+     * @param directory a root directory of text files
+     * @param glob      a glob pattern that file names are matched with, e.g. {@code "*.log"}
+     * @return stats of each file and of all files together
+     * @throws FileStatsException if the directory does not exist, or some directory or file cannot be read
+     * @see FileStats#fromDirectory(Path, String, int)
+     */
+    public static DirectoryStats fromDirectory(Path directory, String glob) {
+        return fromDirectory(directory, glob, ForkJoinPool.getCommonPoolParallelism());
+    }
+
+    /**
+     * Creates statistics of all files that match the glob in the directory and its subdirectories. Directories are
+     * walked by a work-stealing {@link ForkJoinPool} of the given number of threads, and files of each directory are
+     * counted in batches, so a directory with many files is counted by all threads. Each thread holds at most one open
+     * file or directory at a time, so the number of open handles is bounded by the parallelism. Symbolic links are
+     * not followed.
+     *
+     * @param directory   a root directory of text files
+     * @param glob        a glob pattern that file names are matched with, e.g. {@code "*.log"}
+     * @param parallelism the number of threads and open handles
+     * @return stats of each file and of all files together
+     * @throws FileStatsException       if the directory does not exist, or some directory or file cannot be read
+     * @throws IllegalArgumentException if parallelism is not positive or the glob is invalid
+     */
+    public static DirectoryStats fromDirectory(Path directory, String glob, int parallelism) {
+        Objects.requireNonNull(directory);
+        Objects.requireNonNull(glob);
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Incorrect parallelism, should be > 0");
+        }
+        if (!Files.isDirectory(directory)) {
+            throw new FileStatsException("Directory not found: " + directory);
+        }
+        return new DirectoryCounter(glob).count(directory, parallelism);
     }
 
     /**
      * Returns a number of occurrences of the particular character.
      *
      * @param character a specific character
-     * @return a number that shows how many times this character appeared in a text file
+     * @return a number that shows how many times this character appeared in a text file, or
+     * {@link Integer#MAX_VALUE} if it appeared more times
      */
     public int getCharCount(char character) {
-        throw new ExerciseNotCompletedException(); //todo
+        return (int) Math.min(count(character), Integer.MAX_VALUE);
     }
 
     /**
-     * Returns a character that appeared most often in the text.
+     * Returns a character that appeared most often in the text. If several characters appeared the same number of
+     * times, the smallest one is returned.
      *
      * @return the most frequently appeared character
+     * @throws NoSuchElementException if the text has no characters except whitespaces
      */
     public char getMostPopularCharacter() {
-        throw new ExerciseNotCompletedException(); //todo
+        if (mostPopularCharacter < 0) {
+            throw new NoSuchElementException();
+        }
+        return (char) mostPopularCharacter;
     }
 
     /**
@@ -43,6 +254,153 @@ public class FileStats {
      * @return {@code true} if this character has appeared in the text, and {@code false} otherwise
      */
     public boolean containsCharacter(char character) {
-        throw new ExerciseNotCompletedException(); //todo
+        return count(character) > 0;
+    }
+
+    long count(char character) {
+        return pages[character >>> PAGE_BITS][character & (PAGE_SIZE - 1)];
+    }
+
+    /**
+     * Splits a histogram into pages, a page without counted characters is {@code null}
+     */
+    private static long[][] toPages(long[] counts) {
+        var pages = new long[PAGES][];
+        for (int p = 0; p < PAGES; p++) {
+            int from = p << PAGE_BITS;
+            for (int c = from; c < from + PAGE_SIZE; c++) {
+                if (counts[c] != 0) {
+                    pages[p] = Arrays.copyOfRange(counts, from, from + PAGE_SIZE);
+                    break;
+                }
+            }
+        }
+        return pages;
+    }
+
+    /**
+     * Counts characters of a file, splitting it into chunks of at least {@code minChunkSize} bytes
+     */
+    static long[] count(Path path, int parallelism, long minChunkSize) {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var counts = new long[Utf8CharCounter.CHARS];
+            count(channel, 0, channel.size(), counts, parallelism, minChunkSize);
+            return counts;
+        } catch (IOException e) {
+            throw new FileStatsException("Cannot read file " + path, e);
+        }
+    }
+
+    /**
+     * Adds characters of bytes from {@code from} inclusive to {@code to} exclusive to the histogram. Both positions
+     * should be at the start of a character, since a partial sequence at either end is counted as malformed.
+     */
+    static void count(FileChannel channel, long from, long to, long[] counts, int parallelism, long minChunkSize)
+            throws IOException {
+        var boundaries = chunkBoundaries(channel, from, to, parallelism, minChunkSize);
+        if (parallelism == 1 || boundaries.length == 2) {
+            var counter = new Utf8CharCounter(counts);
+            for (int i = 0; i + 1 < boundaries.length; i++) {
+                countChunk(channel, boundaries[i], boundaries[i + 1], counter);
+            }
+        } else {
+            countInParallel(channel, boundaries, counts, parallelism);
+        }
+    }
+
+    private static void countInParallel(FileChannel channel, long[] boundaries, long[] counts, int parallelism)
+            throws IOException {
+        var tasks = new ArrayList<Callable<long[]>>();
+        for (int i = 0; i + 1 < boundaries.length; i++) {
+            long from = boundaries[i];
+            long to = boundaries[i + 1];
+            tasks.add(() -> {
+                var counter = new Utf8CharCounter();
+                countChunk(channel, from, to, counter);
+                return counter.counts();
+            });
+        }
+        boolean commonPool = parallelism == ForkJoinPool.getCommonPoolParallelism();
+        var pool = commonPool ? ForkJoinPool.commonPool() : new ForkJoinPool(parallelism);
+        try {
+            sum(pool.invokeAll(tasks), counts);
+        } finally {
+            if (!commonPool) {
+                pool.shutdown();
+            }
+        }
+    }
+
+    private static void sum(List<Future<long[]>> futures, long[] total) throws IOException {
+        for (var future : futures) {
+            long[] counts;
+            try {
+                counts = future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FileStatsException("Counting was interrupted", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof UncheckedIOException) {
+                    throw ((UncheckedIOException) e.getCause()).getCause();
+                }
+                throw new FileStatsException("Cannot count characters", e.getCause());
+            }
+            for (int c = 0; c < total.length; c++) {
+                total[c] += counts[c];
+            }
+        }
+    }
+
+    private static void countChunk(FileChannel channel, long from, long to, Utf8CharCounter counter) {
+        try {
+            var bytes = channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+            counter.count(bytes, 0, bytes.limit());
+            counter.finish();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Splits bytes of a file into chunks of about the same size, so each thread gets a few of them
+     *
+     * @return chunk boundaries, starting with {@code from} and ending with {@code to}
+     */
+    private static long[] chunkBoundaries(FileChannel channel, long from, long to, int parallelism,
+                                          long minChunkSize) throws IOException {
+        long size = to - from;
+        long chunks = Math.max((size + MAX_CHUNK_SIZE - 1) / MAX_CHUNK_SIZE,
+                Math.min((long) parallelism * CHUNKS_PER_THREAD, size / Math.max(minChunkSize, 1)));
+        chunks = Math.max(chunks, 1);
+        var boundaries = new long[(int) chunks + 1];
+        boundaries[0] = from;
+        boundaries[(int) chunks] = to;
+        var head = ByteBuffer.allocate(MAX_CONTINUATION_BYTES);
+        for (int i = 1; i < chunks; i++) {
+            long boundary = Math.max(from + size / chunks * i, boundaries[i - 1]);
+            head.clear();
+            channel.read(head, boundary);
+            head.flip();
+            while (head.hasRemaining() && boundary < to && (head.get() & 0xC0) == 0x80) {
+                boundary++;
+            }
+            boundaries[i] = boundary;
+        }
+        return boundaries;
+    }
+
+    static Path findFile(String fileName) {
+        Objects.requireNonNull(fileName);
+        var url = FileStats.class.getClassLoader().getResource(fileName);
+        Path path;
+        try {
+            path = Objects.nonNull(url) ? Path.of(url.toURI()) : Path.of(fileName);
+        } catch (URISyntaxException | FileSystemNotFoundException | InvalidPathException e) {
+            throw new FileStatsException("Invalid file name " + fileName, e);
+        }
+        if (!Files.isRegularFile(path)) {
+            throw new FileStatsException("File not found: " + fileName);
+        }
+        return path;
     }
 }
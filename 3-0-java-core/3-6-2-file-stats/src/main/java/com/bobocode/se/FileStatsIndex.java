@@ -0,0 +1,174 @@
+package com.bobocode.se;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * {@link FileStatsIndex} saves pages of a character histogram of a file to a sidecar file next to it, so stats of an
+ * unchanged file can be loaded instead of counted again. A sidecar has the name of the file with {@code ".stats"}
+ * appended.
+ * <p>
+ * A sidecar is a little-endian header of a magic number, a format version, the size and the last modified time of
+ * the file in nanoseconds, followed by the number of counted characters and a pair of varints for each of them:
+ * the distance from the previous counted character and its count. It ends with a CRC32 of all previous bytes. A text
+ * usually has a few hundred distinct characters, so a sidecar takes a few hundred bytes.
+ * <p>
+ * A sidecar is valid only when the size and the last modified time of the file are the same as saved. A file that is
+ * changed in place without changing its size within the precision of its file system timestamps is not noticed.
+ */
+final class FileStatsIndex {
+    static final String SUFFIX = ".stats";
+    static final int MAGIC = 0x53545346;
+    static final int VERSION = 1;
+    private static final int HEADER_SIZE = Integer.BYTES * 2 + Long.BYTES * 2;
+
+    private FileStatsIndex() {
+    }
+
+    /**
+     * @return a sidecar of the file
+     */
+    static Path indexOf(Path path) {
+        return path.resolveSibling(path.getFileName() + SUFFIX);
+    }
+
+    /**
+     * Loads a histogram of the file from its sidecar. Only pages with counted characters are allocated.
+     *
+     * @param attributes current attributes of the file
+     * @return pages of the histogram with {@code null} pages without counted characters, or {@code null} if there is
+     * no sidecar, it is outdated, of another version or corrupted
+     */
+    static long[][] load(Path path, BasicFileAttributes attributes) throws IOException {
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(indexOf(path));
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        if (bytes.length < HEADER_SIZE + Integer.BYTES) {
+            return null;
+        }
+        var buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION
+                || buffer.getLong() != attributes.size() || buffer.getLong() != lastModified(attributes)) {
+            return null;
+        }
+        var checksum = new CRC32();
+        checksum.update(bytes, 0, bytes.length - Integer.BYTES);
+        if ((int) checksum.getValue() != buffer.getInt(bytes.length - Integer.BYTES)) {
+            return null;
+        }
+        buffer.limit(bytes.length - Integer.BYTES);
+        var pages = new long[FileStats.PAGES][];
+        try {
+            long entries = readVarint(buffer);
+            int character = -1;
+            for (long i = 0; i < entries; i++) {
+                character += (int) readVarint(buffer);
+                int page = character >>> FileStats.PAGE_BITS;
+                if (Objects.isNull(pages[page])) {
+                    pages[page] = new long[FileStats.PAGE_SIZE];
+                }
+                pages[page][character & (FileStats.PAGE_SIZE - 1)] = readVarint(buffer);
+            }
+        } catch (BufferUnderflowException | ArrayIndexOutOfBoundsException e) {
+            return null;
+        }
+        return pages;
+    }
+
+    /**
+     * Saves a histogram of the file to its sidecar. The sidecar is written to a temporary file first and then moved,
+     * so a reader never sees a partially written one.
+     *
+     * @param attributes attributes of the file read before the histogram was counted, so a sidecar of a file that was
+     *                   changed while counting is outdated at once
+     */
+    static void save(Path path, BasicFileAttributes attributes, long[][] pages) throws IOException {
+        var out = new ByteArrayOutputStream(256);
+        var header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putLong(attributes.size())
+                .putLong(lastModified(attributes));
+        out.write(header.array(), 0, HEADER_SIZE);
+        int entries = 0;
+        for (var page : pages) {
+            for (long count : page) {
+                if (count > 0) {
+                    entries++;
+                }
+            }
+        }
+        writeVarint(out, entries);
+        int previous = -1;
+        for (int p = 0; p < pages.length; p++) {
+            for (int i = 0; i < pages[p].length; i++) {
+                if (pages[p][i] > 0) {
+                    int character = p << FileStats.PAGE_BITS | i;
+                    writeVarint(out, character - previous);
+                    writeVarint(out, pages[p][i]);
+                    previous = character;
+                }
+            }
+        }
+        var checksum = new CRC32();
+        checksum.update(out.toByteArray());
+        out.write(ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN)
+                .putInt((int) checksum.getValue()).array());
+
+        var index = indexOf(path);
+        var temporary = Files.createTempFile(index.toAbsolutePath().getParent(), index.getFileName().toString(), null);
+        try {
+            Files.write(temporary, out.toByteArray());
+            try {
+                Files.move(temporary, index, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, index, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private static long lastModified(BasicFileAttributes attributes) {
+        return attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Writes an unsigned value by seven bits per byte, starting with the lowest ones. The highest bit of a byte is set
+     * when more bytes follow.
+     */
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarint(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new BufferUnderflowException();
+    }
+}
@@ -0,0 +1,279 @@
+package com.bobocode.se;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * {@link IncrementalFileStats} provides the same character statistic as {@link FileStats} for a file that keeps
+ * growing, e.g. a log file. It remembers how many bytes were scanned and the state of a character that is split at
+ * the end of them, so {@link IncrementalFileStats#refresh()} scans only bytes appended since the previous call. All
+ * whitespace characters are ignored.
+ * <p>
+ * A file is expected to be append-only. If it is truncated or replaced by another file (e.g. on log rotation), it is
+ * scanned again from the beginning. Bytes changed in place before the scanned offset are not noticed.
+ * <p>
+ * {@link IncrementalFileStats#watch()} refreshes stats on each change of the file reported by a {@link WatchService},
+ * so they are kept fresh without polling. Stats are thread-safe, a refresh blocks reading for the time of scanning
+ * appended bytes.
+ */
+public class IncrementalFileStats implements AutoCloseable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path path;
+    private final int parallelism;
+    private final long minChunkSize;
+    private final long[] counts = new long[Utf8CharCounter.CHARS];
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private Utf8CharCounter counter = new Utf8CharCounter(counts);
+    private Object fileKey;
+    private long offset;
+    private int mostPopularCharacter = -1;
+    private WatchService watchService;
+    private boolean closed;
+
+    private IncrementalFileStats(Path path, int parallelism, long minChunkSize) {
+        this.path = path;
+        this.parallelism = parallelism;
+        this.minChunkSize = minChunkSize;
+    }
+
+    /**
+     * Creates {@link IncrementalFileStats} of a text file received as a parameter and scans all its bytes. The file
+     * is looked up in the classpath first, and then in the file system. The first scan is done in parallel the same
+     * way as by {@link FileStats#from(String)}.
+     *
+     * @param fileName input text file name
+     * @return new stats of all characters that the file has at the moment
+     * @throws FileStatsException if the file cannot be found or read
+     */
+    public static IncrementalFileStats open(String fileName) {
+        return open(FileStats.findFile(fileName), ForkJoinPool.getCommonPoolParallelism(), FileStats.MIN_CHUNK_SIZE);
+    }
+
+    static IncrementalFileStats open(Path path, int parallelism, long minChunkSize) {
+        var stats = new IncrementalFileStats(path, parallelism, minChunkSize);
+        stats.refresh();
+        return stats;
+    }
+
+    /**
+     * Scans bytes appended to the file since the previous scan. A character whose bytes are not all written yet is
+     * counted by one of the next refreshes. If the file got smaller or was replaced, it is scanned from the beginning.
+     *
+     * @return the number of scanned bytes
+     * @throws FileStatsException    if the file cannot be read
+     * @throws IllegalStateException if stats are closed
+     */
+    public synchronized long refresh() {
+        if (closed) {
+            throw new IllegalStateException("Stats are closed");
+        }
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var key = Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+            long size = channel.size();
+            if (size < offset || !Objects.equals(key, fileKey)) {
+                reset();
+                fileKey = key;
+            }
+            long from = offset;
+            if (size - offset >= minChunkSize && !counter.hasPartialSequence()) {
+                long end = lastCharacterStart(channel, offset, size);
+                FileStats.count(channel, offset, end, counts, parallelism, minChunkSize);
+                offset = end;
+            }
+            scan(channel, size);
+            if (offset > from) {
+                mostPopularCharacter = findMostPopularCharacter();
+            }
+            return offset - from;
+        } catch (IOException e) {
+            throw new FileStatsException("Cannot read file " + path, e);
+        }
+    }
+
+    /**
+     * Starts refreshing stats each time the file is created or modified. Changes are watched by a daemon thread until
+     * stats are closed. Calling this method again has no effect.
+     *
+     * @throws FileStatsException    if the directory of the file cannot be watched
+     * @throws IllegalStateException if stats are closed
+     */
+    public synchronized void watch() {
+        if (closed) {
+            throw new IllegalStateException("Stats are closed");
+        }
+        if (Objects.nonNull(watchService)) {
+            return;
+        }
+        var directory = path.toAbsolutePath().getParent();
+        try {
+            watchService = path.getFileSystem().newWatchService();
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            throw new FileStatsException("Cannot watch directory " + directory, e);
+        }
+        var watcher = new Thread(() -> refreshOnChanges(watchService), "file-stats-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    /**
+     * Returns a number of occurrences of the particular character.
+     *
+     * @param character a specific character
+     * @return a number that shows how many times this character appeared in a text file, or
+     * {@link Integer#MAX_VALUE} if it appeared more times
+     */
+    public synchronized int getCharCount(char character) {
+        return Character.isWhitespace(character) ? 0 : (int) Math.min(counts[character], Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns a character that appeared most often in the text. If several characters appeared the same number of
+     * times, the smallest one is returned. It is found by each refresh that scanned new bytes, so this method only
+     * reads it.
+     *
+     * @return the most frequently appeared character
+     * @throws NoSuchElementException if the text has no characters except whitespaces
+     */
+    public synchronized char getMostPopularCharacter() {
+        if (mostPopularCharacter < 0) {
+            throw new NoSuchElementException();
+        }
+        return (char) mostPopularCharacter;
+    }
+
+    /**
+     * Returns {@code true} if this character has appeared in the text, and {@code false} otherwise
+     *
+     * @param character a specific character to check
+     * @return {@code true} if this character has appeared in the text, and {@code false} otherwise
+     */
+    public synchronized boolean containsCharacter(char character) {
+        return !Character.isWhitespace(character) && counts[character] > 0;
+    }
+
+    /**
+     * @return the number of bytes of the file that have been scanned
+     */
+    public synchronized long getScannedSize() {
+        return offset;
+    }
+
+    /**
+     * Returns immutable {@link FileStats} of the characters counted so far. A character that is not completely
+     * written yet is not included.
+     *
+     * @return a snapshot of current stats
+     */
+    public synchronized FileStats snapshot() {
+        return new FileStats(counts.clone());
+    }
+
+    /**
+     * Stops watching the file. Stats that were counted stay available, but they cannot be refreshed anymore.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (Objects.nonNull(watchService)) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                throw new FileStatsException("Cannot stop watching file " + path, e);
+            }
+        }
+    }
+
+    private void reset() {
+        Arrays.fill(counts, 0);
+        counter = new Utf8CharCounter(counts);
+        offset = 0;
+        mostPopularCharacter = -1;
+    }
+
+    private int findMostPopularCharacter() {
+        int character = -1;
+        for (int c = 0; c < counts.length; c++) {
+            if (counts[c] > 0 && !Character.isWhitespace(c) && (character < 0 || counts[c] > counts[character])) {
+                character = c;
+            }
+        }
+        return character;
+    }
+
+    /**
+     * Scans bytes from the current offset to the end of the file through a small buffer, keeping a partial sequence
+     * in the counter
+     */
+    private void scan(FileChannel channel, long size) throws IOException {
+        while (offset < size) {
+            buffer.clear().limit((int) Math.min(buffer.capacity(), size - offset));
+            int read = channel.read(buffer, offset);
+            if (read < 0) {
+                break;
+            }
+            counter.count(buffer, 0, buffer.position());
+            offset += read;
+        }
+    }
+
+    /**
+     * Finds the start of the last character, so all bytes before it are complete characters that can be counted in
+     * parallel
+     */
+    private static long lastCharacterStart(FileChannel channel, long from, long to) throws IOException {
+        var tail = ByteBuffer.allocate(FileStats.MAX_CONTINUATION_BYTES + 1);
+        long start = Math.max(from, to - tail.capacity());
+        channel.read(tail, start);
+        for (int i = tail.position() - 1; i >= 0; i--) {
+            if ((tail.get(i) & 0xC0) != 0x80) {
+                return start + i;
+            }
+        }
+        return start;
+    }
+
+    /**
+     * Refreshes stats on each event about the file until the watch service is closed. An event may come when the file
+     * is already deleted (e.g. during log rotation), so a failed refresh waits for the next event.
+     */
+    private void refreshOnChanges(WatchService watchService) {
+        var fileName = path.getFileName();
+        try {
+            while (true) {
+                var key = watchService.take();
+                boolean changed = key.pollEvents().stream()
+                        .anyMatch(event -> event.kind() == StandardWatchEventKinds.OVERFLOW
+                                || fileName.equals(event.context()));
+                if (changed) {
+                    try {
+                        refresh();
+                    } catch (FileStatsException e) {
+                        // the file is missing or being replaced, it is scanned again on the next event
+                    }
+                }
+                key.reset();
+            }
+        } catch (IllegalStateException e) {
+            // the watch service is closed, or stats were closed right before a refresh
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
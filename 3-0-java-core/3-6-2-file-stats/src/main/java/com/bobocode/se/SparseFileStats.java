@@ -0,0 +1,62 @@
+package com.bobocode.se;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * {@link SparseFileStats} keeps counts of only those characters that appeared in a text, sorted by character. A text of
+ * a hundred distinct characters takes about a kilobyte instead of a page table, so stats of millions of files found by
+ * {@link FileStats#fromDirectory(Path, String, int)} fit in memory. A count is found by a binary search in
+ * O(log k) time, where k is the number of distinct characters.
+ */
+final class SparseFileStats extends FileStats {
+    private static final int INITIAL_CAPACITY = 64;
+
+    final char[] characters;
+    final long[] counts;
+
+    private SparseFileStats(char[] characters, long[] counts, int mostPopularCharacter) {
+        super(mostPopularCharacter);
+        this.characters = characters;
+        this.counts = counts;
+    }
+
+    /**
+     * Creates stats of a histogram of all characters and zeroes the histogram, so it can be reused. Whitespace
+     * characters are dropped.
+     */
+    static SparseFileStats drain(long[] histogram) {
+        var characters = new char[INITIAL_CAPACITY];
+        var counts = new long[INITIAL_CAPACITY];
+        int size = 0;
+        int mostPopular = -1;
+        long mostPopularCount = 0;
+        for (int c = 0; c < histogram.length; c++) {
+            long count = histogram[c];
+            if (count == 0) {
+                continue;
+            }
+            histogram[c] = 0;
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (size == characters.length) {
+                characters = Arrays.copyOf(characters, size << 1);
+                counts = Arrays.copyOf(counts, size << 1);
+            }
+            characters[size] = (char) c;
+            counts[size++] = count;
+            if (count > mostPopularCount) {
+                mostPopular = c;
+                mostPopularCount = count;
+            }
+        }
+        return new SparseFileStats(Arrays.copyOf(characters, size), Arrays.copyOf(counts, size), mostPopular);
+    }
+
+    @Override
+    long count(char character) {
+        int i = Arrays.binarySearch(characters, character);
+        return i >= 0 ? counts[i] : 0;
+    }
+}
@@ -0,0 +1,124 @@
+package com.bobocode.se;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link Utf8CharCounter} decodes UTF-8 bytes and counts occurrences of each {@code char} in a histogram of 65536
+ * counters. A supplementary character is counted as its two surrogate {@code char}s, the same way as
+ * {@link String#chars()} does. A malformed sequence is counted as a single replacement character {@code '�'}.
+ * <p>
+ * Bytes can be passed in several calls. A character that is split between calls is kept as a partial sequence and
+ * counted when its last byte arrives. Eight ASCII bytes are checked and counted at once, since the order of
+ * characters does not matter for a histogram. A counter is not thread-safe.
+ */
+final class Utf8CharCounter {
+    static final int CHARS = 1 << 16;
+    private static final char REPLACEMENT = '�';
+    private static final long NON_ASCII_MASK = 0x8080808080808080L;
+
+    private final long[] counts;
+    /**
+     * Bits of a code point decoded from the bytes of a partial sequence
+     */
+    private int codePoint;
+    /**
+     * The number of continuation bytes the partial sequence is missing
+     */
+    private int remaining;
+    /**
+     * The smallest code point that can be encoded by a sequence of this length, smaller ones are overlong
+     */
+    private int minCodePoint;
+
+    Utf8CharCounter() {
+        this(new long[CHARS]);
+    }
+
+    Utf8CharCounter(long[] counts) {
+        this.counts = counts;
+    }
+
+    /**
+     * Counts characters of bytes from {@code from} inclusive to {@code to} exclusive. Buffer position is not changed.
+     */
+    void count(ByteBuffer bytes, int from, int to) {
+        int i = from;
+        while (i < to) {
+            if (remaining == 0 && i <= to - Long.BYTES) {
+                long word = bytes.getLong(i);
+                if ((word & NON_ASCII_MASK) == 0) {
+                    for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+                        counts[(int) (word >>> shift) & 0xFF]++;
+                    }
+                    i += Long.BYTES;
+                    continue;
+                }
+            }
+            accept(bytes.get(i++) & 0xFF);
+        }
+    }
+
+    /**
+     * Counts a partial sequence at the end of input as a malformed one.
+     */
+    void finish() {
+        if (remaining > 0) {
+            counts[REPLACEMENT]++;
+            remaining = 0;
+        }
+    }
+
+    /**
+     * @return {@code true} if the last byte passed to the counter is in the middle of a sequence
+     */
+    boolean hasPartialSequence() {
+        return remaining > 0;
+    }
+
+    long[] counts() {
+        return counts;
+    }
+
+    private void accept(int b) {
+        if (remaining > 0) {
+            if ((b & 0xC0) == 0x80) {
+                codePoint = codePoint << 6 | b & 0x3F;
+                if (--remaining == 0) {
+                    countCodePoint();
+                }
+                return;
+            }
+            counts[REPLACEMENT]++;
+            remaining = 0;
+        }
+        if (b < 0x80) {
+            counts[b]++;
+        } else if (b >= 0xC2 && b < 0xE0) {
+            startSequence(b & 0x1F, 1, 0x80);
+        } else if (b >= 0xE0 && b < 0xF0) {
+            startSequence(b & 0x0F, 2, 0x800);
+        } else if (b >= 0xF0 && b < 0xF5) {
+            startSequence(b & 0x07, 3, Character.MIN_SUPPLEMENTARY_CODE_POINT);
+        } else {
+            counts[REPLACEMENT]++;
+        }
+    }
+
+    private void startSequence(int bits, int continuationBytes, int minCodePoint) {
+        this.codePoint = bits;
+        this.remaining = continuationBytes;
+        this.minCodePoint = minCodePoint;
+    }
+
+    private void countCodePoint() {
+        if (codePoint < minCodePoint || codePoint > Character.MAX_CODE_POINT
+                || (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+            counts[REPLACEMENT]++;
+        } else if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+            counts[codePoint]++;
+        } else {
+            counts[Character.highSurrogate(codePoint)]++;
+            counts[Character.lowSurrogate(codePoint)]++;
+        }
+    }
+}
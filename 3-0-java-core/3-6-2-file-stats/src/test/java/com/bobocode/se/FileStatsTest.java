@@ -4,12 +4,23 @@ import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.NoSuchElementException;
 
 import static org.assertj.core.api.Assertions.*;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 public class FileStatsTest {
 
+    @TempDir
+    Path directory;
+
     @Test
     @Order(1)
     void createFileStatsFromExistingFile() {
@@ -66,4 +77,146 @@ public class FileStatsTest {
         assertThat(springArticleContainsExistingCharacter).isTrue();
         assertThat(springArticleContainsWhitespace).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    @Order(6)
+    void createFileStatsWithIncorrectParallelism() {
+        assertThatIllegalArgumentException().isThrownBy(() -> FileStats.from("sotl.txt", 0));
+    }
+
+    @Test
+    @Order(7)
+    void parallelCountMatchesCharactersOfString() throws IOException {
+        var text = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            text.append(i).append("\tHello, Привіт, 你好, 😀\n");
+        }
+        var file = Files.writeString(directory.resolve("text.txt"), text);
+        var expectedCounts = new long[1 << 16];
+        text.chars().forEach(c -> expectedCounts[c]++);
+
+        long[] counts = FileStats.count(file, 4, 16);
+
+        assertThat(counts).isEqualTo(expectedCounts);
+    }
+
+    @Test
+    @Order(8)
+    void malformedBytesAreCountedAsReplacementCharacter() throws IOException {
+        var file = Files.write(directory.resolve("malformed.txt"),
+                new byte[]{'a', (byte) 0xFF, 'b', (byte) 0xC0, (byte) 0xAF, (byte) 0xE2, (byte) 0x82});
+
+        FileStats fileStats = FileStats.from(file.toString(), 1);
+
+        assertThat(fileStats.getCharCount('a')).isEqualTo(1);
+        assertThat(fileStats.getCharCount('b')).isEqualTo(1);
+        assertThat(fileStats.getCharCount('\uFFFD')).isEqualTo(4);
+    }
+
+    @Test
+    @Order(9)
+    void whitespaceCharactersAreIgnored() throws IOException {
+        var file = Files.writeString(directory.resolve("whitespaces.txt"), " \t\r\n \n");
+
+        FileStats fileStats = FileStats.from(file.toString());
+
+        assertThat(fileStats.containsCharacter('\n')).isFalse();
+        assertThat(fileStats.getCharCount(' ')).isZero();
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(fileStats::getMostPopularCharacter);
+    }
+
+    @Test
+    @Order(10)
+    void fromLoadsStatsSavedByIndex() throws IOException {
+        var file = Files.writeString(directory.resolve("indexed.txt"), "abbccc\nПривіт");
+        FileStats indexedStats = FileStats.index(file.toString());
+        var pages = new long[FileStats.PAGES][FileStats.PAGE_SIZE];
+        pages['x' >>> FileStats.PAGE_BITS]['x' % FileStats.PAGE_SIZE] = 1L << 40;
+        pages[FileStats.PAGES - 1][FileStats.PAGE_SIZE - 1] = 7;
+        FileStatsIndex.save(file, Files.readAttributes(file, BasicFileAttributes.class), pages);
+
+        FileStats fileStats = FileStats.from(file.toString());
+
+        assertThat(indexedStats.getMostPopularCharacter()).isEqualTo('c');
+        assertThat(Files.size(FileStatsIndex.indexOf(file))).isLessThan(64);
+        assertThat(fileStats.getCharCount('a')).isZero();
+        assertThat(fileStats.getCharCount('x')).isEqualTo(Integer.MAX_VALUE);
+        assertThat(fileStats.getCharCount('\uFFFF')).isEqualTo(7);
+    }
+
+    @Test
+    @Order(11)
+    void fromIgnoresOutdatedIndex() throws IOException {
+        var file = Files.writeString(directory.resolve("indexed.txt"), "abc");
+        FileStats.index(file.toString());
+        Files.writeString(file, "bb", StandardOpenOption.APPEND);
+
+        FileStats fileStats = FileStats.from(file.toString());
+
+        assertThat(fileStats.getCharCount('b')).isEqualTo(3);
+        assertThat(FileStats.index(file.toString()).getCharCount('b')).isEqualTo(3);
+        assertThat(FileStats.from(file.toString()).getCharCount('b')).isEqualTo(3);
+    }
+
+    @Test
+    @Order(12)
+    void fromIgnoresCorruptedIndex() throws IOException {
+        var file = Files.writeString(directory.resolve("indexed.txt"), "abc");
+        FileStats.index(file.toString());
+        var index = FileStatsIndex.indexOf(file);
+        var bytes = Files.readAllBytes(index);
+        bytes[bytes.length - 6]++;
+        Files.write(index, bytes);
+
+        FileStats fileStats = FileStats.from(file.toString());
+
+        assertThat(fileStats.getCharCount('c')).isEqualTo(1);
+    }
+
+    @Test
+    @Order(13)
+    void fromDirectoryCountsMatchingFilesOfTree() throws IOException {
+        var expectedCounts = new long[1 << 16];
+        for (int d = 0; d < 3; d++) {
+            var subdirectory = Files.createDirectories(directory.resolve("logs/" + d + "/nested"));
+            for (int i = 0; i < 100; i++) {
+                var text = "Line " + i + " of " + d + ": Привіт, 😀";
+                Files.writeString(subdirectory.resolve(i + ".log"), text);
+                text.chars().forEach(c -> expectedCounts[c]++);
+            }
+            Files.writeString(subdirectory.resolve("skipped.txt"), "zzz");
+        }
+        expectedCounts[' '] = 0;
+
+        DirectoryStats directoryStats = FileStats.fromDirectory(directory, "*.log", 3);
+
+        assertThat(directoryStats.getFileCount()).isEqualTo(300);
+        assertThat(directoryStats.getFileStats())
+                .containsKey(directory.resolve("logs/2/nested/99.log"))
+                .doesNotContainKey(directory.resolve("logs/2/nested/skipped.txt"));
+        FileStats fileStats = directoryStats.getFileStats().get(directory.resolve("logs/1/nested/7.log"));
+        assertThat(fileStats.getCharCount('1')).isEqualTo(1);
+        assertThat(fileStats.getCharCount('П')).isEqualTo(1);
+        assertThat(fileStats.containsCharacter(' ')).isFalse();
+        assertThat(fileStats.containsCharacter('z')).isFalse();
+        assertThat(fileStats.getMostPopularCharacter()).isEqualTo(',');
+        FileStats totalStats = directoryStats.getTotalStats();
+        for (char c : "Line0123456789of:Привіт,\uD83D\uDE00z ".toCharArray()) {
+            assertThat(totalStats.getCharCount(c)).isEqualTo(expectedCounts[c]);
+        }
+        assertThat(directoryStats.getByteCount()).isEqualTo(Files.walk(directory)
+                .filter(file -> file.toString().endsWith(".log"))
+                .mapToLong(file -> file.toFile().length())
+                .sum());
+    }
+
+    @Test
+    @Order(14)
+    void fromDirectoryWithIncorrectArguments() throws IOException {
+        var file = Files.writeString(directory.resolve("file.txt"), "abc");
+
+        assertThatThrownBy(() -> FileStats.fromDirectory(file, "*")).isInstanceOf(FileStatsException.class);
+        assertThatIllegalArgumentException().isThrownBy(() -> FileStats.fromDirectory(directory, "*", 0));
+        assertThat(FileStats.fromDirectory(directory, "*.log").getFileCount()).isZero();
+    }
+}
@@ -0,0 +1,145 @@
+package com.bobocode.se;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class IncrementalFileStatsTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @Order(1)
+    void openCountsExistingCharacters() {
+        try (var stats = IncrementalFileStats.open("sotl.txt")) {
+            FileStats fileStats = FileStats.from("sotl.txt");
+
+            assertThat(stats.getCharCount('a')).isEqualTo(fileStats.getCharCount('a'));
+            assertThat(stats.getMostPopularCharacter()).isEqualTo(fileStats.getMostPopularCharacter());
+            assertThat(stats.containsCharacter(' ')).isFalse();
+        }
+    }
+
+    @Test
+    @Order(2)
+    void openNonExistingFile() {
+        assertThatThrownBy(() -> IncrementalFileStats.open("blahblah.txt")).isInstanceOf(FileStatsException.class);
+    }
+
+    @Test
+    @Order(3)
+    @SneakyThrows
+    void refreshScansAppendedBytesOnly() {
+        var file = Files.writeString(directory.resolve("log.txt"), "abc\n");
+        try (var stats = IncrementalFileStats.open(file.toString())) {
+            Files.writeString(file, "bbb\n", StandardOpenOption.APPEND);
+
+            long scanned = stats.refresh();
+
+            assertThat(scanned).isEqualTo(4);
+            assertThat(stats.getScannedSize()).isEqualTo(8);
+            assertThat(stats.getCharCount('b')).isEqualTo(4);
+            assertThat(stats.getMostPopularCharacter()).isEqualTo('b');
+            assertThat(stats.refresh()).isZero();
+        }
+    }
+
+    @Test
+    @Order(4)
+    @SneakyThrows
+    void refreshCountsCharacterSplitBetweenAppends() {
+        var bytes = "Привіт".getBytes(StandardCharsets.UTF_8);
+        var file = Files.write(directory.resolve("log.txt"), Arrays.copyOf(bytes, bytes.length - 1));
+        try (var stats = IncrementalFileStats.open(file.toString())) {
+            assertThat(stats.containsCharacter('т')).isFalse();
+
+            Files.write(file, new byte[]{bytes[bytes.length - 1]}, StandardOpenOption.APPEND);
+            stats.refresh();
+
+            assertThat(stats.getCharCount('т')).isEqualTo(1);
+            assertThat(stats.containsCharacter('�')).isFalse();
+        }
+    }
+
+    @Test
+    @Order(5)
+    @SneakyThrows
+    void refreshScansTruncatedFileFromBeginning() {
+        var file = Files.writeString(directory.resolve("log.txt"), "aaaa\n");
+        try (var stats = IncrementalFileStats.open(file.toString())) {
+            Files.writeString(file, "bb\n");
+
+            stats.refresh();
+
+            assertThat(stats.containsCharacter('a')).isFalse();
+            assertThat(stats.getCharCount('b')).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @Order(6)
+    @SneakyThrows
+    void parallelRefreshMatchesCharactersOfString() {
+        var text = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            text.append(i).append(" Hello, Привіт, 你好, 😀\n");
+        }
+        var bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+        var file = Files.write(directory.resolve("log.txt"), Arrays.copyOf(bytes, bytes.length - 3));
+        try (var stats = IncrementalFileStats.open(file, 4, 16)) {
+            Files.write(file, Arrays.copyOfRange(bytes, bytes.length - 3, bytes.length), StandardOpenOption.APPEND);
+            stats.refresh();
+
+            assertThat(stats.getCharCount("😀".charAt(0))).isEqualTo(10_000);
+            assertThat(stats.getCharCount('і')).isEqualTo(10_000);
+            assertThat(stats.getCharCount('П')).isEqualTo(10_000);
+            assertThat(stats.containsCharacter('�')).isFalse();
+        }
+    }
+
+    @Test
+    @Order(7)
+    @SneakyThrows
+    void watchRefreshesStatsOnAppend() {
+        var file = Files.writeString(directory.resolve("log.txt"), "a\n");
+        try (var stats = IncrementalFileStats.open(file.toString())) {
+            stats.watch();
+            Files.writeString(file, "zz\n", StandardOpenOption.APPEND);
+
+            for (int i = 0; i < 100 && stats.getCharCount('z') < 2; i++) {
+                Thread.sleep(100);
+            }
+
+            assertThat(stats.getCharCount('z')).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @Order(8)
+    @SneakyThrows
+    void closedStatsCannotBeRefreshed() {
+        var file = Files.writeString(directory.resolve("log.txt"), "abc\n");
+        var stats = IncrementalFileStats.open(file.toString());
+        FileStats snapshot = stats.snapshot();
+
+        stats.close();
+
+        assertThat(snapshot.getCharCount('a')).isEqualTo(1);
+        assertThat(stats.getCharCount('a')).isEqualTo(1);
+        assertThatIllegalStateException().isThrownBy(stats::refresh);
+        assertThatIllegalStateException().isThrownBy(stats::watch);
+    }
+}
@@ -0,0 +1,108 @@
+package com.bobocode.se.benchmark;
+
+import com.bobocode.se.DirectoryStats;
+import com.bobocode.se.FileStats;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Measures how fast character statistic of a directory tree of {@code files} small files of {@code fileSizeKb}
+ * kilobytes is collected by {@link FileStats#fromDirectory(Path, String)} on all processors, against walking the tree
+ * and calling {@link FileStats#from(String)} for one file at a time.
+ * <p>
+ * Each benchmark adds the number of files and megabytes it counts to {@link Counters}, so with seconds as a time unit
+ * they read as files per second and megabytes per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class DirectoryStatsBenchmark {
+    private static final String LINE = "The quick brown fox jumps over the lazy dog, швидка бура лисиця 42\n";
+    private static final int FILES_PER_DIRECTORY = 100;
+
+    @Param({"10000"})
+    private int files;
+
+    @Param({"4"})
+    private int fileSizeKb;
+
+    private Path directory;
+    private double megabytes;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+        public long files;
+        public double megabytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            files = 0;
+            megabytes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("directory-stats");
+        var text = LINE.repeat((fileSizeKb << 10) / LINE.length() + 1).getBytes(UTF_8);
+        for (int i = 0; i < files; i++) {
+            var subdirectory = Files.createDirectories(directory.resolve(String.valueOf(i / FILES_PER_DIRECTORY)));
+            Files.write(subdirectory.resolve(i + ".txt"), text);
+        }
+        megabytes = (double) files * text.length / 1_000_000;
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (var paths = Files.walk(directory)) {
+            for (var path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public DirectoryStats fromDirectory(Counters counters) {
+        counters.files += files;
+        counters.megabytes += megabytes;
+        return FileStats.fromDirectory(directory, "*.txt", Runtime.getRuntime().availableProcessors());
+    }
+
+    @Benchmark
+    public Map<Path, FileStats> oneFileAtATime(Counters counters) throws IOException {
+        counters.files += files;
+        counters.megabytes += megabytes;
+        try (var paths = Files.walk(directory)) {
+            return paths.filter(Files::isRegularFile)
+                    .collect(Collectors.toMap(path -> path, path -> FileStats.from(path.toString()), (a, b) -> a,
+                            HashMap::new));
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.bobocode.se.benchmark;
+
+import com.bobocode.se.FileStats;
+import com.bobocode.se.IncrementalFileStats;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Measures how fast {@link FileStats} counts characters of a text file of {@code sizeMb} megabytes. It is compared
+ * to itself limited to a single thread, and to a single-threaded {@link java.io.BufferedReader} that reads the file
+ * line by line, which is how the exercise is usually solved.
+ * <p>
+ * {@link FileStatsBenchmark#refreshAppended(Bytes)} appends {@code appendedBytes} to the file and refreshes
+ * {@link IncrementalFileStats}, so its time should not depend on {@code sizeMb}. The file is truncated back after
+ * each iteration.
+ * <p>
+ * Each benchmark adds the number of bytes it counts to {@link Bytes#bytes}, so with nanoseconds as a time unit this
+ * counter reads as gigabytes per second. The file stays in the page cache between iterations, so results do not
+ * include reading from the disk.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class FileStatsBenchmark {
+    private static final String LINE = "The quick brown fox jumps over the lazy dog, швидка бура лисиця 42\n";
+
+    @Param({"64", "1024"})
+    private int sizeMb;
+
+    @Param({"4096"})
+    private int appendedBytes;
+
+    private Path directory;
+    private Path file;
+    private long fileSize;
+    private FileChannel appender;
+    private ByteBuffer appended;
+    private IncrementalFileStats incrementalStats;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Bytes {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("file-stats");
+        file = directory.resolve("text.txt");
+        long minSize = (long) sizeMb << 20;
+        try (BufferedWriter writer = Files.newBufferedWriter(file, UTF_8)) {
+            for (long written = 0; written < minSize; written += LINE.getBytes(UTF_8).length) {
+                writer.write(LINE);
+            }
+        }
+        fileSize = Files.size(file);
+        appender = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        appended = ByteBuffer.wrap(LINE.repeat(appendedBytes / LINE.length() + 1).getBytes(UTF_8), 0, appendedBytes);
+        incrementalStats = IncrementalFileStats.open(file.toString());
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() throws IOException {
+        appender.truncate(fileSize);
+        incrementalStats.refresh();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        incrementalStats.close();
+        appender.close();
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public FileStats parallel(Bytes counter) {
+        counter.bytes += fileSize;
+        return FileStats.from(file.toString(), Runtime.getRuntime().availableProcessors());
+    }
+
+    @Benchmark
+    public FileStats singleThread(Bytes counter) {
+        counter.bytes += fileSize;
+        return FileStats.from(file.toString(), 1);
+    }
+
+    @Benchmark
+    public long[] bufferedReader(Bytes counter) throws IOException {
+        counter.bytes += fileSize;
+        var counts = new long[1 << 16];
+        try (var reader = Files.newBufferedReader(file, UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                for (int i = 0; i < line.length(); i++) {
+                    char c = line.charAt(i);
+                    if (!Character.isWhitespace(c)) {
+                        counts[c]++;
+                    }
+                }
+            }
+        }
+        return counts;
+    }
+
+    @Benchmark
+    public long refreshAppended(Bytes counter) throws IOException {
+        counter.bytes += appendedBytes;
+        appender.write(appended.rewind());
+        return incrementalStats.refresh();
+    }
+}
@@ -0,0 +1,80 @@
+package com.bobocode.se.benchmark;
+
+import com.bobocode.se.FileStats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Measures how long {@link FileStats#from(String)} takes for an unchanged text file of {@code sizeKb} kilobytes that
+ * has a sidecar saved by {@link FileStats#index(String)}, against counting a copy of the file without one. Loading
+ * a sidecar should take the same time for any file size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class FileStatsIndexBenchmark {
+    private static final String LINE = "The quick brown fox jumps over the lazy dog, швидка бура лисиця 42\n";
+
+    @Param({"64", "65536"})
+    private int sizeKb;
+
+    private Path directory;
+    private Path indexedFile;
+    private Path plainFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("file-stats-index");
+        indexedFile = directory.resolve("indexed.txt");
+        plainFile = directory.resolve("plain.txt");
+        long minSize = (long) sizeKb << 10;
+        try (BufferedWriter writer = Files.newBufferedWriter(indexedFile, UTF_8)) {
+            for (long written = 0; written < minSize; written += LINE.getBytes(UTF_8).length) {
+                writer.write(LINE);
+            }
+        }
+        Files.copy(indexedFile, plainFile);
+        FileStats.index(indexedFile.toString());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (var files = Files.list(directory)) {
+            for (var file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public FileStats loadIndex() {
+        return FileStats.from(indexedFile.toString());
+    }
+
+    @Benchmark
+    public FileStats count() {
+        return FileStats.from(plainFile.toString());
+    }
+}
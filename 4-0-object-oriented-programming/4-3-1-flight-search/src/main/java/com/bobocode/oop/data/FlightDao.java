@@ -1,19 +1,43 @@
 package com.bobocode.oop.data;
 
-import com.bobocode.util.ExerciseNotCompletedException;
+import com.bobocode.oop.service.Flights;
 
-import java.util.HashSet;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
- * {@link FlightDao} represents a Data Access Object (DAO) for flights. The implementation is simplified, so it just
- * uses {@link HashSet} to store flight numbers.
+ * {@link FlightDao} represents a Data Access Object (DAO) for flights. It is thread-safe, positions of flight numbers
+ * are stored in a concurrent map, so a duplicate is rejected in constant time without locking.
  * <p>
- * todo: 1. Implement a method {@link FlightDao#register(String)} that store new flight number into the set
- * todo: 2. Implement a method {@link FlightDao#findAll()} that returns a set of all flight numbers
+ * Each registered flight number is added to a {@link FlightNumberIndex}, so searching by a substring checks only
+ * flight numbers that have all its grams instead of every stored one.
+ * <p>
+ * New flight numbers are appended to a log under a lock, and each {@link FlightDao#register(String)} or
+ * {@link FlightDao#registerAll(Collection)} publishes an immutable snapshot of the log. A snapshot is a view of the
+ * first flight numbers of the log, since they are never changed, so publishing it takes constant time, and
+ * {@link FlightDao#findAll()} only reads the latest one.
  */
-public class FlightDao {
-    private Set<String> flights = new HashSet<>();
+public class FlightDao implements Flights {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<String, Integer> positions = new ConcurrentHashMap<>();
+    private final FlightNumberIndex index = new FlightNumberIndex();
+    /**
+     * Flight numbers in the order of registration, guarded by this DAO
+     */
+    private String[] log = new String[INITIAL_CAPACITY];
+    private int size;
+    private volatile Snapshot snapshot = new Snapshot(log, 0, positions);
 
     /**
      * Stores a new flight number
@@ -21,17 +45,137 @@ public class FlightDao {
      * @param flightNumber a flight number to store
      * @return {@code true} if a flight number was stored, {@code false} otherwise
      */
+    @Override
     public boolean register(String flightNumber) {
-        throw new ExerciseNotCompletedException();// todo: implement this method
+        Objects.requireNonNull(flightNumber);
+        if (positions.containsKey(flightNumber)) {
+            return false;
+        }
+        synchronized (this) {
+            if (!append(flightNumber)) {
+                return false;
+            }
+            publish();
+        }
+        index.add(flightNumber);
+        return true;
     }
 
     /**
-     * Returns all stored flight numbers
+     * Stores all new flight numbers of a collection. A snapshot is published once for the whole collection.
      *
-     * @return a set of flight numbers
+     * @param flightNumbers flight numbers to store
+     * @return the number of stored flight numbers, which excludes the ones that were already stored
+     * @throws NullPointerException if the collection or any of its flight numbers is null, nothing is stored then
      */
+    @Override
+    public int registerAll(Collection<String> flightNumbers) {
+        flightNumbers.forEach(Objects::requireNonNull);
+        var registered = new ArrayList<String>();
+        synchronized (this) {
+            for (var flightNumber : flightNumbers) {
+                if (append(flightNumber)) {
+                    registered.add(flightNumber);
+                }
+            }
+            if (!registered.isEmpty()) {
+                publish();
+            }
+        }
+        registered.forEach(index::add);
+        return registered.size();
+    }
+
+    /**
+     * Returns all stored flight numbers. A snapshot includes all flight numbers registered before the call, and it
+     * does not change after it.
+     *
+     * @return an immutable set of flight numbers
+     */
+    @Override
     public Set<String> findAll() {
-        throw new ExerciseNotCompletedException();// todo: implement this method
+        return snapshot;
     }
 
+    /**
+     * Returns stored flight numbers that contain a provided query using the index
+     *
+     * @param query a substring of a flight number
+     * @return a list of found flight numbers in natural order
+     */
+    @Override
+    public List<String> findAllContaining(String query) {
+        Objects.requireNonNull(query);
+        if (query.isEmpty()) {
+            return findAll().stream().sorted().collect(Collectors.toList());
+        }
+        return index.find(query);
+    }
+
+    /**
+     * Appends a flight number to the log, unless it is already stored. It is called while holding the lock.
+     */
+    private boolean append(String flightNumber) {
+        if (positions.containsKey(flightNumber)) {
+            return false;
+        }
+        if (size == log.length) {
+            log = Arrays.copyOf(log, size << 1);
+        }
+        log[size] = flightNumber;
+        positions.put(flightNumber, size++);
+        return true;
+    }
+
+    private void publish() {
+        snapshot = new Snapshot(log, size, positions);
+    }
+
+    /**
+     * An immutable view of the first flight numbers of the log. A position of a flight number is never changed, so a
+     * flight number belongs to the snapshot if its position is less than the size of the snapshot. The log may be
+     * replaced by a larger copy later, but the snapshot keeps the array it was created with.
+     */
+    private static class Snapshot extends AbstractSet<String> {
+        private final String[] log;
+        private final int size;
+        private final Map<String, Integer> positions;
+
+        Snapshot(String[] log, int size, Map<String, Integer> positions) {
+            this.log = log;
+            this.size = size;
+            this.positions = positions;
+        }
+
+        @Override
+        public boolean contains(Object flightNumber) {
+            var position = positions.get(flightNumber);
+            return Objects.nonNull(position) && position < size;
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            return new Iterator<>() {
+                private int next;
+
+                @Override
+                public boolean hasNext() {
+                    return next < size;
+                }
+
+                @Override
+                public String next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return log[next++];
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
 }
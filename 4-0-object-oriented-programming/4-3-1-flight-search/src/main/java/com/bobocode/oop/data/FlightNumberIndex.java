@@ -0,0 +1,94 @@
+package com.bobocode.oop.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link FlightNumberIndex} is an n-gram index of flight numbers. Each substring of one to three characters of a
+ * flight number (a gram) has a posting list of flight numbers that contain it, in the order they were added.
+ * <p>
+ * A query of up to three characters is a gram itself, so its posting list is the answer. A longer query is contained
+ * only in flight numbers that contain each of its trigrams, so only flight numbers of the shortest posting list among
+ * them are checked. Found flight numbers are sorted, so the order does not depend on the order of adding.
+ * <p>
+ * The index is thread-safe. Each posting list is guarded by its own lock, so threads that add flight numbers without
+ * common grams do not wait for each other, and a search holds a lock only to copy a posting list.
+ */
+final class FlightNumberIndex {
+    static final int MAX_GRAM_LENGTH = 3;
+
+    private final Map<String, List<String>> postings = new ConcurrentHashMap<>();
+
+    /**
+     * Adds a flight number to posting lists of all its grams. A flight number should be added only once.
+     */
+    void add(String flightNumber) {
+        var grams = new HashSet<String>();
+        for (int length = 1; length <= MAX_GRAM_LENGTH; length++) {
+            for (int i = 0; i + length <= flightNumber.length(); i++) {
+                grams.add(flightNumber.substring(i, i + length));
+            }
+        }
+        for (var gram : grams) {
+            var posting = postings.computeIfAbsent(gram, key -> new ArrayList<>());
+            synchronized (posting) {
+                posting.add(flightNumber);
+            }
+        }
+    }
+
+    /**
+     * Finds flight numbers that contain a non-empty query
+     *
+     * @return found flight numbers in natural order
+     */
+    List<String> find(String query) {
+        List<String> found;
+        if (query.length() <= MAX_GRAM_LENGTH) {
+            found = copy(postings.get(query));
+        } else {
+            found = new ArrayList<>();
+            for (var flightNumber : copy(shortestPosting(query))) {
+                if (flightNumber.contains(query)) {
+                    found.add(flightNumber);
+                }
+            }
+        }
+        Collections.sort(found);
+        return found;
+    }
+
+    private List<String> shortestPosting(String query) {
+        List<String> shortest = null;
+        int shortestSize = 0;
+        for (int i = 0; i + MAX_GRAM_LENGTH <= query.length(); i++) {
+            var posting = postings.get(query.substring(i, i + MAX_GRAM_LENGTH));
+            if (Objects.isNull(posting)) {
+                return null;
+            }
+            int size;
+            synchronized (posting) {
+                size = posting.size();
+            }
+            if (Objects.isNull(shortest) || size < shortestSize) {
+                shortest = posting;
+                shortestSize = size;
+            }
+        }
+        return shortest;
+    }
+
+    private static List<String> copy(List<String> posting) {
+        if (Objects.isNull(posting)) {
+            return new ArrayList<>();
+        }
+        synchronized (posting) {
+            return new ArrayList<>(posting);
+        }
+    }
+}
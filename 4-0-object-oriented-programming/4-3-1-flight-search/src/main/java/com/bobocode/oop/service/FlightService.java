@@ -1,16 +1,17 @@
 package com.bobocode.oop.service;
 
-import com.bobocode.util.ExerciseNotCompletedException;
-
 import java.util.List;
 
 /**
- * {@link FlightService} provides an API that allows to manage flight numbers
- * <p>
- * todo: 1. Using {@link com.bobocode.oop.data.FlightDao} implement method {@link FlightService#registerFlight(String)}
- * todo: 2. Using {@link com.bobocode.oop.data.FlightDao} implement method {@link FlightService#searchFlights(String)}
+ * {@link FlightService} provides an API that allows to manage flight numbers. It stores them using {@link Flights},
+ * so it does not depend on a particular data access implementation.
  */
 public class FlightService {
+    private final Flights flights;
+
+    public FlightService(Flights flights) {
+        this.flights = flights;
+    }
 
     /**
      * Adds a new flight number
@@ -19,16 +20,16 @@ public class FlightService {
      * @return {@code true} if a flight number was added, {@code false} otherwise
      */
     public boolean registerFlight(String flightNumber) {
-        throw new ExerciseNotCompletedException();
+        return flights.register(flightNumber);
     }
 
     /**
      * Returns all flight numbers that contains a provided key.
      *
      * @param query a search query
-     * @return a list of found flight numbers
+     * @return a list of found flight numbers in natural order
      */
     public List<String> searchFlights(String query) {
-        throw new ExerciseNotCompletedException();
+        return flights.findAllContaining(query);
     }
 }
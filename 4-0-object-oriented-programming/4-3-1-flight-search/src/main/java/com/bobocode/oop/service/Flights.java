@@ -0,0 +1,59 @@
+package com.bobocode.oop.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * {@link Flights} is a storage of flight numbers that {@link FlightService} depends on. It belongs to the service
+ * layer, so the data access layer depends on the service and not vice versa.
+ */
+public interface Flights {
+    /**
+     * Stores a new flight number
+     *
+     * @param flightNumber a flight number to store
+     * @return {@code true} if a flight number was stored, {@code false} if it is already stored
+     */
+    boolean register(String flightNumber);
+
+    /**
+     * Stores all new flight numbers of a collection
+     *
+     * @param flightNumbers flight numbers to store
+     * @return the number of stored flight numbers, which excludes the ones that were already stored
+     */
+    default int registerAll(Collection<String> flightNumbers) {
+        int registered = 0;
+        for (var flightNumber : flightNumbers) {
+            if (register(flightNumber)) {
+                registered++;
+            }
+        }
+        return registered;
+    }
+
+    /**
+     * Returns all stored flight numbers
+     *
+     * @return a set of flight numbers
+     */
+    Set<String> findAll();
+
+    /**
+     * Returns stored flight numbers that contain a provided query. By default, it checks all flight numbers, which
+     * an implementation may speed up with an index.
+     *
+     * @param query a substring of a flight number
+     * @return a list of found flight numbers in natural order
+     */
+    default List<String> findAllContaining(String query) {
+        Objects.requireNonNull(query);
+        return findAll().stream()
+                .filter(flightNumber -> flightNumber.contains(query))
+                .sorted()
+                .collect(Collectors.toList());
+    }
+}
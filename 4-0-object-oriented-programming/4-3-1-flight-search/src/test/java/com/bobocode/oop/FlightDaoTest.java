@@ -0,0 +1,94 @@
+package com.bobocode.oop;
+
+import com.bobocode.oop.data.FlightDao;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FlightDaoTest {
+
+    private FlightDao flightDao = new FlightDao();
+
+    @Test
+    public void testRegisterAll() {
+        flightDao.register("OL234");
+
+        int registered = flightDao.registerAll(List.of("OL234", "KM23234", "LTE114", "KM23234"));
+
+        assertEquals(2, registered);
+        assertEquals(Set.of("OL234", "KM23234", "LTE114"), flightDao.findAll());
+        assertEquals(List.of("KM23234"), flightDao.findAllContaining("M23"));
+    }
+
+    @Test
+    public void testRegisterAllWithNullFlightNumber() {
+        assertThrows(NullPointerException.class, () -> flightDao.registerAll(Arrays.asList("OL234", null)));
+        assertThrows(NullPointerException.class, () -> flightDao.register(null));
+
+        assertTrue(flightDao.findAll().isEmpty());
+    }
+
+    @Test
+    public void testFindAllReturnsImmutableSnapshot() {
+        flightDao.register("OL234");
+
+        Set<String> snapshot = flightDao.findAll();
+        flightDao.register("BRT14");
+
+        assertEquals(Set.of("OL234"), snapshot);
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add("KM23234"));
+        assertEquals(Set.of("OL234", "BRT14"), flightDao.findAll());
+        assertSame(flightDao.findAll(), flightDao.findAll());
+    }
+
+    @Test
+    public void testConcurrentRegister() throws Exception {
+        int threads = 4;
+        int flightsPerThread = 10_000;
+        var executor = Executors.newFixedThreadPool(threads);
+        try {
+            var tasks = new ArrayList<Callable<Integer>>();
+            for (int t = 0; t < threads; t++) {
+                int offset = t * flightsPerThread / 2;
+                tasks.add(() -> {
+                    int registered = 0;
+                    for (int i = offset; i < offset + flightsPerThread; i++) {
+                        if (flightDao.register("FL" + i)) {
+                            registered++;
+                        }
+                        if (i % 1000 == 0) {
+                            Thread.yield();
+                        }
+                    }
+                    return registered;
+                });
+            }
+            int registered = 0;
+            for (Future<Integer> result : executor.invokeAll(tasks)) {
+                registered += result.get();
+            }
+
+            int distinctFlights = (threads + 1) * flightsPerThread / 2;
+            assertEquals(distinctFlights, registered);
+            assertEquals(distinctFlights, flightDao.findAll().size());
+            assertEquals(IntStream.range(0, distinctFlights)
+                            .mapToObj(i -> "FL" + i)
+                            .filter(flightNumber -> flightNumber.contains("123"))
+                            .sorted()
+                            .collect(Collectors.toList()),
+                    flightDao.findAllContaining("123"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
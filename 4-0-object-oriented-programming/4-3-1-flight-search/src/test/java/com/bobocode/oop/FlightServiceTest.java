@@ -4,7 +4,10 @@ import com.bobocode.oop.factory.FlightServiceFactory;
 import com.bobocode.oop.service.FlightService;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -62,4 +65,59 @@ public class FlightServiceTest {
         assertTrue(foundFlights.contains("RLR198"));
         assertEquals(3, foundFlights.size());
     }
+
+    @Test
+    public void testSearchFlightsReturnsSortedFlights() {
+        flightService.registerFlight("ZR1214");
+        flightService.registerFlight("AR1");
+        flightService.registerFlight("MR1198");
+
+        List<String> foundFlights = flightService.searchFlights("R1");
+
+        assertEquals(List.of("AR1", "MR1198", "ZR1214"), foundFlights);
+    }
+
+    @Test
+    public void testSearchFlightsByLongQuery() {
+        flightService.registerFlight("KM23234");
+        flightService.registerFlight("KM32342");
+        flightService.registerFlight("AA2342");
+        flightService.registerFlight("AAAA");
+
+        assertEquals(List.of("AA2342", "KM32342"), flightService.searchFlights("2342"));
+        assertEquals(List.of("KM23234"), flightService.searchFlights("M2323"));
+        assertEquals(List.of("AAAA"), flightService.searchFlights("AAAA"));
+        assertEquals(List.of(), flightService.searchFlights("AAAAA"));
+    }
+
+    @Test
+    public void testSearchFlightsByEmptyQuery() {
+        flightService.registerFlight("OL234");
+        flightService.registerFlight("BRT14");
+
+        List<String> foundFlights = flightService.searchFlights("");
+
+        assertEquals(List.of("BRT14", "OL234"), foundFlights);
+    }
+
+    @Test
+    public void testSearchFlightsMatchesLinearScan() {
+        var random = new Random(42);
+        var flights = new ArrayList<String>();
+        for (int i = 0; i < 1000; i++) {
+            var flightNumber = "" + (char) ('A' + random.nextInt(4)) + (char) ('A' + random.nextInt(4))
+                    + random.nextInt(10_000);
+            flightService.registerFlight(flightNumber);
+            flights.add(flightNumber);
+        }
+
+        for (var query : List.of("A", "AB", "B1", "C12", "1234", "BA99", "D")) {
+            var expectedFlights = flights.stream()
+                    .filter(flightNumber -> flightNumber.contains(query))
+                    .distinct()
+                    .sorted()
+                    .collect(Collectors.toList());
+            assertEquals(expectedFlights, flightService.searchFlights(query));
+        }
+    }
 }
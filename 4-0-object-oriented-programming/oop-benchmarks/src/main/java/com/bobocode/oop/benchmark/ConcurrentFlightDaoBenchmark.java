@@ -0,0 +1,97 @@
+package com.bobocode.oop.benchmark;
+
+import com.bobocode.oop.data.FlightDao;
+import com.bobocode.oop.service.Flights;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Measures throughput of threads that share {@link FlightDao} against a synchronized {@link HashSet} that copies all
+ * flight numbers under the lock on each {@code findAll()}. Each operation registers a random flight number with
+ * {@code writePercent} probability and reads all flight numbers otherwise. {@link FlightDao} publishes an immutable
+ * snapshot on each register without copying flight numbers, so its {@code findAll()} is a single volatile read.
+ * <p>
+ * Flights are refilled with {@code size} flight numbers before each iteration. The number of threads is set by
+ * {@code -t}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ConcurrentFlightDaoBenchmark {
+    @Param({"FlightDao", "SynchronizedFlights"})
+    private String impl;
+
+    @Param({"1", "10"})
+    private int writePercent;
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private Set<String> flightNumbers;
+    private Flights flights;
+
+    @Setup
+    public void setUp() {
+        flightNumbers = IntStream.range(0, size)
+                .mapToObj(i -> "FL" + i)
+                .collect(Collectors.toSet());
+    }
+
+    @Setup(Level.Iteration)
+    public void fillFlights() {
+        switch (impl) {
+            case "FlightDao":
+                flights = new FlightDao();
+                break;
+            case "SynchronizedFlights":
+                flights = new SynchronizedFlights();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + impl);
+        }
+        flights.registerAll(flightNumbers);
+    }
+
+    @Benchmark
+    public int readWrite() {
+        var random = ThreadLocalRandom.current();
+        if (random.nextInt(100) < writePercent) {
+            return flights.register("FL" + random.nextInt(Integer.MAX_VALUE)) ? 1 : 0;
+        }
+        return flights.findAll().size();
+    }
+
+    private static class SynchronizedFlights implements Flights {
+        private final Set<String> flights = new HashSet<>();
+
+        @Override
+        public synchronized boolean register(String flightNumber) {
+            return flights.add(flightNumber);
+        }
+
+        @Override
+        public synchronized Set<String> findAll() {
+            return Set.copyOf(flights);
+        }
+    }
+}
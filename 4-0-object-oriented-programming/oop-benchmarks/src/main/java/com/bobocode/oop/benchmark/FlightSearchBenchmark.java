@@ -0,0 +1,117 @@
+package com.bobocode.oop.benchmark;
+
+import com.bobocode.oop.data.FlightDao;
+import com.bobocode.oop.service.FlightService;
+import com.bobocode.oop.service.Flights;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link FlightService#searchFlights(String)} over {@code size} flight numbers like {@code "KM2342"} with
+ * the n-gram index of {@link FlightDao} against a linear scan of all flight numbers, which is the default of
+ * {@link Flights}. A query is a random substring of {@code queryLength} characters of a random flight number, so it
+ * always finds at least one flight. {@link FlightSearchBenchmark#register()} measures the cost of keeping the index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class FlightSearchBenchmark {
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param({"2", "5"})
+    private int queryLength;
+
+    @Param({"FlightDao", "LinearScan"})
+    private String impl;
+
+    private String[] flightNumbers;
+    private FlightService flightService;
+    private FlightService emptyFlightService;
+    private int registered;
+
+    @Setup
+    public void setUp() {
+        var random = new Random(42);
+        flightNumbers = new String[size];
+        for (int i = 0; i < size; i++) {
+            flightNumbers[i] = "" + (char) ('A' + random.nextInt(26)) + (char) ('A' + random.nextInt(26))
+                    + (1000 + random.nextInt(9000));
+        }
+        flightService = new FlightService(flights());
+        for (var flightNumber : flightNumbers) {
+            flightService.registerFlight(flightNumber);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        emptyFlightService = new FlightService(flights());
+        registered = 0;
+    }
+
+    @Benchmark
+    public List<String> search() {
+        var random = ThreadLocalRandom.current();
+        var flightNumber = flightNumbers[random.nextInt(size)];
+        int from = random.nextInt(flightNumber.length() - queryLength + 1);
+        return flightService.searchFlights(flightNumber.substring(from, from + queryLength));
+    }
+
+    /**
+     * Registers flight numbers into a new service, which is replaced after registering all of them
+     */
+    @Benchmark
+    public boolean register() {
+        if (registered == size) {
+            emptyFlightService = new FlightService(flights());
+            registered = 0;
+        }
+        return emptyFlightService.registerFlight(flightNumbers[registered++]);
+    }
+
+    private Flights flights() {
+        switch (impl) {
+            case "FlightDao":
+                return new FlightDao();
+            case "LinearScan":
+                return new LinearScanFlights();
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + impl);
+        }
+    }
+
+    private static class LinearScanFlights implements Flights {
+        private final Set<String> flights = new HashSet<>();
+
+        @Override
+        public boolean register(String flightNumber) {
+            return flights.add(flightNumber);
+        }
+
+        @Override
+        public Set<String> findAll() {
+            return flights;
+        }
+    }
+}